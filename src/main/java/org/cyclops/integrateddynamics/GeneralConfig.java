@@ -50,6 +50,12 @@ public class GeneralConfig extends DummyConfig {
     @ConfigurableProperty(category = ConfigurableTypeCategory.GENERAL, comment = "The maximum render distance for part overlays to render. The higher, the more resource intensive.", isCommandable = true, minimalValue = 1)
     public static int partOverlayRenderdistance = 15;
 
+    /**
+     * The maximum number of display panel layouts that are recalculated per frame for panels that are further away than half the overlay render distance, 0 is unlimited.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.GENERAL, comment = "The maximum number of display panel layouts that are recalculated per frame for panels that are further away than half the overlay render distance, 0 is unlimited.", isCommandable = true, minimalValue = 0)
+    public static int displayPanelLayoutBudget = 0;
+
     /**
      * The chance at which a Menril Tree will spawn in the wild, the higher, the lower the chance.
      */
@@ -67,6 +73,42 @@ public class GeneralConfig extends DummyConfig {
      */
     @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The maximum network energy transfer rate.", isCommandable = true, minimalValue = 0)
     public static int energyRateLimit = Integer.MAX_VALUE;
+
+    /**
+     * If redstone and light output changes should be collected and applied once at the end of each network tick.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If redstone and light output changes should be collected and applied once at the end of each network tick.", isCommandable = true)
+    public static boolean batchOutputUpdates = true;
+
+    /**
+     * If network topologies should be saved in region shard files that are only rewritten when changed, instead of in the world data.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If network topologies should be saved in region shard files that are only rewritten when changed, instead of in the world data.")
+    public static boolean shardedNetworkStorage = true;
+
+    /**
+     * If network parts in unloaded chunks should only be attached to their network once their chunk is loaded, instead of at server start.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If network parts in unloaded chunks should only be attached to their network once their chunk is loaded, instead of at server start.")
+    public static boolean deferredNetworkLoading = true;
+
+    /**
+     * The maximum number of cached results of pure operators, 0 disables the cache.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The maximum number of cached results of pure operators, 0 disables the cache.", isCommandable = true, minimalValue = 0)
+    public static int operatorResultCacheSize = 4096;
+
+    /**
+     * The number of distinct look targets that are looked up in a tick after which the targets of all players are calculated at once in the next tick.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The number of distinct look targets that are looked up in a tick after which the targets of all players are calculated at once in the next tick.", isCommandable = true, minimalValue = 1)
+    public static int lookTargetBatchThreshold = 16;
+
+    /**
+     * The maximum number of networks of which the initial diagnostics state is sent to a player per tick.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The maximum number of networks of which the initial diagnostics state is sent to a player per tick.", isCommandable = true, minimalValue = 1)
+    public static int diagnosticsNetworksPerTick = 8;
     
     /**
      * Create a new instance.
@@ -48,7 +48,9 @@ import org.cyclops.integrateddynamics.client.render.valuetype.ValueTypeWorldRend
 import org.cyclops.integrateddynamics.client.render.valuetype.ValueTypeWorldRenderers;
 import org.cyclops.integrateddynamics.command.CommandCrash;
 import org.cyclops.integrateddynamics.command.CommandNetworkDiagnostics;
+import org.cyclops.integrateddynamics.command.CommandOperatorCache;
 import org.cyclops.integrateddynamics.command.CommandTest;
+import org.cyclops.integrateddynamics.core.BlockChangeNotifier;
 import org.cyclops.integrateddynamics.core.NoteBlockEventReceiver;
 import org.cyclops.integrateddynamics.core.TickHandler;
 import org.cyclops.integrateddynamics.core.client.gui.ExtendedGuiHandler;
@@ -61,8 +63,11 @@ import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
 import org.cyclops.integrateddynamics.core.evaluate.variable.*;
 import org.cyclops.integrateddynamics.core.item.ItemBlockEnergyContainer;
 import org.cyclops.integrateddynamics.core.item.VariableFacadeHandlerRegistry;
+import org.cyclops.integrateddynamics.core.logicprogrammer.LogicProgrammerElementIndexReloader;
 import org.cyclops.integrateddynamics.core.logicprogrammer.LogicProgrammerElementTypeRegistry;
 import org.cyclops.integrateddynamics.core.logicprogrammer.LogicProgrammerElementTypes;
+import org.cyclops.integrateddynamics.core.network.DeferredNetworkLoader;
+import org.cyclops.integrateddynamics.core.network.NetworkChunkTracker;
 import org.cyclops.integrateddynamics.core.part.PartTypeRegistry;
 import org.cyclops.integrateddynamics.core.part.PartTypes;
 import org.cyclops.integrateddynamics.core.part.aspect.AspectRegistry;
@@ -169,6 +174,7 @@ public class IntegratedDynamics extends ModBaseVersionable {
         }
         commands.put(CommandNetworkDiagnostics.NAME, new CommandNetworkDiagnostics(this));
         commands.put(CommandCrash.NAME, new CommandCrash(this));
+        commands.put(CommandOperatorCache.NAME, new CommandOperatorCache(this));
         return new CommandMod(this, commands);
     }
 
@@ -251,6 +257,9 @@ public class IntegratedDynamics extends ModBaseVersionable {
 
         MinecraftForge.EVENT_BUS.register(TickHandler.getInstance());
         MinecraftForge.EVENT_BUS.register(NoteBlockEventReceiver.getInstance());
+        MinecraftForge.EVENT_BUS.register(BlockChangeNotifier.getInstance());
+        MinecraftForge.EVENT_BUS.register(DeferredNetworkLoader.getInstance());
+        MinecraftForge.EVENT_BUS.register(NetworkChunkTracker.getInstance());
         MinecraftForge.EVENT_BUS.register(new NetworkCapabilityConstructors());
     }
 
@@ -273,6 +282,11 @@ public class IntegratedDynamics extends ModBaseVersionable {
         // Initialize info book
         getRegistryManager().getRegistry(IInfoBookRegistry.class).registerInfoBook(
                 OnTheDynamicsOfIntegrationBook.getInstance(), "/assets/" + Reference.MOD_ID + "/info/on_the_dynamics_of_integration.xml");
+
+        // Build the logic programmer search index once all element types are known
+        if(MinecraftHelpers.isClientSide()) {
+            LogicProgrammerElementIndexReloader.register();
+        }
     }
 
     @Mod.EventHandler
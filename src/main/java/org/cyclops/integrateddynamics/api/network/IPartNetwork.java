@@ -10,6 +10,8 @@ import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
 
+import java.util.Collection;
+
 /**
  * A network capability that can hold parts.
  * Note that this network only contains references to the relevant data, it does not contain the actual information.
@@ -99,6 +101,15 @@ public interface IPartNetwork extends ILazyExpressionValueCache {
      */
     public void removeVariableContainer(DimPos dimPos);
 
+    /**
+     * Update the variables that are available in this network after the contents of a variable container changed.
+     * @param dimPos The variable container position.
+     * @param removedVariables The variable facades that were removed from the container.
+     * @param addedVariables The variable facades that were added to the container.
+     */
+    public void updateVariableContainer(DimPos dimPos, Collection<IVariableFacade> removedVariables,
+                                        Collection<IVariableFacade> addedVariables);
+
     /**
      * Add the given proxy to the network.
      * @param proxyId The id of the proxy.
@@ -0,0 +1,17 @@
+package org.cyclops.integrateddynamics.api.network;
+
+import org.cyclops.cyclopscore.datastructure.DimPos;
+
+/**
+ * Network elements that live at a single position.
+ * Networks will not update these elements while the chunk of this position is unloaded.
+ * @author rubensworks
+ */
+public interface IPositionedNetworkElement extends INetworkElement {
+
+    /**
+     * @return The position of this element, which must not change.
+     */
+    public DimPos getPosition();
+
+}
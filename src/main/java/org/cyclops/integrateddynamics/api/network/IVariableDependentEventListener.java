@@ -0,0 +1,22 @@
+package org.cyclops.integrateddynamics.api.network;
+
+import org.cyclops.integrateddynamics.api.item.IVariableFacade;
+
+import javax.annotation.Nullable;
+
+/**
+ * A network event listener that only needs to receive variable content updates
+ * for the variables that are referenced by the variable facade of its network element.
+ * Listeners that do not implement this interface will receive all variable content updates.
+ * @param <E> The type of network element.
+ * @author rubensworks
+ */
+public interface IVariableDependentEventListener<E> extends INetworkEventListener<E> {
+
+    /**
+     * @param networkElement The network element.
+     * @return The variable facade that is used by the given element, or null if it has none.
+     */
+    public @Nullable IVariableFacade getVariableFacade(E networkElement);
+
+}
@@ -3,6 +3,7 @@ package org.cyclops.integrateddynamics.api.network.event;
 import org.cyclops.integrateddynamics.api.network.IEventListenableNetworkElement;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.part.PartPos;
 
 /**
  * An event bus for {@link INetwork} events where
@@ -31,6 +32,13 @@ public interface INetworkEventBus {
      */
     public void unregister(IEventListenableNetworkElement<?> target);
 
+    /**
+     * Indicate that the variables the part at the given position depends on may have changed,
+     * for example because its variable card was replaced.
+     * @param pos The center position of the part of which the variable dependencies should be recalculated.
+     */
+    public void invalidateVariableDependencies(PartPos pos);
+
     /**
      * Post the given event to the events bus.
      * @param event The event to post.
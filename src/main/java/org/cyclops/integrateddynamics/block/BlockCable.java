@@ -48,9 +48,11 @@ import org.cyclops.integrateddynamics.block.collidable.CollidableComponentFacade
 import org.cyclops.integrateddynamics.block.collidable.CollidableComponentParts;
 import org.cyclops.integrateddynamics.capability.dynamiclight.DynamicLightConfig;
 import org.cyclops.integrateddynamics.capability.dynamicredstone.DynamicRedstoneConfig;
+import org.cyclops.integrateddynamics.capability.facadeable.FacadeableConfig;
 import org.cyclops.integrateddynamics.client.model.CableModel;
 import org.cyclops.integrateddynamics.client.model.IRenderState;
 import org.cyclops.integrateddynamics.core.block.CollidableComponent;
+import org.cyclops.integrateddynamics.core.block.CollidableShapeKey;
 import org.cyclops.integrateddynamics.core.block.ICollidable;
 import org.cyclops.integrateddynamics.core.block.ICollidableParent;
 import org.cyclops.integrateddynamics.core.helper.CableHelpers;
@@ -381,6 +383,33 @@ public class BlockCable extends ConfigurableBlockContainer implements ICollidabl
         return super.rayTrace(pos, start, end, boundingBox);
     }
 
+    @Override
+    public Object getCollisionShapeKey(World world, BlockPos pos) {
+        TileMultipartTicking tile = TileHelpers.getSafeTile(world, pos, TileMultipartTicking.class);
+        if (tile == null) {
+            return null;
+        }
+        // Bit 0: real cable, bit 1: facade, bits 2-7: connections, bits 8-13: parts
+        int mask = 0;
+        if (tile.getCableFakeable().isRealCable()) {
+            mask |= 1;
+        }
+        if (tile.getCapability(FacadeableConfig.CAPABILITY, null).hasFacade()) {
+            mask |= 1 << 1;
+        }
+        PartRenderPosition[] partRenderPositions = new PartRenderPosition[EnumFacing.VALUES.length];
+        for (EnumFacing side : EnumFacing.VALUES) {
+            if (tile.getCable().isConnected(side)) {
+                mask |= 1 << (2 + side.ordinal());
+            }
+            if (tile.getPartContainer().hasPart(side)) {
+                mask |= 1 << (8 + side.ordinal());
+                partRenderPositions[side.ordinal()] = tile.getPartContainer().getPart(side).getPartRenderPosition();
+            }
+        }
+        return new CollidableShapeKey(mask, partRenderPositions);
+    }
+
     /* --------------- Start IDynamicRedstone --------------- */
 
     @SuppressWarnings("deprecation")
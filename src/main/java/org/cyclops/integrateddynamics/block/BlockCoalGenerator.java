@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.block;
 
+import net.minecraft.block.Block;
 import net.minecraft.block.properties.PropertyBool;
 import net.minecraft.block.properties.PropertyDirection;
 import net.minecraft.block.state.IBlockState;
@@ -55,6 +56,16 @@ public class BlockCoalGenerator extends BlockContainerGuiCabled {
         TileHelpers.getSafeTile(world, pos, TileCoalGenerator.class).updateBlockState();
     }
 
+    @SuppressWarnings("deprecation")
+    @Override
+    public void neighborChanged(IBlockState state, World world, BlockPos pos, Block neighborBlock) {
+        super.neighborChanged(state, world, pos, neighborBlock);
+        TileCoalGenerator tile = TileHelpers.getSafeTile(world, pos, TileCoalGenerator.class);
+        if (tile != null) {
+            tile.invalidateNeighbourEnergyStorages();
+        }
+    }
+
     @Override
     public Class<? extends Container> getContainer() {
         return ContainerCoalGenerator.class;
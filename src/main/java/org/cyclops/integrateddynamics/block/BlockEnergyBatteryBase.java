@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.block;
 
+import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.item.ItemStack;
@@ -33,6 +34,16 @@ public abstract class BlockEnergyBatteryBase extends BlockContainerCabled implem
         TileHelpers.getSafeTile(world, pos, TileEnergyBattery.class).updateBlockState();
     }
 
+    @SuppressWarnings("deprecation")
+    @Override
+    public void neighborChanged(IBlockState state, World world, BlockPos pos, Block neighborBlock) {
+        super.neighborChanged(state, world, pos, neighborBlock);
+        TileEnergyBattery tile = TileHelpers.getSafeTile(world, pos, TileEnergyBattery.class);
+        if (tile != null) {
+            tile.invalidateNeighbourEnergyStorages();
+        }
+    }
+
     @Override
     public BlockRenderLayer getBlockLayer() {
         return BlockRenderLayer.CUTOUT_MIPPED;
@@ -30,6 +30,12 @@ public class BlockEnergyBatteryConfig extends BlockContainerConfig {
     @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "How much energy per tick it emits when activated.", isCommandable = true, minimalValue = 0)
     public static int energyPerTick = 2000;
 
+    /**
+     * The maximum number of ticks between marking batteries with changed energy for saving.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "The maximum number of ticks between marking batteries with changed energy for saving, fill level changes are always marked immediately.", isCommandable = true, minimalValue = 1)
+    public static int energyDirtyInterval = 20;
+
     /**
      * The maximum capacity possible by combining batteries.
      */
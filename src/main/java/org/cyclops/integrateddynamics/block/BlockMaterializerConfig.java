@@ -1,5 +1,7 @@
 package org.cyclops.integrateddynamics.block;
 
+import org.cyclops.cyclopscore.config.ConfigurableProperty;
+import org.cyclops.cyclopscore.config.ConfigurableTypeCategory;
 import org.cyclops.cyclopscore.config.extendedconfig.BlockContainerConfig;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 
@@ -14,6 +16,12 @@ public class BlockMaterializerConfig extends BlockContainerConfig {
      */
     public static BlockMaterializerConfig _instance;
 
+    /**
+     * The maximum size in bytes of materialized values.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "The maximum size in bytes of materialized values, clients can not receive items larger than 2097152 bytes.", isCommandable = true, minimalValue = 0)
+    public static int maxValueSize = 2000000;
+
     /**
      * Make a new instance.
      */
@@ -1,7 +1,11 @@
 package org.cyclops.integrateddynamics.client.gui;
 
 import net.minecraft.entity.player.InventoryPlayer;
+import org.cyclops.cyclopscore.helper.Helpers;
+import org.cyclops.cyclopscore.helper.L10NHelpers;
+import org.cyclops.cyclopscore.helper.RenderHelpers;
 import org.cyclops.integrateddynamics.core.client.gui.GuiActiveVariableBase;
+import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.inventory.container.ContainerMaterializer;
 import org.cyclops.integrateddynamics.tileentity.TileMaterializer;
 
@@ -28,6 +32,18 @@ public class GuiMaterializer extends GuiActiveVariableBase<ContainerMaterializer
         return 189;
     }
 
+    @Override
+    protected void drawGuiContainerBackgroundLayer(float f, int x, int y) {
+        super.drawGuiContainerBackgroundLayer(f, x, y);
+
+        int progress = getContainer().getProgress();
+        if(progress >= 0) {
+            RenderHelpers.drawScaledCenteredString(fontRendererObj,
+                    L10NHelpers.localize(L10NValues.GUI_MATERIALIZER_PROGRESS, progress),
+                    getGuiLeft() + 88, getGuiTop() + 99, 60, Helpers.RGBToInt(64, 64, 64));
+        }
+    }
+
     @Override
     protected int getErrorX() {
         return ERROR_X;
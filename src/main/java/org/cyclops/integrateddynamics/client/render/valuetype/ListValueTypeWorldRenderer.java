@@ -25,46 +25,51 @@ public class ListValueTypeWorldRenderer implements IValueTypeWorldRenderer {
     private static final float MAX = 12.5F;
     private static final float MARGIN_FACTOR = 1.1F;
 
+    private static final ValueTypeWorldRenderLayoutCache.ILayoutBuilder LAYOUT_BUILDER = new ValueTypeWorldRenderLayoutCache.ILayoutBuilder() {
+        @Override
+        public ValueTypeWorldRenderLayoutCache.TextLayout build(IValue value, FontRenderer fontRenderer) {
+            float maxWidth = 0;
+
+            List<String> lines = Lists.newArrayList();
+            IValueType listType = ((ValueTypeList.ValueList<?, ?>) value).getRawValue().getValueType();
+            for(IValue element : ((ValueTypeList.ValueList<?, ?>) value).getRawValue()) {
+                if(lines.size() >= MAX_LINES) {
+                    lines.add("...");
+                    break;
+                } else {
+                    String string = " - " + listType.toCompactString(element);
+                    float width = fontRenderer.getStringWidth(string) - 1;
+                    lines.add(string);
+                    maxWidth = Math.max(maxWidth, width);
+                }
+            }
+
+            float totalHeight = fontRenderer.FONT_HEIGHT * lines.size();
+            return ValueTypeWorldRenderLayoutCache.TextLayout.fit(value, lines, listType.getDisplayColor(),
+                    maxWidth, totalHeight, MAX, MARGIN_FACTOR);
+        }
+    };
+
     @Override
     public void renderValue(IPartContainer partContainer, double x, double y, double z, float partialTick,
                             int destroyStage, EnumFacing direction, IPartType partType, IValue value,
                             TileEntityRendererDispatcher rendererDispatcher, float distanceAlpha) {
         FontRenderer fontRenderer = rendererDispatcher.getFontRenderer();
-        float maxWidth = 0;
-
-        List<String> lines = Lists.newLinkedList();
-        IValueType listType = ((ValueTypeList.ValueList<?, ?>) value).getRawValue().getValueType();
-        for(IValue element : ((ValueTypeList.ValueList<?, ?>) value).getRawValue()) {
-            if(lines.size() >= MAX_LINES) {
-                lines.add("...");
-                break;
-            } else {
-                String string = " - " + listType.toCompactString(element);
-                float width = fontRenderer.getStringWidth(string) - 1;
-                lines.add(string);
-                maxWidth = Math.max(maxWidth, width);
-            }
-        }
-
-        float singleHeight = fontRenderer.FONT_HEIGHT;
-        float totalHeight = singleHeight * lines.size();
+        ValueTypeWorldRenderLayoutCache.TextLayout layout = ValueTypeWorldRenderLayoutCache.getInstance().getLayout(
+                partContainer.getPosition().getBlockPos(), direction, value, Math.sqrt(x * x + y * y + z * z),
+                fontRenderer, LAYOUT_BUILDER);
 
         GlStateManager.pushMatrix();
         GlStateManager.enableRescaleNormal();
 
-        float scaleX = MAX / (maxWidth * MARGIN_FACTOR);
-        float scaleY = MAX / (totalHeight * MARGIN_FACTOR);
-        float scale = Math.min(scaleX, scaleY); // Maintain aspect ratio
-        float newWidth = maxWidth * scale;
-        float newHeight = totalHeight * scale;
-        GlStateManager.translate((MAX - newWidth) / 2, (MAX - newHeight) / 2, 0F);
-        GlStateManager.scale(scale, scale, 1F);
+        GlStateManager.translate(layout.getTranslateX(), layout.getTranslateY(), 0F);
+        GlStateManager.scale(layout.getScale(), layout.getScale(), 1F);
 
         int offset = 0;
-        for(String line : lines) {
-            int color = Helpers.addAlphaToColor(listType.getDisplayColor(), distanceAlpha);
-            rendererDispatcher.getFontRenderer().drawString(line, 0, offset, color);
-            offset += singleHeight;
+        int color = Helpers.addAlphaToColor(layout.getColor(), distanceAlpha);
+        for(String line : layout.getLines()) {
+            fontRenderer.drawString(line, 0, offset, color);
+            offset += fontRenderer.FONT_HEIGHT;
         }
 
         GlStateManager.disableRescaleNormal();
@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.client.render.valuetype;
 
+import com.google.common.collect.ImmutableList;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.client.renderer.tileentity.TileEntityRendererDispatcher;
@@ -19,27 +20,33 @@ public class TextValueTypeWorldRenderer implements IValueTypeWorldRenderer {
     private static final float MAX = 12.5F;
     private static final float MARGIN_FACTOR = 1.1F;
 
+    private static final ValueTypeWorldRenderLayoutCache.ILayoutBuilder LAYOUT_BUILDER = new ValueTypeWorldRenderLayoutCache.ILayoutBuilder() {
+        @Override
+        public ValueTypeWorldRenderLayoutCache.TextLayout build(IValue value, FontRenderer fontRenderer) {
+            String string = value.getType().toCompactString(value);
+            float height = fontRenderer.FONT_HEIGHT;
+            float width = fontRenderer.getStringWidth(string) - 1;
+            return ValueTypeWorldRenderLayoutCache.TextLayout.fit(value, ImmutableList.of(string),
+                    value.getType().getDisplayColor(), width, height, MAX, MARGIN_FACTOR);
+        }
+    };
+
     @Override
     public void renderValue(IPartContainer partContainer, double x, double y, double z, float partialTick,
                             int destroyStage, EnumFacing direction, IPartType partType, IValue value,
                             TileEntityRendererDispatcher rendererDispatcher, float distanceAlpha) {
-        String string = value.getType().toCompactString(value);
         FontRenderer fontRenderer = rendererDispatcher.getFontRenderer();
-        float height = fontRenderer.FONT_HEIGHT;
-        float width = fontRenderer.getStringWidth(string) - 1;
+        ValueTypeWorldRenderLayoutCache.TextLayout layout = ValueTypeWorldRenderLayoutCache.getInstance().getLayout(
+                partContainer.getPosition().getBlockPos(), direction, value, Math.sqrt(x * x + y * y + z * z),
+                fontRenderer, LAYOUT_BUILDER);
         GlStateManager.pushMatrix();
         GlStateManager.enableRescaleNormal();
 
-        float scaleX = MAX / (width * MARGIN_FACTOR);
-        float scaleY = MAX / (height * MARGIN_FACTOR);
-        float scale = Math.min(scaleX, scaleY); // Maintain aspect ratio
-        float newWidth = width * scale;
-        float newHeight = height * scale;
-        GlStateManager.translate((MAX - newWidth) / 2, (MAX - newHeight) / 2, 0F);
-        GlStateManager.scale(scale, scale, 1F);
+        GlStateManager.translate(layout.getTranslateX(), layout.getTranslateY(), 0F);
+        GlStateManager.scale(layout.getScale(), layout.getScale(), 1F);
 
-        int color = Helpers.addAlphaToColor(value.getType().getDisplayColor(), distanceAlpha);
-        rendererDispatcher.getFontRenderer().drawString(string, 0, 0, color);
+        int color = Helpers.addAlphaToColor(layout.getColor(), distanceAlpha);
+        fontRenderer.drawString(layout.getLines().get(0), 0, 0, color);
         GlStateManager.disableRescaleNormal();
         GlStateManager.popMatrix();
     }
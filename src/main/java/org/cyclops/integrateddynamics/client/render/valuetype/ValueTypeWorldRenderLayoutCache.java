@@ -0,0 +1,143 @@
+package org.cyclops.integrateddynamics.client.render.valuetype;
+
+import lombok.Data;
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import org.apache.commons.lang3.tuple.Pair;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches the text layout of values that are displayed on panels, keyed by panel position and side.
+ * A layout is only recalculated when a new display value has arrived for its panel.
+ *
+ * If a layout budget is configured, at most that many layouts of distant panels are recalculated per frame,
+ * the other distant panels keep showing their previous layout until a later frame.
+ * @author rubensworks
+ */
+@SideOnly(Side.CLIENT)
+public final class ValueTypeWorldRenderLayoutCache {
+
+    private static final int MAX_ENTRIES = 4096;
+
+    private static ValueTypeWorldRenderLayoutCache INSTANCE;
+
+    private final Map<Pair<BlockPos, EnumFacing>, TextLayout> layouts = new LinkedHashMap<Pair<BlockPos, EnumFacing>, TextLayout>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Pair<BlockPos, EnumFacing>, TextLayout> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private int frameLayouts = 0;
+
+    private ValueTypeWorldRenderLayoutCache() {
+
+    }
+
+    public static ValueTypeWorldRenderLayoutCache getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new ValueTypeWorldRenderLayoutCache();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Get the layout for the given value on the given panel.
+     * @param pos The panel position.
+     * @param side The panel side.
+     * @param value The displayed value.
+     * @param distance The distance of the panel to the camera.
+     * @param fontRenderer The font renderer.
+     * @param layoutBuilder The builder for a new layout.
+     * @return The layout.
+     */
+    public TextLayout getLayout(BlockPos pos, EnumFacing side, IValue value, double distance,
+                                FontRenderer fontRenderer, ILayoutBuilder layoutBuilder) {
+        Pair<BlockPos, EnumFacing> key = Pair.of(pos, side);
+        TextLayout layout = layouts.get(key);
+        if (layout == null || layout.getValue() != value) {
+            if (layout != null && isDistant(distance)
+                    && GeneralConfig.displayPanelLayoutBudget > 0 && frameLayouts >= GeneralConfig.displayPanelLayoutBudget) {
+                return layout;
+            }
+            frameLayouts++;
+            layout = layoutBuilder.build(value, fontRenderer);
+            layouts.put(key, layout);
+        }
+        return layout;
+    }
+
+    protected boolean isDistant(double distance) {
+        return distance > GeneralConfig.partOverlayRenderdistance / 2D;
+    }
+
+    @SubscribeEvent
+    public void onRenderTick(TickEvent.RenderTickEvent event) {
+        if (event.phase == TickEvent.Phase.START) {
+            frameLayouts = 0;
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        if (event.getWorld().isRemote) {
+            layouts.clear();
+        }
+    }
+
+    /**
+     * Calculates the layout of a value.
+     */
+    public static interface ILayoutBuilder {
+
+        public TextLayout build(IValue value, FontRenderer fontRenderer);
+
+    }
+
+    /**
+     * Precalculated lines and transformation for rendering a value as text.
+     */
+    @Data
+    public static class TextLayout {
+
+        private final IValue value;
+        private final List<String> lines;
+        private final int color;
+        private final float translateX;
+        private final float translateY;
+        private final float scale;
+
+        /**
+         * Create a layout that fits the given lines in a square of the given size.
+         * @param value The value.
+         * @param lines The lines.
+         * @param color The color, without alpha.
+         * @param maxWidth The width of the widest line.
+         * @param totalHeight The height of all lines.
+         * @param max The size of the square.
+         * @param marginFactor The margin factor.
+         * @return The layout.
+         */
+        public static TextLayout fit(IValue value, List<String> lines, int color, float maxWidth, float totalHeight,
+                                     float max, float marginFactor) {
+            float scaleX = max / (maxWidth * marginFactor);
+            float scaleY = max / (totalHeight * marginFactor);
+            float scale = Math.min(scaleX, scaleY); // Maintain aspect ratio
+            float newWidth = maxWidth * scale;
+            float newHeight = totalHeight * scale;
+            return new TextLayout(value, lines, color, (max - newWidth) / 2, (max - newHeight) / 2, scale);
+        }
+
+    }
+
+}
@@ -0,0 +1,43 @@
+package org.cyclops.integrateddynamics.command;
+
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.cyclops.cyclopscore.command.CommandMod;
+import org.cyclops.cyclopscore.init.ModBase;
+import org.cyclops.integrateddynamics.core.evaluate.operator.OperatorResultCache;
+
+import java.util.List;
+
+/**
+ * Command for showing the statistics of the operator result cache.
+ * When called with "clear", the cache will be cleared.
+ * @author rubensworks
+ *
+ */
+public class CommandOperatorCache extends CommandMod {
+
+    public static final String NAME = "operatorcache";
+
+    public CommandOperatorCache(ModBase mod) {
+        super(mod, NAME);
+    }
+
+    @Override
+    public List getTabCompletionOptions(MinecraftServer server, ICommandSender sender, String[] parts, BlockPos blockPos) {
+        return null;
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] parts) {
+        OperatorResultCache cache = OperatorResultCache.getInstance();
+        sender.addChatMessage(new TextComponentString(String.format("Operator cache: %s entries, %s hits, %s misses, %.1f%% hit rate",
+                cache.getSize(), cache.getHits(), cache.getMisses(), cache.getHitRate() * 100)));
+        if (parts.length > 0 && "clear".equals(parts[0])) {
+            cache.clear();
+            sender.addChatMessage(new TextComponentString("Operator cache cleared"));
+        }
+    }
+
+}
@@ -0,0 +1,202 @@
+package org.cyclops.integrateddynamics.core;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Notifies listeners when the block at a watched position changes.
+ * Listeners are only weakly referenced, so they don't have to be removed explicitly.
+ * @author rubensworks
+ */
+public final class BlockChangeNotifier {
+
+    private static BlockChangeNotifier INSTANCE;
+
+    private final Map<Integer, Map<BlockPos, Set<IBlockChangeListener>>> listeners = Maps.newHashMap();
+
+    private BlockChangeNotifier() {
+
+    }
+
+    public static BlockChangeNotifier getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new BlockChangeNotifier();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Start watching the given position.
+     * @param pos The position to watch.
+     * @param listener The listener that will be called when the block at the position changes.
+     */
+    public synchronized void watch(DimPos pos, IBlockChangeListener listener) {
+        Map<BlockPos, Set<IBlockChangeListener>> dimensionListeners = listeners.get(pos.getDimensionId());
+        if (dimensionListeners == null) {
+            dimensionListeners = Maps.newHashMap();
+            listeners.put(pos.getDimensionId(), dimensionListeners);
+        }
+        Set<IBlockChangeListener> positionListeners = dimensionListeners.get(pos.getBlockPos());
+        if (positionListeners == null) {
+            positionListeners = Sets.newSetFromMap(new WeakHashMap<IBlockChangeListener, Boolean>());
+            dimensionListeners.put(pos.getBlockPos(), positionListeners);
+        }
+        positionListeners.add(listener);
+    }
+
+    /**
+     * Notify all listeners of the given position.
+     * @param dimension The dimension id.
+     * @param pos The position that changed.
+     */
+    public synchronized void onBlockChanged(int dimension, BlockPos pos) {
+        Map<BlockPos, Set<IBlockChangeListener>> dimensionListeners = listeners.get(dimension);
+        if (dimensionListeners != null) {
+            Set<IBlockChangeListener> positionListeners = dimensionListeners.get(pos);
+            if (positionListeners != null) {
+                for (IBlockChangeListener listener : positionListeners) {
+                    listener.onBlockChanged();
+                }
+                if (positionListeners.isEmpty()) {
+                    dimensionListeners.remove(pos);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove all positions of which the listeners have been garbage collected.
+     * @param dimension The dimension id.
+     */
+    protected synchronized void cleanup(int dimension) {
+        Map<BlockPos, Set<IBlockChangeListener>> dimensionListeners = listeners.get(dimension);
+        if (dimensionListeners != null) {
+            Iterator<Set<IBlockChangeListener>> it = dimensionListeners.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().isEmpty()) {
+                    it.remove();
+                }
+            }
+            if (dimensionListeners.isEmpty()) {
+                listeners.remove(dimension);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldLoad(WorldEvent.Load event) {
+        if (!event.getWorld().isRemote) {
+            event.getWorld().addEventListener(new WorldListener(event.getWorld().provider.getDimension()));
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            cleanup(event.getWorld().provider.getDimension());
+        }
+    }
+
+    /**
+     * Listener for block changes.
+     */
+    public static interface IBlockChangeListener {
+
+        /**
+         * Called when the block at the watched position has changed.
+         */
+        public void onBlockChanged();
+
+    }
+
+    /**
+     * Forwards the block updates of a world to this notifier.
+     * Block updates only reach this when they are sent to clients,
+     * changes that only notify neighbours are caught by the neighbour block change of parts.
+     */
+    protected static class WorldListener implements IWorldEventListener {
+
+        private final int dimension;
+
+        public WorldListener(int dimension) {
+            this.dimension = dimension;
+        }
+
+        @Override
+        public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+            if (oldState != newState) {
+                BlockChangeNotifier.getInstance().onBlockChanged(dimension, pos);
+            }
+        }
+
+        @Override
+        public void notifyLightSet(BlockPos pos) {
+
+        }
+
+        @Override
+        public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {
+
+        }
+
+        @Override
+        public void playSoundToAllNearExcept(@Nullable EntityPlayer player, SoundEvent soundIn, SoundCategory category,
+                                             double x, double y, double z, float volume, float pitch) {
+
+        }
+
+        @Override
+        public void playRecord(SoundEvent soundIn, BlockPos pos) {
+
+        }
+
+        @Override
+        public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord,
+                                  double xSpeed, double ySpeed, double zSpeed, int... parameters) {
+
+        }
+
+        @Override
+        public void onEntityAdded(Entity entityIn) {
+
+        }
+
+        @Override
+        public void onEntityRemoved(Entity entityIn) {
+
+        }
+
+        @Override
+        public void broadcastSound(int soundID, BlockPos pos, int data) {
+
+        }
+
+        @Override
+        public void playEvent(EntityPlayer player, int type, BlockPos blockPosIn, int data) {
+
+        }
+
+        @Override
+        public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress) {
+
+        }
+    }
+
+}
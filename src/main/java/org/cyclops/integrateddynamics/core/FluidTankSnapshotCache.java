@@ -0,0 +1,219 @@
+package org.cyclops.integrateddynamics.core;
+
+import com.google.common.collect.Maps;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.FluidTankProperties;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidTankProperties;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.cyclopscore.helper.TileHelpers;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueObjectTypeFluidStack;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+
+/**
+ * Caches the contents of fluid handlers during a single tick, keyed by target position and side.
+ * This makes sure that multiple fluid aspects and tank lists that read the same target
+ * only query its tanks once per tick.
+ *
+ * When the tanks of a target did not change since the previous tick, the previous snapshot is reused,
+ * including the values that were already created from it.
+ * @author rubensworks
+ */
+public final class FluidTankSnapshotCache {
+
+    private static FluidTankSnapshotCache INSTANCE;
+
+    private Map<PartPos, Snapshot> snapshots = Maps.newHashMap();
+    private Map<PartPos, Snapshot> previousSnapshots = Maps.newHashMap();
+
+    private FluidTankSnapshotCache() {
+
+    }
+
+    public static FluidTankSnapshotCache getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new FluidTankSnapshotCache();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Forget all snapshots of the previous tick, they are only kept for detecting unchanged tanks.
+     */
+    public synchronized void onTick() {
+        Map<PartPos, Snapshot> previous = previousSnapshots;
+        previous.clear();
+        previousSnapshots = snapshots;
+        snapshots = previous;
+    }
+
+    /**
+     * Get the fluid snapshot of the given target.
+     * @param target The target position and side.
+     * @return The snapshot, empty if the target has no fluid handler.
+     */
+    public synchronized Snapshot getSnapshot(PartPos target) {
+        if (MinecraftHelpers.isClientSide()) {
+            // Ticks are only tracked server-side.
+            return takeSnapshot(target, null);
+        }
+        Snapshot snapshot = snapshots.get(target);
+        if (snapshot == null) {
+            snapshot = takeSnapshot(target, previousSnapshots.get(target));
+            snapshots.put(target, snapshot);
+        }
+        return snapshot;
+    }
+
+    protected static Snapshot takeSnapshot(PartPos target, @Nullable Snapshot previous) {
+        IFluidHandler fluidHandler = TileHelpers.getCapability(target.getPos(), target.getSide(),
+                CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
+        IFluidTankProperties[] tanks = fluidHandler != null ? fluidHandler.getTankProperties() : null;
+        if (tanks == null) {
+            return Snapshot.EMPTY;
+        }
+        if (previous != null && previous.matches(tanks)) {
+            return previous;
+        }
+        return new Snapshot(tanks);
+    }
+
+    /**
+     * An immutable copy of the tanks of a fluid handler.
+     */
+    public static class Snapshot {
+
+        public static final Snapshot EMPTY = new Snapshot(new IFluidTankProperties[0]);
+
+        private final IFluidTankProperties[] tanks;
+        private final double[] fillRatios;
+        private final ValueObjectTypeFluidStack.ValueFluidStack[] fluidStackValues;
+        private final ValueTypeInteger.ValueInteger[] capacityValues;
+        private final int totalAmount;
+        private final int totalCapacity;
+        private final boolean full;
+        private final boolean empty;
+        private final boolean nonEmpty;
+
+        public Snapshot(IFluidTankProperties[] tanks) {
+            this.tanks = new IFluidTankProperties[tanks.length];
+            this.fillRatios = new double[tanks.length];
+            this.fluidStackValues = new ValueObjectTypeFluidStack.ValueFluidStack[tanks.length];
+            this.capacityValues = new ValueTypeInteger.ValueInteger[tanks.length];
+            int totalAmount = 0;
+            int totalCapacity = 0;
+            boolean full = true;
+            boolean empty = true;
+            boolean nonEmpty = false;
+            for (int i = 0; i < tanks.length; i++) {
+                IFluidTankProperties tank = tanks[i];
+                FluidStack contents = tank.getContents() == null ? null : tank.getContents().copy();
+                int capacity = tank.getCapacity();
+                this.tanks[i] = new FluidTankProperties(contents, capacity, tank.canFill(), tank.canDrain());
+                this.fillRatios[i] = (contents == null ? 0D : contents.amount) / (double) capacity;
+                if (contents != null) {
+                    totalAmount += contents.amount;
+                }
+                totalCapacity += capacity;
+                if (contents == null && capacity > 0 || (contents != null && contents.amount < capacity)) {
+                    full = false;
+                }
+                if (contents != null && capacity > 0 || (contents != null && contents.amount < capacity)) {
+                    empty = false;
+                }
+                if (contents != null && contents.amount > 0) {
+                    nonEmpty = true;
+                }
+            }
+            this.totalAmount = totalAmount;
+            this.totalCapacity = totalCapacity;
+            this.full = full;
+            this.empty = empty;
+            this.nonEmpty = nonEmpty;
+        }
+
+        /**
+         * @param tanks The current tanks of a fluid handler.
+         * @return If the given tanks have the same contents and capacities as this snapshot.
+         */
+        public boolean matches(IFluidTankProperties[] tanks) {
+            if (tanks.length != this.tanks.length) {
+                return false;
+            }
+            for (int i = 0; i < tanks.length; i++) {
+                FluidStack contents = tanks[i].getContents();
+                FluidStack snapshotContents = this.tanks[i].getContents();
+                if (tanks[i].getCapacity() != this.tanks[i].getCapacity()
+                        || (contents == null ? snapshotContents != null : !contents.isFluidStackIdentical(snapshotContents))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public IFluidTankProperties[] getTanks() {
+            return tanks;
+        }
+
+        public int getTankCount() {
+            return tanks.length;
+        }
+
+        /**
+         * @param tank A tank index.
+         * @return The tank, or null if it does not exist.
+         */
+        public @Nullable IFluidTankProperties getTank(int tank) {
+            return tank >= 0 && tank < tanks.length ? tanks[tank] : null;
+        }
+
+        /**
+         * @param tank A tank index.
+         * @return The fill ratio of the tank, or zero if it does not exist.
+         */
+        public double getFillRatio(int tank) {
+            return tank >= 0 && tank < tanks.length ? fillRatios[tank] : 0D;
+        }
+
+        public synchronized ValueObjectTypeFluidStack.ValueFluidStack getFluidStackValue(int tank) {
+            if (fluidStackValues[tank] == null) {
+                fluidStackValues[tank] = ValueObjectTypeFluidStack.ValueFluidStack.of(tanks[tank].getContents());
+            }
+            return fluidStackValues[tank];
+        }
+
+        public synchronized ValueTypeInteger.ValueInteger getCapacityValue(int tank) {
+            if (capacityValues[tank] == null) {
+                capacityValues[tank] = ValueTypeInteger.ValueInteger.of(tanks[tank].getCapacity());
+            }
+            return capacityValues[tank];
+        }
+
+        public int getTotalAmount() {
+            return totalAmount;
+        }
+
+        public int getTotalCapacity() {
+            return totalCapacity;
+        }
+
+        public boolean isFull() {
+            return full;
+        }
+
+        public boolean isEmpty() {
+            return empty;
+        }
+
+        public boolean isNonEmpty() {
+            return nonEmpty;
+        }
+
+    }
+
+}
@@ -0,0 +1,213 @@
+package org.cyclops.integrateddynamics.core;
+
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.RayTraceResult;
+import net.minecraft.util.math.Vec3d;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import org.cyclops.integrateddynamics.GeneralConfig;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Caches the block and entity that entities are looking at during a single tick, keyed by entity id.
+ * Targets are calculated lazily on the first request in a tick.
+ *
+ * When many targets had to be calculated lazily in the previous tick, the targets of all online players are
+ * calculated at once at the start of the tick instead.
+ * Only the first lookup of each target in a tick counts towards this, later lookups are cache hits.
+ * Targets that were calculated in advance still count on their first lookup, so that batching remains enabled.
+ * @author rubensworks
+ */
+public final class LookTargetCache {
+
+    private static LookTargetCache INSTANCE;
+
+    private final TIntObjectMap<LookTarget> targets = new TIntObjectHashMap<>();
+    private int blockMisses = 0;
+    private int entityMisses = 0;
+
+    private LookTargetCache() {
+
+    }
+
+    public static LookTargetCache getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new LookTargetCache();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Forget all targets of the previous tick.
+     * If enough targets had to be calculated lazily in the previous tick,
+     * the targets of all online players are calculated immediately.
+     */
+    public synchronized void onTick() {
+        targets.clear();
+        boolean batchBlocks = blockMisses >= GeneralConfig.lookTargetBatchThreshold;
+        boolean batchEntities = entityMisses >= GeneralConfig.lookTargetBatchThreshold;
+        blockMisses = 0;
+        entityMisses = 0;
+        if (batchBlocks || batchEntities) {
+            MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+            if (server != null) {
+                for (EntityPlayerMP player : server.getPlayerList().getPlayerList()) {
+                    LookTarget target = getLookTarget(player);
+                    if (batchBlocks) {
+                        target.getBlock(player);
+                    }
+                    if (batchEntities) {
+                        target.getEntity(player);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param entity An entity.
+     * @return The blockstate the entity is looking at within its reach.
+     */
+    public synchronized @Nullable IBlockState getTargetBlock(EntityLivingBase entity) {
+        LookTarget target = getLookTarget(entity);
+        if (!target.blockRequested) {
+            target.blockRequested = true;
+            blockMisses++;
+        }
+        return target.getBlock(entity);
+    }
+
+    /**
+     * @param entity An entity.
+     * @return The entity the entity is looking at within its reach.
+     */
+    public synchronized @Nullable Entity getTargetEntity(EntityLivingBase entity) {
+        LookTarget target = getLookTarget(entity);
+        if (!target.entityRequested) {
+            target.entityRequested = true;
+            entityMisses++;
+        }
+        return target.getEntity(entity);
+    }
+
+    protected LookTarget getLookTarget(EntityLivingBase entity) {
+        LookTarget target = targets.get(entity.getEntityId());
+        if (target == null || target.entity != entity) {
+            target = new LookTarget(entity);
+            targets.put(entity.getEntityId(), target);
+        }
+        return target;
+    }
+
+    protected static double getReachDistance(EntityLivingBase entity) {
+        if(entity instanceof EntityPlayerMP) {
+            return ((EntityPlayerMP) entity).interactionManager.getBlockReachDistance();
+        }
+        return 5;
+    }
+
+    protected static Vec3d getOrigin(EntityLivingBase entity) {
+        return new Vec3d(entity.posX, entity.posY + entity.getEyeHeight(), entity.posZ);
+    }
+
+    /**
+     * Calculate the blockstate the given entity is looking at.
+     * @param entity An entity.
+     * @return The blockstate, or null.
+     */
+    public static @Nullable IBlockState calculateTargetBlock(EntityLivingBase entity) {
+        double reachDistance = getReachDistance(entity);
+        Vec3d lookVec = entity.getLookVec();
+        Vec3d origin = getOrigin(entity);
+        Vec3d direction = origin.addVector(lookVec.xCoord * reachDistance, lookVec.yCoord * reachDistance, lookVec.zCoord * reachDistance);
+
+        RayTraceResult mop = entity.worldObj.rayTraceBlocks(origin, direction, true);
+        if(mop != null && mop.typeOfHit == RayTraceResult.Type.BLOCK) {
+            return entity.worldObj.getBlockState(mop.getBlockPos());
+        }
+        return null;
+    }
+
+    /**
+     * Calculate the entity the given entity is looking at.
+     * @param entity An entity.
+     * @return The target entity, or null.
+     */
+    public static @Nullable Entity calculateTargetEntity(EntityLivingBase entity) {
+        Entity entityOut = null;
+        double reachDistance = getReachDistance(entity);
+        Vec3d lookVec = entity.getLookVec();
+        Vec3d origin = getOrigin(entity);
+        Vec3d direction = origin.addVector(lookVec.xCoord * reachDistance, lookVec.yCoord * reachDistance, lookVec.zCoord * reachDistance);
+
+        float size = entity.getCollisionBorderSize();
+        List<Entity> list = entity.worldObj.getEntitiesWithinAABBExcludingEntity(entity,
+                entity.getEntityBoundingBox().addCoord(lookVec.xCoord * reachDistance, lookVec.yCoord * reachDistance, lookVec.zCoord * reachDistance)
+                        .expand((double) size, (double) size, (double) size));
+        for (Entity e : list) {
+            if (e.canBeCollidedWith()) {
+                float f10 = e.getCollisionBorderSize();
+                AxisAlignedBB axisalignedbb = e.getEntityBoundingBox().expand((double) f10, (double) f10, (double) f10);
+                RayTraceResult mop = axisalignedbb.calculateIntercept(origin, direction);
+
+                if (axisalignedbb.isVecInside(origin)) {
+                    entityOut = e;
+                } else if (mop != null) {
+                    double distance = origin.distanceTo(mop.hitVec);
+                    if (distance < reachDistance || reachDistance == 0.0D) {
+                        if (e == entity.getRidingEntity() && !entity.canRiderInteract()) {
+                            if (reachDistance == 0.0D) {
+                                entityOut = e;
+                            }
+                        } else {
+                            entityOut = e;
+                            reachDistance = distance;
+                        }
+                    }
+                }
+            }
+        }
+        return entityOut;
+    }
+
+    protected static class LookTarget {
+
+        private final EntityLivingBase entity;
+        private boolean blockRequested = false;
+        private boolean blockCalculated = false;
+        private IBlockState block = null;
+        private boolean entityRequested = false;
+        private boolean entityCalculated = false;
+        private Entity targetEntity = null;
+
+        public LookTarget(EntityLivingBase entity) {
+            this.entity = entity;
+        }
+
+        public IBlockState getBlock(EntityLivingBase entity) {
+            if (!blockCalculated) {
+                block = calculateTargetBlock(entity);
+                blockCalculated = true;
+            }
+            return block;
+        }
+
+        public Entity getEntity(EntityLivingBase entity) {
+            if (!entityCalculated) {
+                targetEntity = calculateTargetEntity(entity);
+                entityCalculated = true;
+            }
+            return targetEntity;
+        }
+
+    }
+
+}
@@ -0,0 +1,170 @@
+package org.cyclops.integrateddynamics.core;
+
+import com.google.common.collect.Maps;
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.block.BlockInvisibleLight;
+import org.cyclops.integrateddynamics.core.tileentity.TileMultipartTicking;
+
+import java.util.Map;
+
+/**
+ * Collects redstone and light output changes that happen during a network tick
+ * and applies them in one pass at the end of that tick.
+ *
+ * Changes are grouped per world and chunk, tiles are synced at most once,
+ * and neighbour notifications are deduplicated per position.
+ * @author rubensworks
+ */
+public final class OutputUpdateBatcher {
+
+    private static OutputUpdateBatcher INSTANCE;
+
+    private final Map<World, WorldOutputs> pending = Maps.newIdentityHashMap();
+    private boolean batching = false;
+
+    private OutputUpdateBatcher() {
+
+    }
+
+    public static OutputUpdateBatcher getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new OutputUpdateBatcher();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * @return If output changes are currently being collected instead of applied immediately.
+     */
+    public boolean isBatching() {
+        return batching && GeneralConfig.batchOutputUpdates;
+    }
+
+    /**
+     * Start collecting output changes.
+     */
+    public void startBatch() {
+        this.batching = true;
+    }
+
+    /**
+     * Stop collecting output changes and apply all collected changes.
+     */
+    public void flush() {
+        this.batching = false;
+        for (Map.Entry<World, WorldOutputs> entry : pending.entrySet()) {
+            entry.getValue().apply(entry.getKey());
+        }
+        pending.clear();
+    }
+
+    protected WorldOutputs getWorldOutputs(World world) {
+        WorldOutputs outputs = pending.get(world);
+        if (outputs == null) {
+            outputs = new WorldOutputs();
+            pending.put(world, outputs);
+        }
+        return outputs;
+    }
+
+    /**
+     * Schedule a redstone update for the given tile.
+     * @param tile The tile of which the redstone output changed.
+     * @param side The side at which the redstone output changed.
+     */
+    public void scheduleRedstoneUpdate(TileMultipartTicking tile, EnumFacing side) {
+        WorldOutputs outputs = getWorldOutputs(tile.getWorld());
+        outputs.getChunk(tile.getPos()).tiles.put(tile.getPos(), tile);
+        outputs.neighbourNotifications.put(tile.getPos(), tile.getBlockType());
+        outputs.neighbourNotifications.put(tile.getPos().offset(side), tile.getBlockType());
+    }
+
+    /**
+     * Schedule a light update for the given tile.
+     * @param tile The tile of which the light level changed.
+     */
+    public void scheduleLightUpdate(TileMultipartTicking tile) {
+        getWorldOutputs(tile.getWorld()).getChunk(tile.getPos()).tiles.put(tile.getPos(), tile);
+    }
+
+    /**
+     * Schedule the invisible light level at the given position.
+     * Only the last scheduled level for a position in a tick will be applied.
+     * @param world The world.
+     * @param pos The position.
+     * @param lightLevel The light level.
+     */
+    public void scheduleInvisibleLight(World world, BlockPos pos, int lightLevel) {
+        getWorldOutputs(world).getChunk(pos).invisibleLights.put(pos, lightLevel);
+    }
+
+    /**
+     * Set the invisible light level at the given position.
+     * @param world The world.
+     * @param pos The position.
+     * @param lightLevel The light level.
+     */
+    public static void applyInvisibleLight(World world, BlockPos pos, int lightLevel) {
+        if(world.isAirBlock(pos)) {
+            if(lightLevel > 0) {
+                world.setBlockState(pos, BlockInvisibleLight.getInstance().getDefaultState().
+                        withProperty(BlockInvisibleLight.LIGHT, lightLevel));
+            } else {
+                world.setBlockState(pos, Blocks.AIR.getDefaultState(), MinecraftHelpers.BLOCK_NOTIFY_CLIENT);
+            }
+        }
+    }
+
+    protected static class WorldOutputs {
+
+        private final Map<Long, ChunkOutputs> chunks = Maps.newLinkedHashMap();
+        private final Map<BlockPos, Block> neighbourNotifications = Maps.newLinkedHashMap();
+
+        public ChunkOutputs getChunk(BlockPos pos) {
+            long key = ((long) (pos.getX() >> 4) & 0xFFFFFFFFL) | (((long) (pos.getZ() >> 4) & 0xFFFFFFFFL) << 32);
+            ChunkOutputs chunk = chunks.get(key);
+            if (chunk == null) {
+                chunk = new ChunkOutputs();
+                chunks.put(key, chunk);
+            }
+            return chunk;
+        }
+
+        public void apply(World world) {
+            for (ChunkOutputs chunk : chunks.values()) {
+                chunk.apply(world);
+            }
+            for (Map.Entry<BlockPos, Block> entry : neighbourNotifications.entrySet()) {
+                if (world.isBlockLoaded(entry.getKey())) {
+                    world.notifyNeighborsOfStateChange(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+    }
+
+    protected static class ChunkOutputs {
+
+        private final Map<BlockPos, TileMultipartTicking> tiles = Maps.newLinkedHashMap();
+        private final Map<BlockPos, Integer> invisibleLights = Maps.newLinkedHashMap();
+
+        public void apply(World world) {
+            for (TileMultipartTicking tile : tiles.values()) {
+                if (!tile.isInvalid()) {
+                    tile.sendUpdate();
+                }
+            }
+            for (Map.Entry<BlockPos, Integer> entry : invisibleLights.entrySet()) {
+                applyInvisibleLight(world, entry.getKey(), entry.getValue());
+            }
+        }
+
+    }
+
+}
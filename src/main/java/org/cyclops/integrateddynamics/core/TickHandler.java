@@ -5,6 +5,7 @@ import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.core.network.DeferredNetworkLoader;
 import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkDiagnostics;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
 
@@ -44,19 +45,35 @@ public final class TickHandler {
                 tick = (tick + 1) % MinecraftHelpers.SECOND_IN_TICKS;
             }
             boolean shouldSendTickDurationInfo = isBeingDiagnozed && tick == 0;
-            for(INetwork network : NetworkWorldStorage.getInstance(IntegratedDynamics._instance).getNetworks()) {
-                if (isBeingDiagnozed && (shouldSendTickDurationInfo || network.hasChanged())) {
-                    NetworkDiagnostics.getInstance().sendNetworkUpdate(network);
-                    network.resetLastSecondDurations();
+            OutputUpdateBatcher.getInstance().startBatch();
+            try {
+                LookTargetCache.getInstance().onTick();
+                FluidTankSnapshotCache.getInstance().onTick();
+                WorldSnapshotCache.getInstance().onTick();
+                DeferredNetworkLoader.getInstance().attachLoadedChunks();
+                if (isBeingDiagnozed) {
+                    NetworkDiagnostics.getInstance().sendPendingNetworks();
                 }
-                try {
-                    if (!network.isCrashed()) {
-                        network.update();
-                    }
-                } catch (RuntimeException e) {
-                    network.setCrashed(true);
-                    throw e;
+                updateNetworks(isBeingDiagnozed, shouldSendTickDurationInfo);
+            } finally {
+                OutputUpdateBatcher.getInstance().flush();
+            }
+        }
+    }
+
+    protected void updateNetworks(boolean isBeingDiagnozed, boolean shouldSendTickDurationInfo) {
+        for(INetwork network : NetworkWorldStorage.getInstance(IntegratedDynamics._instance).getNetworks()) {
+            if (isBeingDiagnozed && (shouldSendTickDurationInfo || network.hasChanged())) {
+                NetworkDiagnostics.getInstance().sendNetworkUpdate(network);
+                network.resetLastSecondDurations();
+            }
+            try {
+                if (!network.isCrashed()) {
+                    network.update();
                 }
+            } catch (RuntimeException e) {
+                network.setCrashed(true);
+                throw e;
             }
         }
     }
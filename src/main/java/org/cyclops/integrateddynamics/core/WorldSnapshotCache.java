@@ -0,0 +1,148 @@
+package org.cyclops.integrateddynamics.core;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.math.DoubleMath;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueObjectTypeEntity;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+
+/**
+ * Caches the world-level properties of dimensions during a single tick.
+ * This makes sure that all world readers in a dimension share the same values,
+ * instead of each reading them from the world.
+ * @author rubensworks
+ */
+public final class WorldSnapshotCache {
+
+    private static WorldSnapshotCache INSTANCE;
+
+    private final TIntObjectMap<Snapshot> snapshots = new TIntObjectHashMap<>();
+
+    private WorldSnapshotCache() {
+
+    }
+
+    public static WorldSnapshotCache getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new WorldSnapshotCache();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Forget all snapshots of the previous tick.
+     */
+    public synchronized void onTick() {
+        snapshots.clear();
+    }
+
+    /**
+     * Get the snapshot of the given world.
+     * @param world The world.
+     * @return The snapshot of the current tick.
+     */
+    public synchronized Snapshot getSnapshot(World world) {
+        if (world.isRemote) {
+            // Ticks are only tracked server-side.
+            return new Snapshot(world);
+        }
+        int dimension = world.provider.getDimension();
+        Snapshot snapshot = snapshots.get(dimension);
+        if (snapshot == null) {
+            snapshot = new Snapshot(world);
+            snapshots.put(dimension, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * An immutable copy of the world-level properties of a world.
+     * Properties that are more expensive to determine are only calculated when first requested.
+     */
+    public static class Snapshot {
+
+        private final World world;
+        private final boolean raining;
+        private final boolean thundering;
+        private final boolean day;
+        private final int rainTime;
+        private final long worldTime;
+        private final long totalWorldTime;
+        private final String worldName;
+        private Integer tickTime = null;
+        private ValueTypeList.ValueList players = null;
+
+        public Snapshot(World world) {
+            this.world = world;
+            this.raining = world.isRaining();
+            this.thundering = world.isThundering();
+            this.day = MinecraftHelpers.isDay(world);
+            this.rainTime = world.getWorldInfo().getRainTime();
+            this.worldTime = world.getWorldTime();
+            this.totalWorldTime = world.getTotalWorldTime();
+            this.worldName = world.getWorldInfo().getWorldName();
+        }
+
+        public boolean isRaining() {
+            return raining;
+        }
+
+        public boolean isThundering() {
+            return thundering;
+        }
+
+        public boolean isDay() {
+            return day;
+        }
+
+        public int getRainTime() {
+            return rainTime;
+        }
+
+        public long getWorldTime() {
+            return worldTime;
+        }
+
+        public long getTotalWorldTime() {
+            return totalWorldTime;
+        }
+
+        public String getWorldName() {
+            return worldName;
+        }
+
+        /**
+         * @return The average tick time of this dimension in nanoseconds.
+         */
+        public synchronized int getTickTime() {
+            if (tickTime == null) {
+                long[] tickTimes = FMLCommonHandler.instance().getMinecraftServerInstance().worldTickTimes
+                        .get(world.provider.getDimension());
+                tickTime = tickTimes == null ? 0 : (int) DoubleMath.mean(tickTimes);
+            }
+            return tickTime;
+        }
+
+        /**
+         * @return The list of players in this dimension.
+         */
+        public synchronized ValueTypeList.ValueList getPlayers() {
+            if (players == null) {
+                ImmutableList.Builder<ValueObjectTypeEntity.ValueEntity> builder = ImmutableList.builder();
+                for (EntityPlayer player : world.playerEntities) {
+                    builder.add(ValueObjectTypeEntity.ValueEntity.of(player));
+                }
+                players = ValueTypeList.ValueList.ofList(ValueTypes.OBJECT_ENTITY, builder.build());
+            }
+            return players;
+        }
+
+    }
+
+}
@@ -1,6 +1,8 @@
 package org.cyclops.integrateddynamics.core.block;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
@@ -14,8 +16,11 @@ import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.cyclops.cyclopscore.helper.BlockHelpers;
 
+import javax.annotation.Nullable;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Component for blocks that require complex collision detection.
@@ -24,13 +29,23 @@ import java.util.List;
  * @param <B> The type of block this component is part of.
  */
 @Data
+@EqualsAndHashCode(exclude = "shapes")
+@ToString(exclude = "shapes")
 public class CollidableComponent<P, B extends Block & ICollidableParent> implements ICollidable {
 
+    private static final int SHAPE_CACHE_SIZE = 256;
+
     private final B block;
     private final List<IComponent<P, B>> components;
     private final int totalComponents;
 
     private AxisAlignedBB lastBounds = Block.FULL_BLOCK_AABB;
+    private final Map<Object, Shape<P, B>> shapes = new LinkedHashMap<Object, Shape<P, B>>(SHAPE_CACHE_SIZE, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Shape<P, B>> eldest) {
+            return size() > SHAPE_CACHE_SIZE;
+        }
+    };
 
     public CollidableComponent(B block, List<IComponent<P, B>> components) {
         this.block = block;
@@ -44,15 +59,53 @@ public class CollidableComponent<P, B extends Block & ICollidableParent> impleme
         this.totalComponents = count;
     }
 
-    private void addComponentCollisionBoxesToList(IComponent<EnumFacing, B> component, IBlockState state, World world, BlockPos pos,
-                         AxisAlignedBB axisalignedbb, List<AxisAlignedBB> list, Entity collidingEntity) {
-        for(EnumFacing position : component.getPossiblePositions()) {
-            if(component.isActive(getBlock(), world, pos, position)) {
-                for(AxisAlignedBB bb : component.getBounds(getBlock(), world, pos, position)) {
-                    BlockHelpers.addCollisionBoxToList(pos, axisalignedbb, list, bb);
+    /**
+     * Get the collision shape at the given position.
+     * If the block provides a shape key, the shape is shared with all other positions with an equal key.
+     * @param world The world.
+     * @param pos The position.
+     * @return The collision shape.
+     */
+    public Shape<P, B> getShape(World world, BlockPos pos) {
+        Object key = getBlock().getCollisionShapeKey(world, pos);
+        if (key == null) {
+            return createShape(world, pos);
+        }
+        synchronized (shapes) {
+            Shape<P, B> shape = shapes.get(key);
+            if (shape != null) {
+                return shape;
+            }
+        }
+        Shape<P, B> shape = createShape(world, pos);
+        synchronized (shapes) {
+            shapes.put(key, shape);
+        }
+        return shape;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Shape<P, B> createShape(World world, BlockPos pos) {
+        AxisAlignedBB[] boxes = new AxisAlignedBB[totalComponents];
+        P[] positions = (P[]) new Object[totalComponents];
+        IComponent<P, B>[] boxComponents = new IComponent[totalComponents];
+        AxisAlignedBB bounds = null;
+        int count = 0;
+        for(IComponent<P, B> component : components) {
+            for(P position : component.getPossiblePositions()) {
+                if(component.isActive(getBlock(), world, pos, position)) {
+                    for(AxisAlignedBB bb : component.getBounds(getBlock(), world, pos, position)) {
+                        boxes[count] = bb;
+                        positions[count] = position;
+                        boxComponents[count] = component;
+                        bounds = bounds == null ? bb : bounds.union(bb);
+                        count++;
+                    }
                 }
             }
         }
+        return new Shape<>(Arrays.copyOf(boxes, count), Arrays.copyOf(positions, count),
+                Arrays.copyOf(boxComponents, count), bounds);
     }
 
     @SuppressWarnings({"unchecked", "deprecation"})
@@ -60,8 +113,12 @@ public class CollidableComponent<P, B extends Block & ICollidableParent> impleme
     public void addCollisionBoxToList(IBlockState state, World world, BlockPos pos, AxisAlignedBB axisalignedbb,
                                         List list, Entity collidingEntity) {
         // Add bounding boxes for all active components.
-        for(IComponent component : components) {
-            addComponentCollisionBoxesToList(component, state, world, pos, axisalignedbb, list, collidingEntity);
+        Shape<P, B> shape = getShape(world, pos);
+        if(shape.getBounds() == null || !shape.getBounds().offset(pos).intersectsWith(axisalignedbb)) {
+            return;
+        }
+        for(AxisAlignedBB bb : shape.getBoxes()) {
+            BlockHelpers.addCollisionBoxToList(pos, axisalignedbb, list, bb);
         }
     }
 
@@ -114,60 +171,48 @@ public class CollidableComponent<P, B extends Block & ICollidableParent> impleme
         return doRayTrace(world, pos, origin, direction);
     }
 
-    private int doRayTraceComponent(IComponent<P, B> component, int countStart,
-                                        World world, BlockPos pos, Vec3d origin, Vec3d direction,
-                                        net.minecraft.util.math.RayTraceResult[] hits, AxisAlignedBB[] boxes, P[] sideHit,
-                                        IComponent<P, B>[] components) {
-        int i = countStart;
-        for(P position : component.getPossiblePositions()) {
-            if(component.isActive(getBlock(), world, pos, position)) {
-                int offset = 0;
-                for(AxisAlignedBB bb : component.getBounds(getBlock(), world, pos, position)) {
-                    boxes[i + offset] = bb;
-                    hits[i + offset] = getBlock().rayTraceParent(pos, origin, direction, bb);
-                    sideHit[i + offset] = position;
-                    components[i + offset] = component;
-                    offset++;
-                }
-            }
-            i += component.getBoundsCount(position);
-        }
-        return i;
-    }
-
     private RayTraceResult doRayTrace(World world, BlockPos pos, Vec3d origin, Vec3d direction) {
-        // Perform a ray trace for all six sides.
-        net.minecraft.util.math.RayTraceResult[] hits = new net.minecraft.util.math.RayTraceResult[totalComponents];
-        AxisAlignedBB[] boxes = new AxisAlignedBB[totalComponents];
-        @SuppressWarnings("unchecked")
-        P[] sideHit = (P[]) new Object[totalComponents];
-        @SuppressWarnings("unchecked")
-        IComponent<P, B>[] componentsOutput = new IComponent[totalComponents];
-        Arrays.fill(sideHit, null);
-
-        // Ray trace for all active components.
-        int count = 0;
-        for(IComponent<P, B> component : components) {
-            count = doRayTraceComponent(component, count, world, pos, origin, direction, hits, boxes, sideHit, componentsOutput);
+        Shape<P, B> shape = getShape(world, pos);
+        // Skip the separate boxes if the ray does not even hit their union.
+        if(shape.getBounds() == null || getBlock().rayTraceParent(pos, origin, direction, shape.getBounds()) == null) {
+            return null;
         }
 
         // Find the closest hit
+        AxisAlignedBB[] boxes = shape.getBoxes();
         double minDistance = Double.POSITIVE_INFINITY;
+        net.minecraft.util.math.RayTraceResult minHit = null;
         int minIndex = -1;
-        for (int i = 0; i < hits.length; i++) {
-            if (hits[i] != null) {
-                double d = hits[i].hitVec.squareDistanceTo(origin);
+        for (int i = 0; i < boxes.length; i++) {
+            net.minecraft.util.math.RayTraceResult hit = getBlock().rayTraceParent(pos, origin, direction, boxes[i]);
+            if (hit != null) {
+                double d = hit.hitVec.squareDistanceTo(origin);
                 if (d < minDistance) {
                     minDistance = d;
+                    minHit = hit;
                     minIndex = i;
                 }
             }
         }
 
         if (minIndex != -1) {
-            return new RayTraceResult<P>(hits[minIndex], boxes[minIndex], sideHit[minIndex], componentsOutput[minIndex]);
+            return new RayTraceResult<P>(minHit, boxes[minIndex], shape.getPositions()[minIndex], shape.getComponents()[minIndex]);
         }
         return null;
     }
 
+    /**
+     * The bounding boxes of all active components at a position.
+     * @param <P> The type of positions.
+     * @param <B> The type of block.
+     */
+    @Data
+    public static class Shape<P, B> {
+        private final AxisAlignedBB[] boxes;
+        private final P[] positions;
+        private final IComponent<P, B>[] components;
+        @Nullable
+        private final AxisAlignedBB bounds;
+    }
+
 }
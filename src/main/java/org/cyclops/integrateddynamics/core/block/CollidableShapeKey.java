@@ -0,0 +1,17 @@
+package org.cyclops.integrateddynamics.core.block;
+
+import lombok.Data;
+
+/**
+ * A compact key for collision shapes.
+ * It consists of a bitmask of flags that influence the shape,
+ * and the optional objects that determine the bounds of the flagged components.
+ * @author rubensworks
+ */
+@Data
+public class CollidableShapeKey {
+
+    private final int mask;
+    private final Object[] bounds;
+
+}
@@ -9,6 +9,8 @@ import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
+import javax.annotation.Nullable;
+
 /**
  * Interface used to access the parent methods from a {@link ICollidable}.
  * @author rubensworks
@@ -35,4 +37,14 @@ public interface ICollidableParent {
      */
     public RayTraceResult rayTraceParent(BlockPos pos, Vec3d start, Vec3d end, AxisAlignedBB boundingBox);
 
+    /**
+     * Get a key that identifies the collision shape at the given position.
+     * Positions with equal keys must have the same active components with the same bounds,
+     * so that their collision shape can be shared.
+     * @param world The world
+     * @param pos The position
+     * @return The shape key, or null if the shape should be determined from the components.
+     */
+    public @Nullable Object getCollisionShapeKey(World world, BlockPos pos);
+
 }
@@ -133,9 +133,44 @@ public abstract class OperatorBase implements IOperator {
         if(error != null) {
             throw new EvaluationException(error.localize());
         }
+        if (isPure() && OperatorResultCache.getInstance().isEnabled()) {
+            return evaluateCached(input);
+        }
         return function.evaluate(new SafeVariablesGetter(input));
     }
 
+    protected IValue evaluateCached(IVariable... input) throws EvaluationException {
+        OperatorResultCache cache = OperatorResultCache.getInstance();
+        // Most operators have at most two inputs, avoid allocating an array for them.
+        IValue first = null;
+        IValue second = null;
+        IValue[] values = null;
+        if (input.length > 2) {
+            values = new IValue[input.length];
+            for (int i = 0; i < input.length; i++) {
+                values[i] = input[i].getValue();
+                if (!cache.isCacheable(values[i])) {
+                    return function.evaluate(new SafeVariablesGetter(input));
+                }
+            }
+        } else {
+            if (input.length > 0 && !cache.isCacheable(first = input[0].getValue())) {
+                return function.evaluate(new SafeVariablesGetter(input));
+            }
+            if (input.length > 1 && !cache.isCacheable(second = input[1].getValue())) {
+                return function.evaluate(new SafeVariablesGetter(input));
+            }
+        }
+        IValue result = cache.get(this, first, second, values);
+        if (result == null) {
+            result = function.evaluate(new SafeVariablesGetter(input));
+            if (result != null) {
+                cache.put(this, first, second, values, result);
+            }
+        }
+        return result;
+    }
+
     @Override
     public int getRequiredInputLength() {
         return getInputTypes().length;
@@ -183,6 +218,14 @@ public abstract class OperatorBase implements IOperator {
         return this;
     }
 
+    /**
+     * @return If the output of this operator only depends on its input values,
+     *         which allows its results to be reused for equal input.
+     */
+    public boolean isPure() {
+        return false;
+    }
+
     public static class SafeVariablesGetter {
 
         private final IVariable[] variables;
@@ -0,0 +1,169 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import com.google.common.collect.Sets;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A bounded cache of the results of pure operators, shared by all networks.
+ * The least recently used results are evicted first.
+ *
+ * Only inputs of immutable value types are cached, since values such as lists may be backed by
+ * world state that can change without the value itself changing.
+ * @author rubensworks
+ */
+public final class OperatorResultCache {
+
+    private static OperatorResultCache INSTANCE;
+
+    private final Set<IValueType> cacheableValueTypes = Sets.<IValueType>newHashSet(
+            ValueTypes.BOOLEAN, ValueTypes.INTEGER, ValueTypes.DOUBLE, ValueTypes.LONG, ValueTypes.STRING,
+            ValueTypes.OBJECT_BLOCK, ValueTypes.OBJECT_ITEMSTACK, ValueTypes.OBJECT_FLUIDSTACK);
+    private final Map<Key, IValue> results = new LinkedHashMap<Key, IValue>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, IValue> eldest) {
+            return size() > GeneralConfig.operatorResultCacheSize;
+        }
+    };
+    // Reused for lookups, only accessed while holding the lock of this cache.
+    private final Key probe = new Key();
+    private long hits = 0;
+    private long misses = 0;
+
+    private OperatorResultCache() {
+
+    }
+
+    public static OperatorResultCache getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new OperatorResultCache();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * @return If results should be cached.
+     */
+    public boolean isEnabled() {
+        return GeneralConfig.operatorResultCacheSize > 0;
+    }
+
+    /**
+     * @param value An input value.
+     * @return If the result of an operator for the given input value can be cached.
+     */
+    public boolean isCacheable(IValue value) {
+        return value != null && cacheableValueTypes.contains(value.getType());
+    }
+
+    /**
+     * Get a cached result.
+     * Operators with at most two inputs only pass the first and second value,
+     * operators with more inputs only pass all values as an array.
+     * @param operator A pure operator.
+     * @param first The first input value, or null.
+     * @param second The second input value, or null.
+     * @param values All input values if there are more than two, otherwise null.
+     * @return The cached result, or null if not cached.
+     */
+    public synchronized IValue get(IOperator operator, IValue first, IValue second, IValue[] values) {
+        probe.set(operator, first, second, values);
+        IValue result = results.get(probe);
+        probe.set(null, null, null, null);
+        if (result == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return result;
+    }
+
+    /**
+     * Cache a result.
+     * @param operator A pure operator.
+     * @param first The first input value, or null.
+     * @param second The second input value, or null.
+     * @param values All input values if there are more than two, otherwise null.
+     * @param result The result of the operator for the given input.
+     */
+    public synchronized void put(IOperator operator, IValue first, IValue second, IValue[] values, IValue result) {
+        Key key = new Key();
+        key.set(operator, first, second, values);
+        results.put(key, result);
+    }
+
+    /**
+     * Remove all cached results and reset the statistics.
+     */
+    public synchronized void clear() {
+        results.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    public synchronized int getSize() {
+        return results.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return The ratio of lookups that were served from the cache, between 0 and 1.
+     */
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    protected static class Key {
+
+        private IOperator operator;
+        private IValue first;
+        private IValue second;
+        private IValue[] values;
+        private int hash;
+
+        protected void set(IOperator operator, IValue first, IValue second, IValue[] values) {
+            this.operator = operator;
+            this.first = first;
+            this.second = second;
+            this.values = values;
+            int hash = System.identityHashCode(operator);
+            hash = 31 * hash + (first == null ? 0 : first.hashCode());
+            hash = 31 * hash + (second == null ? 0 : second.hashCode());
+            this.hash = 31 * hash + Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return that.operator == operator && that.hash == hash
+                    && Objects.equals(that.first, first) && Objects.equals(that.second, second)
+                    && Arrays.equals(that.values, values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
@@ -18,7 +18,6 @@ import net.minecraft.entity.monster.IMob;
 import net.minecraft.entity.passive.EntityAnimal;
 import net.minecraft.entity.passive.IAnimals;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemBlock;
 import net.minecraft.item.ItemStack;
@@ -26,9 +25,6 @@ import net.minecraft.item.crafting.FurnaceRecipes;
 import net.minecraft.tileentity.TileEntityFurnace;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.StringUtils;
-import net.minecraft.util.math.AxisAlignedBB;
-import net.minecraft.util.math.RayTraceResult;
-import net.minecraft.util.math.Vec3d;
 import net.minecraftforge.common.IPlantable;
 import net.minecraftforge.common.IShearable;
 import net.minecraftforge.energy.IEnergyStorage;
@@ -47,6 +43,7 @@ import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperatorRegistry;
 import org.cyclops.integrateddynamics.api.evaluate.variable.*;
 import org.cyclops.integrateddynamics.api.logicprogrammer.IConfigRenderPattern;
+import org.cyclops.integrateddynamics.core.LookTargetCache;
 import org.cyclops.integrateddynamics.core.evaluate.IOperatorValuePropagator;
 import org.cyclops.integrateddynamics.core.evaluate.OperatorBuilders;
 import org.cyclops.integrateddynamics.core.evaluate.build.OperatorBuilder;
@@ -119,7 +116,7 @@ public final class Operators {
     /**
      * Logical NOT operator with one input booleans and one output boolean.
      */
-    public static final IOperator LOGICAL_NOT = REGISTRY.register(OperatorBuilders.LOGICAL_1_PREFIX.symbol("!").operatorName("not")
+    public static final IOperator LOGICAL_NOT = REGISTRY.register(OperatorBuilders.LOGICAL_1_PREFIX.pure().symbol("!").operatorName("not")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -148,7 +145,7 @@ public final class Operators {
     /**
      * Arithmetic ADD operator with two input integers and one output integer.
      */
-    public static final IOperator ARITHMETIC_ADDITION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.symbol("+").operatorName("addition")
+    public static final IOperator ARITHMETIC_ADDITION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.pure().symbol("+").operatorName("addition")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -159,7 +156,7 @@ public final class Operators {
     /**
      * Arithmetic MINUS operator with two input integers and one output integer.
      */
-    public static final IOperator ARITHMETIC_SUBTRACTION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.symbol("-").operatorName("subtraction")
+    public static final IOperator ARITHMETIC_SUBTRACTION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.pure().symbol("-").operatorName("subtraction")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -170,7 +167,7 @@ public final class Operators {
     /**
      * Arithmetic MULTIPLY operator with two input integers and one output integer.
      */
-    public static final IOperator ARITHMETIC_MULTIPLICATION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.symbol("*").operatorName("multiplication")
+    public static final IOperator ARITHMETIC_MULTIPLICATION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.pure().symbol("*").operatorName("multiplication")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -181,7 +178,7 @@ public final class Operators {
     /**
      * Arithmetic DIVIDE operator with two input integers and one output integer.
      */
-    public static final IOperator ARITHMETIC_DIVISION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.symbol("/").operatorName("division")
+    public static final IOperator ARITHMETIC_DIVISION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.pure().symbol("/").operatorName("division")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -192,7 +189,7 @@ public final class Operators {
     /**
      * Arithmetic MAX operator with two input integers and one output integer.
      */
-    public static final IOperator ARITHMETIC_MAXIMUM = REGISTRY.register(OperatorBuilders.ARITHMETIC_2_PREFIX.symbol("max").operatorName("maximum")
+    public static final IOperator ARITHMETIC_MAXIMUM = REGISTRY.register(OperatorBuilders.ARITHMETIC_2_PREFIX.pure().symbol("max").operatorName("maximum")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -203,7 +200,7 @@ public final class Operators {
     /**
      * Arithmetic MIN operator with two input integers and one output integer.
      */
-    public static final IOperator ARITHMETIC_MINIMUM = REGISTRY.register(OperatorBuilders.ARITHMETIC_2_PREFIX.symbol("min").operatorName("minimum")
+    public static final IOperator ARITHMETIC_MINIMUM = REGISTRY.register(OperatorBuilders.ARITHMETIC_2_PREFIX.pure().symbol("min").operatorName("minimum")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -222,7 +219,7 @@ public final class Operators {
     /**
      * Integer MODULO operator with two input integers and one output integer.
      */
-    public static final IOperator INTEGER_MODULUS = REGISTRY.register(OperatorBuilders.INTEGER_2.symbol("%").operatorName("modulus")
+    public static final IOperator INTEGER_MODULUS = REGISTRY.register(OperatorBuilders.INTEGER_2.pure().symbol("%").operatorName("modulus")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -241,7 +238,7 @@ public final class Operators {
     /**
      * Integer INCREMENT operator with one input integers and one output integer.
      */
-    public static final IOperator INTEGER_INCREMENT = REGISTRY.register(OperatorBuilders.INTEGER_1_SUFFIX.symbol("++").operatorName("increment")
+    public static final IOperator INTEGER_INCREMENT = REGISTRY.register(OperatorBuilders.INTEGER_1_SUFFIX.pure().symbol("++").operatorName("increment")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -253,7 +250,7 @@ public final class Operators {
     /**
      * Integer INCREMENT operator with one input integers and one output integer.
      */
-    public static final IOperator INTEGER_DECREMENT = REGISTRY.register(OperatorBuilders.INTEGER_1_SUFFIX.symbol("--").operatorName("decrement")
+    public static final IOperator INTEGER_DECREMENT = REGISTRY.register(OperatorBuilders.INTEGER_1_SUFFIX.pure().symbol("--").operatorName("decrement")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -269,7 +266,7 @@ public final class Operators {
     /**
      * Relational == operator with two inputs of any type (but equal) and one output boolean.
      */
-    public static final IOperator RELATIONAL_EQUALS = REGISTRY.register(OperatorBuilders.RELATIONAL
+    public static final IOperator RELATIONAL_EQUALS = REGISTRY.register(OperatorBuilders.RELATIONAL.pure()
             .inputTypes(2, ValueTypes.CATEGORY_ANY).renderPattern(IConfigRenderPattern.INFIX)
             .symbol("==").operatorName("equals")
             .function(new OperatorBase.IFunction() {
@@ -315,7 +312,7 @@ public final class Operators {
     /**
      * Relational &gt; operator with two input integers and one output boolean.
      */
-    public static final IOperator RELATIONAL_GT = REGISTRY.register(OperatorBuilders.RELATIONAL_2
+    public static final IOperator RELATIONAL_GT = REGISTRY.register(OperatorBuilders.RELATIONAL_2.pure()
             .inputTypes(2, ValueTypes.CATEGORY_NUMBER).symbol(">").operatorName("gt")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -327,7 +324,7 @@ public final class Operators {
     /**
      * Relational &gt; operator with two input integers and one output boolean.
      */
-    public static final IOperator RELATIONAL_LT = REGISTRY.register(OperatorBuilders.RELATIONAL_2
+    public static final IOperator RELATIONAL_LT = REGISTRY.register(OperatorBuilders.RELATIONAL_2.pure()
             .inputTypes(2, ValueTypes.CATEGORY_NUMBER).symbol("<").operatorName("lt")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -364,7 +361,7 @@ public final class Operators {
     /**
      * Binary AND operator with two input integers and one output integers.
      */
-    public static final IOperator BINARY_AND = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("&").operatorName("and")
+    public static final IOperator BINARY_AND = REGISTRY.register(OperatorBuilders.BINARY_2.pure().symbol("&").operatorName("and")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -377,7 +374,7 @@ public final class Operators {
     /**
      * Binary OR operator with two input integers and one output integers.
      */
-    public static final IOperator BINARY_OR = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("|").operatorName("or")
+    public static final IOperator BINARY_OR = REGISTRY.register(OperatorBuilders.BINARY_2.pure().symbol("|").operatorName("or")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -390,7 +387,7 @@ public final class Operators {
     /**
      * Binary XOR operator with two input integers and one output integers.
      */
-    public static final IOperator BINARY_XOR = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("^").operatorName("xor")
+    public static final IOperator BINARY_XOR = REGISTRY.register(OperatorBuilders.BINARY_2.pure().symbol("^").operatorName("xor")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -403,7 +400,7 @@ public final class Operators {
     /**
      * Binary COMPLEMENT operator with one input integers and one output integers.
      */
-    public static final IOperator BINARY_COMPLEMENT = REGISTRY.register(OperatorBuilders.BINARY_1_PREFIX.symbol("~").operatorName("complement")
+    public static final IOperator BINARY_COMPLEMENT = REGISTRY.register(OperatorBuilders.BINARY_1_PREFIX.pure().symbol("~").operatorName("complement")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -415,7 +412,7 @@ public final class Operators {
     /**
      * Binary &lt;&lt; operator with two input integers and one output integers.
      */
-    public static final IOperator BINARY_LSHIFT = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("<<").operatorName("lshift")
+    public static final IOperator BINARY_LSHIFT = REGISTRY.register(OperatorBuilders.BINARY_2.pure().symbol("<<").operatorName("lshift")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -428,7 +425,7 @@ public final class Operators {
     /**
      * Binary &gt;&gt; operator with two input integers and one output integers.
      */
-    public static final IOperator BINARY_RSHIFT = REGISTRY.register(OperatorBuilders.BINARY_2.symbol(">>").operatorName("rshift")
+    public static final IOperator BINARY_RSHIFT = REGISTRY.register(OperatorBuilders.BINARY_2.pure().symbol(">>").operatorName("rshift")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -441,7 +438,7 @@ public final class Operators {
     /**
      * Binary &gt;&gt;&gt; operator with two input integers and one output integers.
      */
-    public static final IOperator BINARY_RZSHIFT = REGISTRY.register(OperatorBuilders.BINARY_2.symbol(">>>").operatorName("rzshift")
+    public static final IOperator BINARY_RZSHIFT = REGISTRY.register(OperatorBuilders.BINARY_2.pure().symbol(">>>").operatorName("rzshift")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -458,7 +455,7 @@ public final class Operators {
     /**
      * String length operator with one input string and one output integer.
      */
-    public static final IOperator STRING_LENGTH = REGISTRY.register(OperatorBuilders.STRING_1_PREFIX.symbol("len").operatorName("length")
+    public static final IOperator STRING_LENGTH = REGISTRY.register(OperatorBuilders.STRING_1_PREFIX.pure().symbol("len").operatorName("length")
             .output(ValueTypes.INTEGER).function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -470,7 +467,7 @@ public final class Operators {
     /**
      * String concat operator with two input strings and one output string.
      */
-    public static final IOperator STRING_CONCAT = REGISTRY.register(OperatorBuilders.STRING_2.symbol("+").operatorName("concat")
+    public static final IOperator STRING_CONCAT = REGISTRY.register(OperatorBuilders.STRING_2.pure().symbol("+").operatorName("concat")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -483,7 +480,7 @@ public final class Operators {
     /**
      * Get a name value type name.
      */
-    public static final IOperator NAMED_NAME = REGISTRY.register(OperatorBuilders.STRING_2.symbol("name").operatorName("name")
+    public static final IOperator NAMED_NAME = REGISTRY.register(OperatorBuilders.STRING_2.pure().symbol("name").operatorName("name")
             .inputType(ValueTypes.CATEGORY_NAMED).renderPattern(IConfigRenderPattern.SUFFIX_1_LONG)
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -499,7 +496,7 @@ public final class Operators {
     /**
      * Double round operator with one input double and one output integers.
      */
-    public static final IOperator DOUBLE_ROUND = REGISTRY.register(OperatorBuilders.DOUBLE_1_PREFIX.output(ValueTypes.INTEGER).symbol("|| ||").operatorName("round")
+    public static final IOperator DOUBLE_ROUND = REGISTRY.register(OperatorBuilders.DOUBLE_1_PREFIX.pure().output(ValueTypes.INTEGER).symbol("|| ||").operatorName("round")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -511,7 +508,7 @@ public final class Operators {
     /**
      * Double ceil operator with one input double and one output integers.
      */
-    public static final IOperator DOUBLE_CEIL = REGISTRY.register(OperatorBuilders.DOUBLE_1_PREFIX.output(ValueTypes.INTEGER).symbol("⌈ ⌉").operatorName("ceil")
+    public static final IOperator DOUBLE_CEIL = REGISTRY.register(OperatorBuilders.DOUBLE_1_PREFIX.pure().output(ValueTypes.INTEGER).symbol("⌈ ⌉").operatorName("ceil")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -523,7 +520,7 @@ public final class Operators {
     /**
      * Double floor operator with one input double and one output integers.
      */
-    public static final IOperator DOUBLE_FLOOR = REGISTRY.register(OperatorBuilders.DOUBLE_1_PREFIX.output(ValueTypes.INTEGER).symbol("⌊ ⌋").operatorName("floor")
+    public static final IOperator DOUBLE_FLOOR = REGISTRY.register(OperatorBuilders.DOUBLE_1_PREFIX.pure().output(ValueTypes.INTEGER).symbol("⌊ ⌋").operatorName("floor")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -726,7 +723,7 @@ public final class Operators {
                                 a.getValueType(), value.getType());
                         throw new EvaluationException(error.localize());
                     }
-                    return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyAppend(a, value));
+                    return ValueTypeList.ValueList.ofFactory(ValueTypeListProxyVector.append(a, value));
                 }
             }).build());
 
@@ -785,7 +782,7 @@ public final class Operators {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy a = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
-                    return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyTail(a));
+                    return ValueTypeList.ValueList.ofFactory(ValueTypeListProxyVector.tail(a));
                 }
             }).build());
 
@@ -861,7 +858,7 @@ public final class Operators {
                     if (from.getRawValue() < 0 || to.getRawValue() < 0){
                         throw new EvaluationException("The 'from' and 'to' values in the slice operator must not be negative.");
                     }
-                    return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxySlice<>(list, from.getRawValue(), to.getRawValue()));
+                    return ValueTypeList.ValueList.ofFactory(ValueTypeListProxyVector.slice(list, from.getRawValue(), to.getRawValue()));
                 }
             }).build());
 
@@ -872,7 +869,7 @@ public final class Operators {
     /**
      * Block isOpaque operator with one input block and one output boolean.
      */
-    public static final IOperator OBJECT_BLOCK_OPAQUE = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.output(ValueTypes.BOOLEAN).symbolOperator("opaque")
+    public static final IOperator OBJECT_BLOCK_OPAQUE = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.pure().output(ValueTypes.BOOLEAN).symbolOperator("opaque")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -884,7 +881,7 @@ public final class Operators {
     /**
      * The itemstack representation of the block
      */
-    public static final IOperator OBJECT_BLOCK_ITEMSTACK = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.output(ValueTypes.OBJECT_ITEMSTACK).symbolOperator("itemstack")
+    public static final IOperator OBJECT_BLOCK_ITEMSTACK = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.pure().output(ValueTypes.OBJECT_ITEMSTACK).symbolOperator("itemstack")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -896,7 +893,7 @@ public final class Operators {
     /**
      * The name of the mod owning this block
      */
-    public static final IOperator OBJECT_BLOCK_MODNAME = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.output(ValueTypes.STRING).symbolOperator("mod")
+    public static final IOperator OBJECT_BLOCK_MODNAME = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.pure().output(ValueTypes.STRING).symbolOperator("mod")
             .function(new IterativeFunction(Lists.newArrayList(
                     new IOperatorValuePropagator<OperatorBase.SafeVariablesGetter, ResourceLocation>() {
                         @Override
@@ -911,7 +908,7 @@ public final class Operators {
     /**
      * The breaksound of the block
      */
-    public static final IOperator OBJECT_BLOCK_BREAKSOUND = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.output(ValueTypes.STRING).symbolOperator("breaksound")
+    public static final IOperator OBJECT_BLOCK_BREAKSOUND = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.pure().output(ValueTypes.STRING).symbolOperator("breaksound")
             .function(new IterativeFunction(Lists.newArrayList(
                     OperatorBuilders.BLOCK_SOUND,
                     new IOperatorValuePropagator<Optional<SoundType>, String>() {
@@ -928,7 +925,7 @@ public final class Operators {
     /**
      * The placesound of the block
      */
-    public static final IOperator OBJECT_BLOCK_PLACESOUND = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.output(ValueTypes.STRING).symbolOperator("placesound")
+    public static final IOperator OBJECT_BLOCK_PLACESOUND = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.pure().output(ValueTypes.STRING).symbolOperator("placesound")
             .function(new IterativeFunction(Lists.newArrayList(
                     OperatorBuilders.BLOCK_SOUND,
                     new IOperatorValuePropagator<Optional<SoundType>, String>() {
@@ -945,7 +942,7 @@ public final class Operators {
     /**
      * The stepsound of the block
      */
-    public static final IOperator OBJECT_BLOCK_STEPSOUND = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.output(ValueTypes.STRING).symbolOperator("stepsound")
+    public static final IOperator OBJECT_BLOCK_STEPSOUND = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.pure().output(ValueTypes.STRING).symbolOperator("stepsound")
             .function(new IterativeFunction(Lists.newArrayList(
                     OperatorBuilders.BLOCK_SOUND,
                     new IOperatorValuePropagator<Optional<SoundType>, String>() {
@@ -963,7 +960,7 @@ public final class Operators {
     /**
      * If the block is shearable
      */
-    public static final IOperator OBJECT_BLOCK_ISSHEARABLE = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.output(ValueTypes.BOOLEAN).symbolOperator("isshearable")
+    public static final IOperator OBJECT_BLOCK_ISSHEARABLE = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.pure().output(ValueTypes.BOOLEAN).symbolOperator("isshearable")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -977,7 +974,7 @@ public final class Operators {
     /**
      * If the block is plantable
      */
-    public static final IOperator OBJECT_BLOCK_ISPLANTABLE = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.output(ValueTypes.BOOLEAN).symbolOperator("isplantable")
+    public static final IOperator OBJECT_BLOCK_ISPLANTABLE = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.pure().output(ValueTypes.BOOLEAN).symbolOperator("isplantable")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -990,7 +987,7 @@ public final class Operators {
     /**
      * The block plant type
      */
-    public static final IOperator OBJECT_BLOCK_PLANTTYPE = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.output(ValueTypes.STRING).symbolOperator("planttype")
+    public static final IOperator OBJECT_BLOCK_PLANTTYPE = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.pure().output(ValueTypes.STRING).symbolOperator("planttype")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -1006,7 +1003,7 @@ public final class Operators {
     /**
      * The block when this block is planted
      */
-    public static final IOperator OBJECT_BLOCK_PLANT = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_BLOCK_PLANT = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.OBJECT_BLOCK).symbolOperator("plant")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -1023,7 +1020,7 @@ public final class Operators {
     /**
      * The block when this block is planted
      */
-    public static final IOperator OBJECT_BLOCK_PLANTAGE = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_BLOCK_PLANTAGE = REGISTRY.register(OperatorBuilders.BLOCK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.INTEGER).symbolOperator("plantage")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -1048,7 +1045,7 @@ public final class Operators {
     /**
      * Item Stack size operator with one input itemstack and one output integer.
      */
-    public static final IOperator OBJECT_ITEMSTACK_SIZE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_ITEMSTACK_SIZE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.INTEGER).symbolOperator("size")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_INT.build(new IOperatorValuePropagator<ItemStack, Integer>() {
                 @Override
@@ -1060,7 +1057,7 @@ public final class Operators {
     /**
      * Item Stack maxsize operator with one input itemstack and one output integer.
      */
-    public static final IOperator OBJECT_ITEMSTACK_MAXSIZE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_ITEMSTACK_MAXSIZE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.INTEGER).symbolOperator("maxsize")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_INT.build(new IOperatorValuePropagator<ItemStack, Integer>() {
                 @Override
@@ -1072,7 +1069,7 @@ public final class Operators {
     /**
      * Item Stack isstackable operator with one input itemstack and one output boolean.
      */
-    public static final IOperator OBJECT_ITEMSTACK_ISSTACKABLE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_ITEMSTACK_ISSTACKABLE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.BOOLEAN).symbolOperator("stackable")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_BOOLEAN.build(new IOperatorValuePropagator<ItemStack, Boolean>() {
                 @Override
@@ -1084,7 +1081,7 @@ public final class Operators {
     /**
      * Item Stack isdamageable operator with one input itemstack and one output boolean.
      */
-    public static final IOperator OBJECT_ITEMSTACK_ISDAMAGEABLE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_ITEMSTACK_ISDAMAGEABLE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.BOOLEAN).symbolOperator("damageable")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_BOOLEAN.build(new IOperatorValuePropagator<ItemStack, Boolean>() {
                 @Override
@@ -1096,7 +1093,7 @@ public final class Operators {
     /**
      * Item Stack damage operator with one input itemstack and one output integer.
      */
-    public static final IOperator OBJECT_ITEMSTACK_DAMAGE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_ITEMSTACK_DAMAGE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.INTEGER).symbolOperator("damage")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_INT.build(new IOperatorValuePropagator<ItemStack, Integer>() {
                 @Override
@@ -1108,7 +1105,7 @@ public final class Operators {
     /**
      * Item Stack maxdamage operator with one input itemstack and one output integer.
      */
-    public static final IOperator OBJECT_ITEMSTACK_MAXDAMAGE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_ITEMSTACK_MAXDAMAGE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.INTEGER).symbolOperator("maxdamage")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_INT.build(new IOperatorValuePropagator<ItemStack, Integer>() {
                 @Override
@@ -1120,7 +1117,7 @@ public final class Operators {
     /**
      * Item Stack isenchanted operator with one input itemstack and one output boolean.
      */
-    public static final IOperator OBJECT_ITEMSTACK_ISENCHANTED = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_ITEMSTACK_ISENCHANTED = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.BOOLEAN).symbolOperator("enchanted")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_BOOLEAN.build(new IOperatorValuePropagator<ItemStack, Boolean>() {
                 @Override
@@ -1132,7 +1129,7 @@ public final class Operators {
     /**
      * Item Stack isenchantable operator with one input itemstack and one output boolean.
      */
-    public static final IOperator OBJECT_ITEMSTACK_ISENCHANTABLE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_ITEMSTACK_ISENCHANTABLE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.BOOLEAN).symbolOperator("enchantable")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_BOOLEAN.build(new IOperatorValuePropagator<ItemStack, Boolean>() {
                 @Override
@@ -1144,7 +1141,7 @@ public final class Operators {
     /**
      * Item Stack repair cost with one input itemstack and one output integer.
      */
-    public static final IOperator OBJECT_ITEMSTACK_REPAIRCOST = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_ITEMSTACK_REPAIRCOST = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.INTEGER).symbolOperator("repaircost")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_INT.build(new IOperatorValuePropagator<ItemStack, Integer>() {
                 @Override
@@ -1156,7 +1153,7 @@ public final class Operators {
     /**
      * Get the rarity of an itemstack.
      */
-    public static final IOperator OBJECT_ITEMSTACK_RARITY = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_ITEMSTACK_RARITY = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.STRING).symbolOperator("rarity")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -1169,7 +1166,7 @@ public final class Operators {
     /**
      * Get the strength of an itemstack against a block as a double.
      */
-    public static final IOperator OBJECT_ITEMSTACK_STRENGTH_VS_BLOCK = REGISTRY.register(OperatorBuilders.ITEMSTACK_2
+    public static final IOperator OBJECT_ITEMSTACK_STRENGTH_VS_BLOCK = REGISTRY.register(OperatorBuilders.ITEMSTACK_2.pure()
             .inputTypes(new IValueType[]{ValueTypes.OBJECT_ITEMSTACK, ValueTypes.OBJECT_BLOCK}).output(ValueTypes.DOUBLE)
             .symbolOperator("strength")
             .function(new OperatorBase.IFunction() {
@@ -1184,7 +1181,7 @@ public final class Operators {
     /**
      * If the given itemstack can be used to harvest the given block.
      */
-    public static final IOperator OBJECT_ITEMSTACK_CAN_HARVEST_BLOCK = REGISTRY.register(OperatorBuilders.ITEMSTACK_2
+    public static final IOperator OBJECT_ITEMSTACK_CAN_HARVEST_BLOCK = REGISTRY.register(OperatorBuilders.ITEMSTACK_2.pure()
             .inputTypes(new IValueType[]{ValueTypes.OBJECT_ITEMSTACK, ValueTypes.OBJECT_BLOCK}).output(ValueTypes.BOOLEAN)
             .symbolOperator("canharvest")
             .function(new OperatorBase.IFunction() {
@@ -1199,7 +1196,7 @@ public final class Operators {
     /**
      * The block from the stack
      */
-    public static final IOperator OBJECT_ITEMSTACK_BLOCK = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_ITEMSTACK_BLOCK = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.OBJECT_BLOCK).symbolOperator("block")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -1249,7 +1246,7 @@ public final class Operators {
     /**
      * If the NBT tags of the given stacks are equal.
      */
-    public static final IOperator OBJECT_ITEMSTACK_ISNBTEQUAL = REGISTRY.register(OperatorBuilders.ITEMSTACK_2
+    public static final IOperator OBJECT_ITEMSTACK_ISNBTEQUAL = REGISTRY.register(OperatorBuilders.ITEMSTACK_2.pure()
             .output(ValueTypes.BOOLEAN).symbol("=NBT=").operatorName("isnbtequal")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -1269,7 +1266,7 @@ public final class Operators {
     /**
      * If the raw items of the given stacks are equal, ignoring NBT but including damage value.
      */
-    public static final IOperator OBJECT_ITEMSTACK_ISITEMEQUALNONBT = REGISTRY.register(OperatorBuilders.ITEMSTACK_2
+    public static final IOperator OBJECT_ITEMSTACK_ISITEMEQUALNONBT = REGISTRY.register(OperatorBuilders.ITEMSTACK_2.pure()
             .output(ValueTypes.BOOLEAN).symbol("=NoNBT=").operatorName("isitemequalnonbt")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -1289,7 +1286,7 @@ public final class Operators {
     /**
      * If the raw items of the given stacks are equal, ignoring NBT and damage value.
      */
-    public static final IOperator OBJECT_ITEMSTACK_ISRAWITEMEQUAL = REGISTRY.register(OperatorBuilders.ITEMSTACK_2
+    public static final IOperator OBJECT_ITEMSTACK_ISRAWITEMEQUAL = REGISTRY.register(OperatorBuilders.ITEMSTACK_2.pure()
             .output(ValueTypes.BOOLEAN).symbol("=Raw=").operatorName("israwitemequal")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -1309,7 +1306,7 @@ public final class Operators {
     /**
      * The name of the mod owning this item
      */
-    public static final IOperator OBJECT_ITEMSTACK_MODNAME = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.output(ValueTypes.STRING).symbolOperator("mod")
+    public static final IOperator OBJECT_ITEMSTACK_MODNAME = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.pure().output(ValueTypes.STRING).symbolOperator("mod")
             .function(new IterativeFunction(Lists.newArrayList(
                     new IOperatorValuePropagator<OperatorBase.SafeVariablesGetter, ResourceLocation>() {
                         @Override
@@ -1399,7 +1396,7 @@ public final class Operators {
     /**
      * ItemStack operator that applies the given stacksize to the given itemstack and creates a new ItemStack.
      */
-    public static final IOperator OBJECT_ITEMSTACK_WITHSIZE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_INTEGER_1
+    public static final IOperator OBJECT_ITEMSTACK_WITHSIZE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_INTEGER_1.pure()
             .output(ValueTypes.OBJECT_ITEMSTACK).symbolOperator("withsize")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -1454,7 +1451,7 @@ public final class Operators {
     /**
      * If the item is plantable
      */
-    public static final IOperator OBJECT_ITEMSTACK_ISPLANTABLE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_ITEMSTACK_ISPLANTABLE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.BOOLEAN).symbolOperator("isplantable")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -1468,7 +1465,7 @@ public final class Operators {
     /**
      * The item plant type
      */
-    public static final IOperator OBJECT_ITEMSTACK_PLANTTYPE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_ITEMSTACK_PLANTTYPE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.STRING).symbolOperator("planttype")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -1485,7 +1482,7 @@ public final class Operators {
     /**
      * The item when this item is planted
      */
-    public static final IOperator OBJECT_ITEMSTACK_PLANT = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_ITEMSTACK_PLANT = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.OBJECT_BLOCK).symbolOperator("plant")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -1716,20 +1713,7 @@ public final class Operators {
                     ValueObjectTypeEntity.ValueEntity a = variables.getValue(0);
                     IBlockState blockState = null;
                     if(a.getRawValue().isPresent() && a.getRawValue().get() instanceof EntityLivingBase) {
-                        EntityLivingBase entity = (EntityLivingBase) a.getRawValue().get();
-                        double reachDistance = 5;
-                        double eyeHeight = entity.getEyeHeight();
-                        if(entity instanceof EntityPlayerMP) {
-                            reachDistance = ((EntityPlayerMP) entity).interactionManager.getBlockReachDistance();
-                        }
-                        Vec3d lookVec = entity.getLookVec();
-                        Vec3d origin = new Vec3d(entity.posX, entity.posY + eyeHeight, entity.posZ);
-                        Vec3d direction = origin.addVector(lookVec.xCoord * reachDistance, lookVec.yCoord * reachDistance, lookVec.zCoord * reachDistance);
-
-                        RayTraceResult mop = entity.worldObj.rayTraceBlocks(origin, direction, true);
-                        if(mop != null && mop.typeOfHit == RayTraceResult.Type.BLOCK) {
-                            blockState = entity.worldObj.getBlockState(mop.getBlockPos());
-                        }
+                        blockState = LookTargetCache.getInstance().getTargetBlock((EntityLivingBase) a.getRawValue().get());
                     }
                     return ValueObjectTypeBlock.ValueBlock.of(blockState);
                 }
@@ -1745,43 +1729,7 @@ public final class Operators {
                     ValueObjectTypeEntity.ValueEntity a = variables.getValue(0);
                     Entity entityOut = null;
                     if(a.getRawValue().isPresent() && a.getRawValue().get() instanceof EntityLivingBase) {
-                        EntityLivingBase entity = (EntityLivingBase) a.getRawValue().get();
-                        double reachDistance = 5;
-                        double eyeHeight = entity.getEyeHeight();
-                        if(entity instanceof EntityPlayerMP) {
-                            reachDistance = ((EntityPlayerMP) entity).interactionManager.getBlockReachDistance();
-                        }
-                        Vec3d lookVec = entity.getLookVec();
-                        Vec3d origin = new Vec3d(entity.posX, entity.posY + eyeHeight, entity.posZ);
-                        Vec3d direction = origin.addVector(lookVec.xCoord * reachDistance, lookVec.yCoord * reachDistance, lookVec.zCoord * reachDistance);
-
-                        float size = entity.getCollisionBorderSize();
-                        List<Entity> list = entity.worldObj.getEntitiesWithinAABBExcludingEntity(entity,
-                                entity.getEntityBoundingBox().addCoord(lookVec.xCoord * reachDistance, lookVec.yCoord * reachDistance, lookVec.zCoord * reachDistance)
-                                        .expand((double) size, (double) size, (double) size));
-                        for (Entity e : list) {
-                            if (e.canBeCollidedWith()) {
-                                float f10 = e.getCollisionBorderSize();
-                                AxisAlignedBB axisalignedbb = e.getEntityBoundingBox().expand((double) f10, (double) f10, (double) f10);
-                                RayTraceResult mop = axisalignedbb.calculateIntercept(origin, direction);
-
-                                if (axisalignedbb.isVecInside(origin)) {
-                                    entityOut = e;
-                                } else if (mop != null) {
-                                    double distance = origin.distanceTo(mop.hitVec);
-                                    if (distance < reachDistance || reachDistance == 0.0D) {
-                                        if (e == entity.getRidingEntity() && !entity.canRiderInteract()) {
-                                            if (reachDistance == 0.0D) {
-                                                entityOut = e;
-                                            }
-                                        } else {
-                                            entityOut = e;
-                                            reachDistance = distance;
-                                        }
-                                    }
-                                }
-                            }
-                        }
+                        entityOut = LookTargetCache.getInstance().getTargetEntity((EntityLivingBase) a.getRawValue().get());
                     }
                     return ValueObjectTypeEntity.ValueEntity.of(entityOut);
                 }
@@ -2028,7 +1976,7 @@ public final class Operators {
     /**
      * The amount of fluid in the fluidstack
      */
-    public static final IOperator OBJECT_FLUIDSTACK_AMOUNT = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_FLUIDSTACK_AMOUNT = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.INTEGER).symbolOperator("amount")
             .function(OperatorBuilders.FUNCTION_FLUIDSTACK_TO_INT.build(new IOperatorValuePropagator<FluidStack, Integer>() {
                 @Override
@@ -2040,7 +1988,7 @@ public final class Operators {
     /**
      * The block from the fluidstack
      */
-    public static final IOperator OBJECT_FLUIDSTACK_BLOCK = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_FLUIDSTACK_BLOCK = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.OBJECT_BLOCK).symbolOperator("block")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -2053,7 +2001,7 @@ public final class Operators {
     /**
      * The fluidstack luminosity
      */
-    public static final IOperator OBJECT_FLUIDSTACK_LUMINOSITY = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_FLUIDSTACK_LUMINOSITY = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.INTEGER).symbolOperator("luminosity")
             .function(OperatorBuilders.FUNCTION_FLUIDSTACK_TO_INT.build(new IOperatorValuePropagator<FluidStack, Integer>() {
                 @Override
@@ -2065,7 +2013,7 @@ public final class Operators {
     /**
      * The fluidstack density
      */
-    public static final IOperator OBJECT_FLUIDSTACK_DENSITY = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_FLUIDSTACK_DENSITY = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.INTEGER).symbolOperator("density")
             .function(OperatorBuilders.FUNCTION_FLUIDSTACK_TO_INT.build(new IOperatorValuePropagator<FluidStack, Integer>() {
                 @Override
@@ -2077,7 +2025,7 @@ public final class Operators {
     /**
      * The fluidstack viscosity
      */
-    public static final IOperator OBJECT_FLUIDSTACK_VISCOSITY = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_FLUIDSTACK_VISCOSITY = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.INTEGER).symbolOperator("viscosity")
             .function(OperatorBuilders.FUNCTION_FLUIDSTACK_TO_INT.build(new IOperatorValuePropagator<FluidStack, Integer>() {
                 @Override
@@ -2089,7 +2037,7 @@ public final class Operators {
     /**
      * If the fluidstack is gaseous
      */
-    public static final IOperator OBJECT_FLUIDSTACK_ISGASEOUS = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_FLUIDSTACK_ISGASEOUS = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.BOOLEAN).symbolOperator("isgaseous")
             .function(OperatorBuilders.FUNCTION_FLUIDSTACK_TO_BOOLEAN.build(new IOperatorValuePropagator<FluidStack, Boolean>() {
                 @Override
@@ -2101,7 +2049,7 @@ public final class Operators {
     /**
      * The rarity of the fluidstack
      */
-    public static final IOperator OBJECT_FLUIDSTACK_RARITY = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+    public static final IOperator OBJECT_FLUIDSTACK_RARITY = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG.pure()
             .output(ValueTypes.STRING).symbolOperator("rarity")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -2114,7 +2062,7 @@ public final class Operators {
     /**
      * If the fluid types of the two given fluidstacks are equal
      */
-    public static final IOperator OBJECT_FLUIDSTACK_ISRAWFLUIDEQUAL = REGISTRY.register(OperatorBuilders.FLUIDSTACK_2
+    public static final IOperator OBJECT_FLUIDSTACK_ISRAWFLUIDEQUAL = REGISTRY.register(OperatorBuilders.FLUIDSTACK_2.pure()
             .output(ValueTypes.BOOLEAN).symbol("=Raw=").operatorName("israwfluidequal")
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -2134,7 +2082,7 @@ public final class Operators {
     /**
      * The name of the mod owning this fluid
      */
-    public static final IOperator OBJECT_FLUIDSTACK_MODNAME = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG.output(ValueTypes.STRING).symbolOperator("mod")
+    public static final IOperator OBJECT_FLUIDSTACK_MODNAME = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG.pure().output(ValueTypes.STRING).symbolOperator("mod")
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -0,0 +1,139 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes values to NBT in a background thread.
+ * Values must be materialized on the server thread before they are passed to this,
+ * so that writing them does not depend on the world anymore.
+ * @author rubensworks
+ */
+public final class AsyncValueWriter {
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Integrated Dynamics value writer");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private AsyncValueWriter() {
+
+    }
+
+    /**
+     * Start writing the given value.
+     * @param value A materialized value.
+     * @return The job that is writing the value.
+     */
+    public static Job write(IValue value) {
+        Job job = new Job(value);
+        job.future = EXECUTOR.submit(job);
+        return job;
+    }
+
+    /**
+     * A value that is being written.
+     */
+    public static class Job implements Callable<NBTBase> {
+
+        private final IValue value;
+        private final int length;
+        private final AtomicInteger progress = new AtomicInteger();
+        private volatile int size = -1;
+        private Future<NBTBase> future;
+
+        protected Job(IValue value) {
+            this.value = value;
+            int length = 1;
+            if (value instanceof ValueTypeList.ValueList) {
+                try {
+                    length = Math.max(1, ((ValueTypeList.ValueList) value).getRawValue().getLength());
+                } catch (EvaluationException e) {
+                    // The length is only used for reporting progress.
+                }
+            }
+            this.length = length;
+        }
+
+        @Override
+        public NBTBase call() throws IOException {
+            NBTTagCompound tag = new NBTTagCompound();
+            ValueHelpers.writeValue(tag, "value", value, progress);
+            CountingOutputStream counter = new CountingOutputStream(ByteStreams.nullOutputStream());
+            CompressedStreamTools.write(tag, new DataOutputStream(counter));
+            size = (int) Math.min(Integer.MAX_VALUE, counter.getCount());
+            return tag.getTag("value");
+        }
+
+        /**
+         * @return The value that is being written.
+         */
+        public IValue getValue() {
+            return value;
+        }
+
+        /**
+         * @return If writing has finished, either successfully or not.
+         */
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        /**
+         * @return The writing progress, from 0 to 100.
+         */
+        public int getProgress() {
+            return isDone() ? 100 : Math.min(99, progress.get() * 100 / length);
+        }
+
+        /**
+         * @return The size of the written value in bytes, or -1 if it has not been written yet.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Get the written value, this may only be called when this job is done.
+         * @return The NBT tag of the value.
+         * @throws IOException If the value could not be written.
+         */
+        public NBTBase getResult() throws IOException {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+        }
+
+        /**
+         * Stop writing the value.
+         */
+        public void cancel() {
+            future.cancel(true);
+        }
+
+    }
+
+}
@@ -0,0 +1,150 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+/**
+ * An immutable vector that shares its structure with the vectors it was derived from.
+ * Elements are stored in a 32-way trie with a separate tail array,
+ * so that appending and replacing elements only copies the path to a single leaf,
+ * and lookups take at most log32(n) steps.
+ * @param <E> The element type.
+ * @author rubensworks
+ */
+public final class PersistentVector<E> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, new Object[WIDTH], new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    protected int getTailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    protected Object[] getLeaf(int index) {
+        if (index >= getTailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * @param index An index.
+     * @return The element at the given index.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+        }
+        return (E) getLeaf(index)[index & MASK];
+    }
+
+    /**
+     * @param element An element.
+     * @return A new vector with the given element added at the end.
+     */
+    public PersistentVector<E> append(E element) {
+        if (size - getTailOffset() < WIDTH) {
+            Object[] newTail = new Object[tail.length + 1];
+            System.arraycopy(tail, 0, newTail, 0, tail.length);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            // The trie is full, add a level on top.
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    protected Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] node = parent.clone();
+        Object[] child;
+        if (level == BITS) {
+            child = tailNode;
+        } else {
+            Object[] existingChild = (Object[]) parent[subIndex];
+            child = existingChild != null
+                    ? pushTail(level - BITS, existingChild, tailNode)
+                    : newPath(level - BITS, tailNode);
+        }
+        node[subIndex] = child;
+        return node;
+    }
+
+    protected static Object[] newPath(int level, Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        Object[] path = new Object[WIDTH];
+        path[0] = newPath(level - BITS, node);
+        return path;
+    }
+
+    /**
+     * @param index An index, this may be equal to the size to append an element.
+     * @param element An element.
+     * @return A new vector with the element at the given index replaced.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     */
+    public PersistentVector<E> set(int index, E element) {
+        if (index == size) {
+            return append(element);
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+        }
+        if (index >= getTailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, set(shift, root, index, element), tail);
+    }
+
+    protected static Object[] set(int level, Object[] node, int index, Object element) {
+        Object[] newNode = node.clone();
+        if (level == 0) {
+            newNode[index & MASK] = element;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            newNode[subIndex] = set(level - BITS, (Object[]) node[subIndex], index, element);
+        }
+        return newNode;
+    }
+
+}
@@ -1,15 +1,20 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import net.minecraft.nbt.NBTTagCompound;
+import org.apache.logging.log4j.Level;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 
 import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A collection of helpers for variables, values and value types.
@@ -69,7 +74,7 @@ public class ValueHelpers {
      * @return If they are equal.
      */
     public static boolean areValuesEqual(@Nullable IValue v1, @Nullable IValue v2) {
-        return v1 == null && v2 == null || (!(v1 == null || v2 == null) && v1.equals(v2));
+        return v1 == v2 || (!(v1 == null || v2 == null) && v1.equals(v2));
     }
 
     /**
@@ -106,7 +111,7 @@ public class ValueHelpers {
     public static NBTTagCompound serialize(IValue value) {
         NBTTagCompound tag = new NBTTagCompound();
         tag.setString("valueType", value.getType().getUnlocalizedName());
-        tag.setString("value", value.getType().serialize(value));
+        writeValue(tag, "value", value);
         return tag;
     }
 
@@ -120,7 +125,68 @@ public class ValueHelpers {
         if (valueType == null) {
             return null;
         }
-        return valueType.deserialize(tag.getString("value"));
+        return readValue(tag, "value", valueType);
+    }
+
+    /**
+     * Write the given value in the given NBT tag.
+     * Lists that can be streamed are written element by element, other values are written as serialized string.
+     * @param tag The NBT tag to write to.
+     * @param key The key to write the value at.
+     * @param value The value.
+     */
+    public static void writeValue(NBTTagCompound tag, String key, IValue value) {
+        writeValue(tag, key, value, null);
+    }
+
+    /**
+     * Write the given value in the given NBT tag.
+     * Lists that can be streamed are written element by element, other values are written as serialized string.
+     * @param tag The NBT tag to write to.
+     * @param key The key to write the value at.
+     * @param value The value.
+     * @param progress An optional counter that is incremented for each written element if the value is a streamed list.
+     */
+    public static void writeValue(NBTTagCompound tag, String key, IValue value, @Nullable AtomicInteger progress) {
+        if (value instanceof ValueTypeList.ValueList
+                && ValueTypeListCodec.isStreamable(((ValueTypeList.ValueList) value).getRawValue())) {
+            try {
+                tag.setTag(key, ValueTypeListCodec.write(((ValueTypeList.ValueList) value).getRawValue(), progress));
+                return;
+            } catch (IValueTypeListProxyFactoryTypeRegistry.SerializationException e) {
+                IntegratedDynamics.clog(Level.WARN, "Could not stream a list value: " + e.getMessage());
+            }
+        }
+        tag.setString(key, value.getType().serialize(value));
+    }
+
+    /**
+     * @param tag An NBT tag.
+     * @param key A key.
+     * @return If a value was written at the given key using {@link #writeValue(NBTTagCompound, String, IValue)}.
+     */
+    public static boolean hasValue(NBTTagCompound tag, String key) {
+        return tag.hasKey(key, MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())
+                || tag.hasKey(key, MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
+    }
+
+    /**
+     * Read a value that was written using {@link #writeValue(NBTTagCompound, String, IValue)}.
+     * @param tag The NBT tag to read from.
+     * @param key The key to read the value from.
+     * @param valueType The value type.
+     * @return The value.
+     */
+    public static IValue readValue(NBTTagCompound tag, String key, IValueType valueType) {
+        if (tag.hasKey(key, MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal())) {
+            try {
+                return ValueTypeList.ValueList.ofFactory(ValueTypeListCodec.read(tag.getCompoundTag(key)));
+            } catch (IValueTypeListProxyFactoryTypeRegistry.SerializationException e) {
+                IntegratedDynamics.clog(Level.ERROR, "Could not read a list value: " + e.getMessage());
+                return valueType.getDefault();
+            }
+        }
+        return valueType.deserialize(tag.getString(key));
     }
 
 }
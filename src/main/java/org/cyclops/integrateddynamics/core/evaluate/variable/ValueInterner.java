@@ -0,0 +1,123 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * Canonicalizes equal values into shared instances, so that they can be compared by reference.
+ * Canonical instances are only weakly referenced, so unused values can still be garbage collected.
+ *
+ * Lookups happen on the raw value, so no value has to be created for values that were already interned.
+ * The hash of a raw value should be cheap, for example based on the identity of its item or fluid,
+ * values with the same hash are told apart by {@link #isEqual(Object, IValue)}.
+ * The values are spread over multiple independently locked segments.
+ * @param <R> The raw value type.
+ * @param <V> The value type.
+ * @author rubensworks
+ */
+public abstract class ValueInterner<R, V extends IValue> {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment<R, V>[] segments;
+
+    @SuppressWarnings("unchecked")
+    public ValueInterner() {
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            this.segments[i] = new Segment<>();
+        }
+    }
+
+    /**
+     * @param raw A raw value.
+     * @return A cheap hash of the raw value, equal raw values must have equal hashes.
+     */
+    protected abstract int getHash(R raw);
+
+    /**
+     * @param raw A raw value.
+     * @param value An interned value.
+     * @return If the interned value represents the given raw value.
+     */
+    protected abstract boolean isEqual(R raw, V value);
+
+    /**
+     * Create the canonical instance for a raw value that was not interned yet,
+     * this should make sure that the new instance does not share mutable state with the given raw value.
+     * @param raw A raw value.
+     * @return The new value.
+     */
+    protected abstract V create(R raw);
+
+    /**
+     * Get the canonical instance of the given raw value.
+     * @param raw A raw value, this will not be stored.
+     * @return The canonical value that represents the given raw value.
+     */
+    public V intern(R raw) {
+        int hash = getHash(raw);
+        Segment<R, V> segment = segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+        synchronized (segment) {
+            segment.expungeStaleEntries();
+            Entry<V> head = segment.entries.get(hash);
+            for (Entry<V> entry = head; entry != null; entry = entry.next) {
+                V interned = entry.get();
+                if (interned != null && isEqual(raw, interned)) {
+                    return interned;
+                }
+            }
+            V interned = create(raw);
+            segment.entries.put(hash, new Entry<>(interned, hash, head, segment.queue));
+            return interned;
+        }
+    }
+
+    protected static class Segment<R, V> {
+
+        private final TIntObjectMap<Entry<V>> entries = new TIntObjectHashMap<>();
+        private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+
+        @SuppressWarnings("unchecked")
+        protected void expungeStaleEntries() {
+            Reference<? extends V> reference;
+            while ((reference = queue.poll()) != null) {
+                Entry<V> stale = (Entry<V>) reference;
+                Entry<V> previous = null;
+                for (Entry<V> entry = entries.get(stale.hash); entry != null; entry = entry.next) {
+                    if (entry == stale) {
+                        if (previous != null) {
+                            previous.next = entry.next;
+                        } else if (entry.next != null) {
+                            entries.put(stale.hash, entry.next);
+                        } else {
+                            entries.remove(stale.hash);
+                        }
+                        break;
+                    }
+                    previous = entry;
+                }
+            }
+        }
+
+    }
+
+    protected static class Entry<V> extends WeakReference<V> {
+
+        private final int hash;
+        private Entry<V> next;
+
+        public Entry(V value, int hash, Entry<V> next, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.hash = hash;
+            this.next = next;
+        }
+
+    }
+
+}
@@ -102,12 +102,40 @@ public class ValueObjectTypeBlock extends ValueObjectTypeBase<ValueObjectTypeBlo
     @ToString
     public static class ValueBlock extends ValueOptionalBase<IBlockState> {
 
+        private static final ValueBlock NULL = new ValueBlock(null);
+        private static final ValueInterner<IBlockState, ValueBlock> INTERNER = new ValueInterner<IBlockState, ValueBlock>() {
+            @Override
+            protected int getHash(IBlockState blockState) {
+                return 31 * System.identityHashCode(blockState.getBlock()) + blockState.getBlock().getMetaFromState(blockState);
+            }
+
+            @Override
+            protected boolean isEqual(IBlockState blockState, ValueBlock value) {
+                IBlockState interned = value.getRawValue().get();
+                return blockState.getBlock() == interned.getBlock()
+                        && blockState.getBlock().getMetaFromState(blockState) == interned.getBlock().getMetaFromState(interned);
+            }
+
+            @Override
+            protected ValueBlock create(IBlockState blockState) {
+                return new ValueBlock(blockState);
+            }
+        };
+
         private ValueBlock(IBlockState blockState) {
             super(ValueTypes.OBJECT_BLOCK, blockState);
         }
 
+        /**
+         * Get the canonical value for the given blockstate.
+         * @param blockState A blockstate.
+         * @return The shared value.
+         */
         public static ValueBlock of(IBlockState blockState) {
-            return new ValueBlock(blockState);
+            if (blockState == null) {
+                return NULL;
+            }
+            return INTERNER.intern(blockState);
         }
 
         @Override
@@ -116,6 +144,11 @@ public class ValueObjectTypeBlock extends ValueObjectTypeBase<ValueObjectTypeBlo
             Block blockB = b.getBlock();
             return blockA == blockB && blockA.getMetaFromState(a) == blockB.getMetaFromState(b);
         }
+
+        @Override
+        protected int getValueHash(IBlockState value) {
+            return 31 * Block.getIdFromBlock(value.getBlock()) + value.getBlock().getMetaFromState(value);
+        }
     }
 
 }
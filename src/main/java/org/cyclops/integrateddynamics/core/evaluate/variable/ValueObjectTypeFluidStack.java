@@ -89,12 +89,44 @@ public class ValueObjectTypeFluidStack extends ValueObjectTypeBase<ValueObjectTy
     @ToString
     public static class ValueFluidStack extends ValueOptionalBase<FluidStack> {
 
+        private static final ValueFluidStack NULL = new ValueFluidStack(null);
+        private static final ValueInterner<FluidStack, ValueFluidStack> INTERNER = new ValueInterner<FluidStack, ValueFluidStack>() {
+            @Override
+            protected int getHash(FluidStack fluidStack) {
+                // The tag is hashed as well, so that stacks that only differ in their tag do not all end up in one chain.
+                int hash = 31 * System.identityHashCode(fluidStack.getFluid()) + fluidStack.amount;
+                if (fluidStack.tag != null) {
+                    hash = 31 * hash + fluidStack.tag.hashCode();
+                }
+                return hash;
+            }
+
+            @Override
+            protected boolean isEqual(FluidStack fluidStack, ValueFluidStack value) {
+                return fluidStack.isFluidStackIdentical(value.getRawValue().get());
+            }
+
+            @Override
+            protected ValueFluidStack create(FluidStack fluidStack) {
+                return new ValueFluidStack(fluidStack.copy());
+            }
+        };
+
         private ValueFluidStack(FluidStack fluidStack) {
             super(ValueTypes.OBJECT_FLUIDSTACK, fluidStack);
         }
 
+        /**
+         * Get the canonical value for the given stack.
+         * The stack is copied when it is not interned yet, and the stack inside the returned value must not be modified.
+         * @param fluidStack A fluidstack.
+         * @return The shared value.
+         */
         public static ValueFluidStack of(FluidStack fluidStack) {
-            return new ValueFluidStack(fluidStack);
+            if (fluidStack == null) {
+                return NULL;
+            }
+            return INTERNER.intern(fluidStack);
         }
 
         @Override
@@ -2,6 +2,7 @@ package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import com.google.common.base.Optional;
 import lombok.ToString;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.JsonToNBT;
 import net.minecraft.nbt.NBTException;
@@ -93,18 +94,63 @@ public class ValueObjectTypeItemStack extends ValueObjectTypeBase<ValueObjectTyp
     @ToString
     public static class ValueItemStack extends ValueOptionalBase<ItemStack> {
 
+        private static final ValueItemStack NULL = new ValueItemStack(null);
+        private static final ValueInterner<ItemStack, ValueItemStack> INTERNER = new ValueInterner<ItemStack, ValueItemStack>() {
+            @Override
+            protected int getHash(ItemStack itemStack) {
+                // The tag is hashed as well, so that stacks that only differ in their tag do not all end up in one chain.
+                int hash = System.identityHashCode(itemStack.getItem());
+                hash = 31 * hash + itemStack.getItemDamage();
+                hash = 31 * hash + itemStack.stackSize;
+                if (itemStack.hasTagCompound()) {
+                    hash = 31 * hash + itemStack.getTagCompound().hashCode();
+                }
+                return hash;
+            }
+
+            @Override
+            protected boolean isEqual(ItemStack itemStack, ValueItemStack value) {
+                return ItemStackHelpers.areItemStacksIdentical(itemStack, value.getRawValue().get());
+            }
+
+            @Override
+            protected ValueItemStack create(ItemStack itemStack) {
+                return new ValueItemStack(ItemStack.copyItemStack(itemStack));
+            }
+        };
+
         private ValueItemStack(ItemStack itemStack) {
             super(ValueTypes.OBJECT_ITEMSTACK, itemStack);
         }
 
+        /**
+         * Get the canonical value for the given stack.
+         * The stack is copied when it is not interned yet, and the stack inside the returned value must not be modified.
+         * @param itemStack An itemstack.
+         * @return The shared value.
+         */
         public static ValueItemStack of(ItemStack itemStack) {
-            return new ValueItemStack(itemStack);
+            if (itemStack == null) {
+                return NULL;
+            }
+            return INTERNER.intern(itemStack);
         }
 
         @Override
         protected boolean isEqual(ItemStack a, ItemStack b) {
             return ItemStackHelpers.areItemStacksIdentical(a, b);
         }
+
+        @Override
+        protected int getValueHash(ItemStack value) {
+            int hash = Item.getIdFromItem(value.getItem());
+            hash = 31 * hash + value.getItemDamage();
+            hash = 31 * hash + value.stackSize;
+            if (value.hasTagCompound()) {
+                hash = 31 * hash + value.getTagCompound().hashCode();
+            }
+            return hash;
+        }
     }
 
 }
@@ -10,10 +10,12 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 public abstract class ValueOptionalBase<T> extends ValueBase {
 
     private final Optional<T> value;
+    private final int hash;
 
     public ValueOptionalBase(IValueType type, T value) {
         super(type);
         this.value = Optional.fromNullable(value);
+        this.hash = type.hashCode() + (value != null ? getValueHash(value) : 0);
     }
 
     /**
@@ -26,7 +28,10 @@ public abstract class ValueOptionalBase<T> extends ValueBase {
     @SuppressWarnings("unchecked")
     @Override
     public boolean equals(Object o) {
-        if((o instanceof ValueOptionalBase) && getType() == ((ValueOptionalBase) o).getType()) {
+        if (o == this) {
+            return true;
+        }
+        if((o instanceof ValueOptionalBase) && hash == o.hashCode() && getType() == ((ValueOptionalBase) o).getType()) {
             if (((ValueOptionalBase) o).getRawValue().isPresent() && getRawValue().isPresent()) {
                 return isEqual(((ValueOptionalBase<T>) o).getRawValue().get(), getRawValue().get());
             } else if (!((ValueOptionalBase) o).getRawValue().isPresent() && !getRawValue().isPresent()) {
@@ -38,9 +43,19 @@ public abstract class ValueOptionalBase<T> extends ValueBase {
 
     protected abstract boolean isEqual(T a, T b);
 
+    /**
+     * Calculate the hash of a raw value, this must be consistent with {@link #isEqual(Object, Object)}.
+     * This is called from the constructor, so it must not depend on any fields of subclasses.
+     * @param value A raw value.
+     * @return The hash code.
+     */
+    protected int getValueHash(T value) {
+        return value.hashCode();
+    }
+
     @Override
     public int hashCode() {
-        return getType().hashCode() + (getRawValue().isPresent() ? getRawValue().get().hashCode() : 0);
+        return hash;
     }
 
 }
@@ -0,0 +1,128 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes lists to NBT element by element, instead of as one serialized string.
+ * This avoids building and escaping a string of the whole list, which becomes expensive for large lists.
+ *
+ * Only lists that are plain values of a concrete value type are streamed,
+ * other lists, such as lists that refer to the world, are stored as their serialized proxy.
+ * @author rubensworks
+ */
+public final class ValueTypeListCodec {
+
+    private ValueTypeListCodec() {
+
+    }
+
+    /**
+     * @param list A list.
+     * @return If the given list can be written element by element.
+     */
+    public static boolean isStreamable(IValueTypeListProxy list) {
+        return (list instanceof ValueTypeListProxyMaterialized || list instanceof ValueTypeListProxyVector)
+                && !list.getValueType().isCategory();
+    }
+
+    /**
+     * Write the given list to NBT.
+     * @param list A list.
+     * @return The NBT tag.
+     * @throws IValueTypeListProxyFactoryTypeRegistry.SerializationException If the list could not be serialized.
+     */
+    public static NBTTagCompound write(IValueTypeListProxy<IValueType<IValue>, IValue> list) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        return write(list, null);
+    }
+
+    /**
+     * Write the given list to NBT.
+     * @param list A list.
+     * @param progress An optional counter that is incremented for each written element of the list.
+     * @return The NBT tag.
+     * @throws IValueTypeListProxyFactoryTypeRegistry.SerializationException If the list could not be serialized.
+     */
+    @SuppressWarnings("unchecked")
+    public static NBTTagCompound write(IValueTypeListProxy<IValueType<IValue>, IValue> list,
+                                       @Nullable AtomicInteger progress) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        NBTTagCompound tag = new NBTTagCompound();
+        if (!isStreamable(list)) {
+            tag.setString("proxy", ValueTypeListProxyFactories.REGISTRY.serialize(list));
+            return tag;
+        }
+        IValueType<IValue> valueType = list.getValueType();
+        boolean nestedLists = valueType == (IValueType) ValueTypes.LIST;
+        NBTTagList values = new NBTTagList();
+        try {
+            int length = list.getLength();
+            for (int i = 0; i < length; i++) {
+                IValue value = list.get(i);
+                if (nestedLists) {
+                    values.appendTag(write(((ValueTypeList.ValueList) value).getRawValue()));
+                } else {
+                    values.appendTag(new NBTTagString(valueType.serialize(value)));
+                }
+                if (progress != null) {
+                    progress.incrementAndGet();
+                }
+            }
+        } catch (EvaluationException e) {
+            throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(e.getMessage());
+        }
+        tag.setString("name", list.getName());
+        tag.setString("valueType", valueType.getUnlocalizedName());
+        tag.setTag("values", values);
+        return tag;
+    }
+
+    /**
+     * Read a list from NBT.
+     * @param tag The NBT tag.
+     * @return The list.
+     * @throws IValueTypeListProxyFactoryTypeRegistry.SerializationException If the list could not be deserialized.
+     */
+    public static IValueTypeListProxy<IValueType<IValue>, IValue> read(NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        if (tag.hasKey("proxy", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())) {
+            return ValueTypeListProxyFactories.REGISTRY.deserialize(tag.getString("proxy"));
+        }
+        IValueType<IValue> valueType = ValueTypes.REGISTRY.getValueType(tag.getString("valueType"));
+        if (valueType == null) {
+            throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(String.format(
+                    "Could not read the list because the value type by name '%s' was not found.", tag.getString("valueType")));
+        }
+        boolean nestedLists = valueType == (IValueType) ValueTypes.LIST;
+        NBTTagList values = tag.getTagList("values", nestedLists
+                ? MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal()
+                : MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal());
+        boolean vector = ValueTypeListProxyFactories.VECTOR.getName().equals(tag.getString("name"));
+        ImmutableList.Builder<IValue> listBuilder = vector ? null : ImmutableList.<IValue>builder();
+        PersistentVector<IValue> vectorBuilder = PersistentVector.empty();
+        for (int i = 0; i < values.tagCount(); i++) {
+            IValue value = nestedLists
+                    ? ValueTypeList.ValueList.ofFactory(read(values.getCompoundTagAt(i)))
+                    : valueType.deserialize(values.getStringTagAt(i));
+            if (vector) {
+                vectorBuilder = vectorBuilder.append(value);
+            } else {
+                listBuilder.add(value);
+            }
+        }
+        if (vector) {
+            return new ValueTypeListProxyVector<>(valueType, vectorBuilder);
+        }
+        return new ValueTypeListProxyMaterialized<>(valueType, listBuilder.build());
+    }
+
+}
@@ -12,27 +12,25 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyF
  * @param <T> The value type type.
  * @param <V> The value type.
  */
-public class ValueTypeListProxyAppend<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
+public class ValueTypeListProxyAppend<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyNested<T, V> {
 
-    private final IValueTypeListProxy<T, V> list;
     private final V value;
 
     public ValueTypeListProxyAppend(IValueTypeListProxy<T, V> list, V value) {
-        super(ValueTypeListProxyFactories.APPEND.getName(), list.getValueType());
-        this.list = list;
+        super(ValueTypeListProxyFactories.APPEND.getName(), list);
         this.value = value;
     }
 
     @Override
     public int getLength() throws EvaluationException {
-        return list.getLength() + 1;
+        return getList().getLength() + 1;
     }
 
     @Override
     public V get(int index) throws EvaluationException {
-        int listLength = list.getLength();
+        int listLength = getList().getLength();
         if (index < listLength) {
-            return list.get(index);
+            return getList().get(index);
         } else if (index == listLength) {
             return value;
         }
@@ -50,7 +48,7 @@ public class ValueTypeListProxyAppend<T extends IValueType<V>, V extends IValue>
         protected void serializeNbt(ValueTypeListProxyAppend<IValueType<IValue>, IValue> value, NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
             tag.setString("valueType", value.value.getType().getUnlocalizedName());
             tag.setString("value", value.value.getType().serialize(value.value));
-            tag.setString("sublist", ValueTypeListProxyFactories.REGISTRY.serialize(value.list));
+            tag.setString("sublist", ValueTypeListProxyFactories.REGISTRY.serialize(value.getList()));
         }
 
         @Override
@@ -58,13 +58,19 @@ public abstract class ValueTypeListProxyBase<T extends IValueType<V>, V extends
         return new ValueTypeList.ListFactoryIterator<>(this);
     }
 
+    /**
+     * Lists are equal if they contain equal elements, regardless of the kind of list.
+     */
     @Override
     public boolean equals(Object obj) {
+        if(obj == this) {
+            return true;
+        }
         if(obj == null || !(obj instanceof ValueTypeListProxyBase)) {
             return false;
         }
         ValueTypeListProxyBase other = (ValueTypeListProxyBase) obj;
-        if(!getName().equals(other.getName()) || !(getValueType() == other.getValueType())) {
+        if(!(getValueType() == other.getValueType())) {
             return false;
         }
         // Avoid infinite iteration
@@ -77,6 +83,17 @@ public abstract class ValueTypeListProxyBase<T extends IValueType<V>, V extends
         return Arrays.equals(o, o2);
     }
 
+    @Override
+    public int hashCode() {
+        int hash = getValueType().hashCode();
+        if (!isInfinite()) {
+            for (V value : this) {
+                hash = 31 * hash + (value == null ? 0 : value.hashCode());
+            }
+        }
+        return hash;
+    }
+
     @Override
     public boolean isInfinite() {
         return false;
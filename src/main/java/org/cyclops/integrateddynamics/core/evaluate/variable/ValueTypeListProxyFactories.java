@@ -31,6 +31,7 @@ public class ValueTypeListProxyFactories {
     public static ValueTypeListProxyLazyBuilt.Factory LAZY_BUILT;
     public static ValueTypeListProxyTail.Factory TAIL;
     public static ValueTypeListProxySlice.Factory SLICE;
+    public static ValueTypeListProxyVector.Factory VECTOR;
 
     public static void load() {
         if(MATERIALIZED == null) {
@@ -44,6 +45,7 @@ public class ValueTypeListProxyFactories {
             LAZY_BUILT = REGISTRY.register(new ValueTypeListProxyLazyBuilt.Factory());
             TAIL = REGISTRY.register(new ValueTypeListProxyTail.Factory());
             SLICE = REGISTRY.register(new ValueTypeListProxySlice.Factory());
+            VECTOR = REGISTRY.register(new ValueTypeListProxyVector.Factory());
         }
     }
 
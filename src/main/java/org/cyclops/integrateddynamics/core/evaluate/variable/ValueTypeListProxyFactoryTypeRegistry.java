@@ -1,11 +1,13 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -14,9 +16,8 @@ import java.util.Map;
  */
 public class ValueTypeListProxyFactoryTypeRegistry implements IValueTypeListProxyFactoryTypeRegistry {
 
-    private static final String TYPE_DELIMITER = ";";
-    private static final String TYPE_DELIMITER_SPLITREGEX = "(?<!\\\\);";
-    private static final String TYPE_DELIMITER_ESCAPED = "\\\\;";
+    private static final char TYPE_DELIMITER = ';';
+    private static final char ESCAPE = '\\';
 
     private static ValueTypeListProxyFactoryTypeRegistry INSTANCE = new ValueTypeListProxyFactoryTypeRegistry();
 
@@ -55,21 +56,82 @@ public class ValueTypeListProxyFactoryTypeRegistry implements IValueTypeListProx
             throw new SerializationException(String.format("No serialization factory exists for the list proxy type name '%s'.", proxy.getName()));
         }
         String serialized = factory.serialize(proxy);
-        return proxy.getName() + TYPE_DELIMITER + serialized.replaceAll(TYPE_DELIMITER, TYPE_DELIMITER_ESCAPED);
+        StringBuilder sb = new StringBuilder(proxy.getName().length() + 1 + serialized.length());
+        sb.append(proxy.getName()).append(TYPE_DELIMITER);
+        appendEscaped(sb, serialized);
+        return sb.toString();
     }
 
     @Override
     public <T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V>> P deserialize(String value) throws SerializationException {
-        String[] split = value.split(TYPE_DELIMITER_SPLITREGEX);
-        if(split.length != 2) {
+        List<String> split = splitUnescaped(value);
+        if(split.size() != 2) {
             throw new SerializationException(String.format("Could not deserialize the serialized list proxy value '%s'.", value));
         }
-        String name = split[0];
-        String actualValue = split[1].replaceAll(TYPE_DELIMITER_ESCAPED, TYPE_DELIMITER);
+        String name = split.get(0);
+        String actualValue = unescape(split.get(1));
         IProxyFactory<T, V, P> factory = getFactory(name);
         if(factory == null) {
             throw new SerializationException(String.format("No deserialization factory exists for the list proxy type name '%s'.", name));
         }
         return factory.deserialize(actualValue);
     }
+
+    /**
+     * Append the given value to the given builder, with all delimiters escaped.
+     * @param sb The string builder.
+     * @param value The value to escape.
+     */
+    public static void appendEscaped(StringBuilder sb, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == TYPE_DELIMITER) {
+                sb.append(ESCAPE);
+            }
+            sb.append(c);
+        }
+    }
+
+    /**
+     * Undo {@link #appendEscaped(StringBuilder, String)}.
+     * @param value An escaped value.
+     * @return The unescaped value.
+     */
+    public static String unescape(String value) {
+        if (value.indexOf(ESCAPE) < 0) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!(c == ESCAPE && i + 1 < value.length() && value.charAt(i + 1) == TYPE_DELIMITER)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Split the given value at all unescaped delimiters.
+     * Just like {@link String#split(String)}, trailing empty parts are removed.
+     * @param value A value.
+     * @return The parts.
+     */
+    public static List<String> splitUnescaped(String value) {
+        List<String> parts = Lists.newArrayList();
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == TYPE_DELIMITER && (i == 0 || value.charAt(i - 1) != ESCAPE)) {
+                parts.add(value.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(value.substring(start));
+        if (parts.size() > 1) {
+            while (!parts.isEmpty() && parts.get(parts.size() - 1).isEmpty()) {
+                parts.remove(parts.size() - 1);
+            }
+        }
+        return parts;
+    }
 }
@@ -5,15 +5,15 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
 
+import java.util.List;
+
 /**
  * Factory for {@link ValueTypeListProxyMaterialized}.
  * @author rubensworks
  */
 public class ValueTypeListProxyMaterializedFactory implements IValueTypeListProxyFactoryTypeRegistry.IProxyFactory<IValueType<IValue>, IValue, ValueTypeListProxyMaterialized<IValueType<IValue>, IValue>> {
 
-    private static final String ELEMENT_DELIMITER = ";";
-    private static final String ELEMENT_DELIMITER_SPLITREGEX = "(?<!\\\\);";
-    private static final String ELEMENT_DELIMITER_ESCAPED = "\\\\;";
+    private static final char ELEMENT_DELIMITER = ';';
 
     @Override
     public String getName() {
@@ -27,29 +27,26 @@ public class ValueTypeListProxyMaterializedFactory implements IValueTypeListProx
         sb.append(valueType.getUnlocalizedName());
         for (IValue value : values) {
             sb.append(ELEMENT_DELIMITER);
-            sb.append(valueType.serialize(value).replaceAll(ELEMENT_DELIMITER, ELEMENT_DELIMITER_ESCAPED));
+            ValueTypeListProxyFactoryTypeRegistry.appendEscaped(sb, valueType.serialize(value));
         }
         return sb.toString();
     }
 
     @Override
     public ValueTypeListProxyMaterialized<IValueType<IValue>, IValue> deserialize(String value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
-        String[] split = value.split(ELEMENT_DELIMITER_SPLITREGEX);
-        if (split.length < 1) {
+        List<String> split = ValueTypeListProxyFactoryTypeRegistry.splitUnescaped(value);
+        if (split.size() < 1) {
             throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(String.format("Could not deserialize the serialized materialized list proxy value '%s'.", value));
         }
 
-        String valueTypeName = split[0];
+        String valueTypeName = split.get(0);
         IValueType<IValue> valueType = ValueTypes.REGISTRY.getValueType(valueTypeName);
         if (valueType == null) {
             throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(String.format("Could not deserialize the serialized materialized list proxy value because the value type by name '%s' was not found.", valueTypeName));
         }
-        String[] values = new String[split.length - 1];
-        System.arraycopy(split, 1, values, 0, split.length - 1);
-
         ImmutableList.Builder<IValue> builder = ImmutableList.builder();
-        for (String serializedValue : values) {
-            IValue deserializedValue = valueType.deserialize(serializedValue.replaceAll(ELEMENT_DELIMITER_ESCAPED, ELEMENT_DELIMITER));
+        for (String serializedValue : split.subList(1, split.size())) {
+            IValue deserializedValue = valueType.deserialize(ValueTypeListProxyFactoryTypeRegistry.unescape(serializedValue));
             builder.add(deserializedValue);
         }
 
@@ -0,0 +1,50 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+
+/**
+ * A list that is defined in terms of another list.
+ * The nesting depth is tracked so that long chains can be flattened.
+ * @param <T> The value type type.
+ * @param <V> The value type.
+ */
+public abstract class ValueTypeListProxyNested<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
+
+    private final IValueTypeListProxy<T, V> list;
+    private final int depth;
+    private final boolean immutableSource;
+
+    public ValueTypeListProxyNested(String name, IValueTypeListProxy<T, V> list) {
+        super(name, list.getValueType());
+        this.list = list;
+        if (list instanceof ValueTypeListProxyNested) {
+            ValueTypeListProxyNested<T, V> nested = (ValueTypeListProxyNested<T, V>) list;
+            this.depth = nested.getDepth() + 1;
+            this.immutableSource = nested.hasImmutableSource();
+        } else {
+            this.depth = 1;
+            this.immutableSource = list instanceof ValueTypeListProxyMaterialized || list instanceof ValueTypeListProxyVector;
+        }
+    }
+
+    public IValueTypeListProxy<T, V> getList() {
+        return list;
+    }
+
+    /**
+     * @return The number of nested lists up until the first non-nested list.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Lists that are backed by the world, or that are infinite, are not immutable.
+     * @return If the first non-nested list is finite and can not change over time.
+     */
+    public boolean hasImmutableSource() {
+        return immutableSource;
+    }
+}
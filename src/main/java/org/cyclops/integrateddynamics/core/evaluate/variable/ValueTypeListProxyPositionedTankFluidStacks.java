@@ -1,12 +1,10 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import net.minecraft.util.EnumFacing;
-import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
-import net.minecraftforge.fluids.capability.IFluidHandler;
-import net.minecraftforge.fluids.capability.IFluidTankProperties;
 import org.cyclops.cyclopscore.datastructure.DimPos;
-import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.core.FluidTankSnapshotCache;
 
 /**
  * A list proxy for a tank's fluidstacks at a certain position.
@@ -17,25 +15,17 @@ public class ValueTypeListProxyPositionedTankFluidStacks extends ValueTypeListPr
         super(ValueTypeListProxyFactories.POSITIONED_TANK_FLUIDSTACKS.getName(), ValueTypes.OBJECT_FLUIDSTACK, pos, side);
     }
 
-    protected IFluidHandler getTank() {
-        return TileHelpers.getCapability(getPos(), getSide(), CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
+    protected FluidTankSnapshotCache.Snapshot getTanks() {
+        return FluidTankSnapshotCache.getInstance().getSnapshot(PartPos.of(getPos(), getSide()));
     }
 
     @Override
     public int getLength() {
-        IFluidHandler tank = getTank();
-        if(tank == null) {
-            return 0;
-        }
-        IFluidTankProperties[] tanks = tank.getTankProperties();
-        if(tanks == null) {
-            return 0;
-        }
-        return tanks.length;
+        return getTanks().getTankCount();
     }
 
     @Override
     public ValueObjectTypeFluidStack.ValueFluidStack get(int index) {
-        return ValueObjectTypeFluidStack.ValueFluidStack.of(getTank().getTankProperties()[index].getContents());
+        return getTanks().getFluidStackValue(index);
     }
 }
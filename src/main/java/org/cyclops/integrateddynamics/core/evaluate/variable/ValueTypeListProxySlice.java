@@ -12,28 +12,26 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyF
  * @param <T> The value type type.
  * @param <V> The value type.
  */
-public class ValueTypeListProxySlice<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
+public class ValueTypeListProxySlice<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyNested<T, V> {
 
-    private final IValueTypeListProxy<T, V> list;
     private final int from;
     private final int to;
 
     public ValueTypeListProxySlice(IValueTypeListProxy<T, V> list, int from, int to) {
-        super(ValueTypeListProxyFactories.SLICE.getName(), list.getValueType());
-        this.list = list;
+        super(ValueTypeListProxyFactories.SLICE.getName(), list);
         this.from = from;
         this.to = to;
     }
 
     @Override
     public int getLength() throws EvaluationException {
-        return Math.max(0, Math.min(list.getLength(), this.to) - this.from);
+        return Math.max(0, Math.min(getList().getLength(), this.to) - this.from);
     }
 
     @Override
     public V get(int index) throws EvaluationException {
-        if (index < list.getLength()) {
-            return list.get(this.from + index);
+        if (index < getList().getLength()) {
+            return getList().get(this.from + index);
         }
         return null;
     }
@@ -47,7 +45,7 @@ public class ValueTypeListProxySlice<T extends IValueType<V>, V extends IValue>
 
         @Override
         protected void serializeNbt(ValueTypeListProxySlice<IValueType<IValue>, IValue> value, NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
-            tag.setString("sublist", ValueTypeListProxyFactories.REGISTRY.serialize(value.list));
+            tag.setString("sublist", ValueTypeListProxyFactories.REGISTRY.serialize(value.getList()));
             tag.setInteger("from", value.from);
             tag.setInteger("to", value.to);
         }
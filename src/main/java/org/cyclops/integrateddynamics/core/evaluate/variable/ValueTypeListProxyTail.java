@@ -12,25 +12,23 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyF
  * @param <T> The value type type.
  * @param <V> The value type.
  */
-public class ValueTypeListProxyTail<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
+public class ValueTypeListProxyTail<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyNested<T, V> {
 
-    private final IValueTypeListProxy<T, V> list;
 
     public ValueTypeListProxyTail(IValueTypeListProxy<T, V> list) {
-        super(ValueTypeListProxyFactories.TAIL.getName(), list.getValueType());
-        this.list = list;
+        super(ValueTypeListProxyFactories.TAIL.getName(), list);
     }
 
     @Override
     public int getLength() throws EvaluationException {
-        return Math.max(0, list.getLength() - 1);
+        return Math.max(0, getList().getLength() - 1);
     }
 
     @Override
     public V get(int index) throws EvaluationException {
-        int listLength = list.getLength();
+        int listLength = getList().getLength();
         if (index < listLength - 1) {
-            return list.get(index + 1);
+            return getList().get(index + 1);
         }
         return null;
     }
@@ -44,7 +42,7 @@ public class ValueTypeListProxyTail<T extends IValueType<V>, V extends IValue> e
 
         @Override
         protected void serializeNbt(ValueTypeListProxyTail<IValueType<IValue>, IValue> value, NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
-            tag.setString("sublist", ValueTypeListProxyFactories.REGISTRY.serialize(value.list));
+            tag.setString("sublist", ValueTypeListProxyFactories.REGISTRY.serialize(value.getList()));
         }
 
         @Override
@@ -0,0 +1,173 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
+
+/**
+ * A list that is a view on a range of a {@link PersistentVector}.
+ * Appending, slicing and taking the tail of this list share the underlying vector,
+ * so that these operations and lookups remain logarithmic regardless of how often they are chained.
+ *
+ * Chains of {@link ValueTypeListProxyNested} lists on top of an immutable list are flattened into this list
+ * once they become deeper than {@link #FLATTEN_DEPTH}.
+ * Chains on top of world-backed lists are kept, so that they keep reflecting changes in the world.
+ * @param <T> The value type type.
+ * @param <V> The value type.
+ */
+public class ValueTypeListProxyVector<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
+
+    public static final int FLATTEN_DEPTH = 16;
+
+    private final PersistentVector<V> vector;
+    private final int offset;
+    private final int length;
+
+    public ValueTypeListProxyVector(T valueType, PersistentVector<V> vector, int offset, int length) {
+        super(ValueTypeListProxyFactories.VECTOR.getName(), valueType);
+        this.vector = vector;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public ValueTypeListProxyVector(T valueType, PersistentVector<V> vector) {
+        this(valueType, vector, 0, vector.size());
+    }
+
+    /**
+     * Copy the given finite list into a vector list.
+     * @param list A list.
+     * @param <T> The value type type.
+     * @param <V> The value type.
+     * @return The vector list.
+     * @throws EvaluationException If the list could not be read.
+     */
+    public static <T extends IValueType<V>, V extends IValue> ValueTypeListProxyVector<T, V> of(IValueTypeListProxy<T, V> list) throws EvaluationException {
+        if (list instanceof ValueTypeListProxyVector) {
+            return (ValueTypeListProxyVector<T, V>) list;
+        }
+        PersistentVector<V> vector = PersistentVector.empty();
+        int length = list.getLength();
+        for (int i = 0; i < length; i++) {
+            vector = vector.append(list.get(i));
+        }
+        return new ValueTypeListProxyVector<>(list.getValueType(), vector);
+    }
+
+    protected static <T extends IValueType<V>, V extends IValue> IValueTypeListProxy<T, V> flattenIfDeep(ValueTypeListProxyNested<T, V> list) throws EvaluationException {
+        if (list.getDepth() > FLATTEN_DEPTH && list.hasImmutableSource()) {
+            return of(list);
+        }
+        return list;
+    }
+
+    /**
+     * @param list A list.
+     * @param value The value to append.
+     * @param <T> The value type type.
+     * @param <V> The value type.
+     * @return The list with the given value appended.
+     * @throws EvaluationException If the list could not be read.
+     */
+    public static <T extends IValueType<V>, V extends IValue> IValueTypeListProxy<T, V> append(IValueTypeListProxy<T, V> list, V value) throws EvaluationException {
+        if (list instanceof ValueTypeListProxyVector) {
+            return ((ValueTypeListProxyVector<T, V>) list).append(value);
+        }
+        return flattenIfDeep(new ValueTypeListProxyAppend<>(list, value));
+    }
+
+    /**
+     * @param list A list.
+     * @param <T> The value type type.
+     * @param <V> The value type.
+     * @return The list without its first element.
+     * @throws EvaluationException If the list could not be read.
+     */
+    public static <T extends IValueType<V>, V extends IValue> IValueTypeListProxy<T, V> tail(IValueTypeListProxy<T, V> list) throws EvaluationException {
+        if (list instanceof ValueTypeListProxyVector) {
+            return ((ValueTypeListProxyVector<T, V>) list).slice(1, Integer.MAX_VALUE);
+        }
+        return flattenIfDeep(new ValueTypeListProxyTail<>(list));
+    }
+
+    /**
+     * @param list A list.
+     * @param from The start index, inclusive.
+     * @param to The end index, exclusive.
+     * @param <T> The value type type.
+     * @param <V> The value type.
+     * @return The sliced list.
+     * @throws EvaluationException If the list could not be read.
+     */
+    public static <T extends IValueType<V>, V extends IValue> IValueTypeListProxy<T, V> slice(IValueTypeListProxy<T, V> list, int from, int to) throws EvaluationException {
+        if (list instanceof ValueTypeListProxyVector) {
+            return ((ValueTypeListProxyVector<T, V>) list).slice(from, to);
+        }
+        return flattenIfDeep(new ValueTypeListProxySlice<>(list, from, to));
+    }
+
+    public ValueTypeListProxyVector<T, V> append(V value) {
+        // Elements in the vector beyond this view can safely be overwritten, the vector is immutable.
+        return new ValueTypeListProxyVector<>(getValueType(), vector.set(offset + length, value), offset, length + 1);
+    }
+
+    public ValueTypeListProxyVector<T, V> slice(int from, int to) {
+        int start = Math.min(Math.max(0, from), length);
+        int end = Math.max(start, Math.min(length, to));
+        return new ValueTypeListProxyVector<>(getValueType(), vector, offset + start, end - start);
+    }
+
+    @Override
+    public int getLength() throws EvaluationException {
+        return length;
+    }
+
+    @Override
+    public V get(int index) throws EvaluationException {
+        if (index >= 0 && index < length) {
+            return vector.get(offset + index);
+        }
+        return null;
+    }
+
+    public static class Factory extends ValueTypeListProxyNBTFactorySimple<IValueType<IValue>, IValue, ValueTypeListProxyVector<IValueType<IValue>, IValue>> {
+
+        @Override
+        public String getName() {
+            return "vector";
+        }
+
+        @Override
+        protected void serializeNbt(ValueTypeListProxyVector<IValueType<IValue>, IValue> value, NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            IValueType<IValue> valueType = value.getValueType();
+            NBTTagList values = new NBTTagList();
+            for (int i = 0; i < value.length; i++) {
+                values.appendTag(new NBTTagString(valueType.serialize(value.vector.get(value.offset + i))));
+            }
+            tag.setString("valueType", valueType.getUnlocalizedName());
+            tag.setTag("values", values);
+        }
+
+        @Override
+        protected ValueTypeListProxyVector<IValueType<IValue>, IValue> deserializeNbt(NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            IValueType<IValue> valueType = ValueTypes.REGISTRY.getValueType(tag.getString("valueType"));
+            if (valueType == null) {
+                throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(String.format(
+                        "Could not deserialize the vector list because the value type by name '%s' was not found.",
+                        tag.getString("valueType")));
+            }
+            NBTTagList values = tag.getTagList("values", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal());
+            PersistentVector<IValue> vector = PersistentVector.empty();
+            for (int i = 0; i < values.tagCount(); i++) {
+                vector = vector.append(valueType.deserialize(values.getStringTagAt(i)));
+            }
+            return new ValueTypeListProxyVector<>(valueType, vector);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.cyclops.integrateddynamics.core.helper;
+
+import com.google.common.collect.Lists;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraftforge.common.capabilities.Capability;
+import org.cyclops.integrateddynamics.api.block.cable.ICable;
+import org.cyclops.integrateddynamics.api.network.INetworkCarrier;
+import org.cyclops.integrateddynamics.api.part.IPartContainer;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Direct handles to the cable capabilities at a position.
+ * These are used as a fast path for cables of which the capability lookup is expensive,
+ * such as cables inside multiparts, where each lookup is delegated to all parts in the block.
+ * @author rubensworks
+ */
+public final class CableHandles {
+
+    private static final List<IHandleRetriever> HANDLE_RETRIEVERS = Lists.newArrayList();
+
+    /**
+     * Add a handle retriever.
+     * @param handleRetriever The handle retriever.
+     */
+    public static void addHandleRetriever(IHandleRetriever handleRetriever) {
+        HANDLE_RETRIEVERS.add(handleRetriever);
+    }
+
+    /**
+     * Get the cable handle of the given tile.
+     * @param world The world.
+     * @param pos The position.
+     * @param tile The tile at the given position, looked up by the caller so that it can be reused.
+     * @return The handle or null if no retriever has a handle for this tile,
+     *         in which case the capabilities must be taken from the tile in the regular way.
+     */
+    public static @Nullable ICableHandle getHandle(IBlockAccess world, BlockPos pos, TileEntity tile) {
+        for (IHandleRetriever handleRetriever : HANDLE_RETRIEVERS) {
+            ICableHandle handle = handleRetriever.getHandle(world, pos, tile);
+            if (handle != null) {
+                return handle;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get a capability of the given tile.
+     * @param tile A tile.
+     * @param capability The capability.
+     * @param <T> The capability type.
+     * @return The capability, or null if not present.
+     */
+    public static @Nullable <T> T getCapability(TileEntity tile, Capability<T> capability) {
+        return tile.hasCapability(capability, null) ? tile.getCapability(capability, null) : null;
+    }
+
+    /**
+     * Direct access to the capabilities of a cable.
+     */
+    public static interface ICableHandle {
+
+        public IPartContainer getPartContainer();
+
+        public ICable getCable();
+
+        public INetworkCarrier getNetworkCarrier();
+
+    }
+
+    /**
+     * Retrieves handles for positions.
+     */
+    public static interface IHandleRetriever {
+
+        /**
+         * This should first cheaply check if the tile is of a type that this retriever handles.
+         * @param world The world.
+         * @param pos The position.
+         * @param tile The tile at the given position.
+         * @return The handle of the given tile or null.
+         */
+        public @Nullable ICableHandle getHandle(IBlockAccess world, BlockPos pos, TileEntity tile);
+
+    }
+
+}
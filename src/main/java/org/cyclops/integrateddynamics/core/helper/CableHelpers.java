@@ -6,6 +6,7 @@ import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
@@ -47,7 +48,15 @@ public class CableHelpers {
      * @return The cable capability, or null if not present.
      */
     public static @Nullable ICable getCable(IBlockAccess world, BlockPos pos) {
-        return TileHelpers.getCapability(world, pos, CableConfig.CAPABILITY);
+        TileEntity tile = world.getTileEntity(pos);
+        if (tile == null) {
+            return null;
+        }
+        CableHandles.ICableHandle handle = CableHandles.getHandle(world, pos, tile);
+        if (handle != null) {
+            return handle.getCable();
+        }
+        return CableHandles.getCapability(tile, CableConfig.CAPABILITY);
     }
 
     /**
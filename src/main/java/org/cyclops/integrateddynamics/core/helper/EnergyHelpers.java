@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.core.helper;
 
 import com.google.common.collect.Lists;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
@@ -12,6 +13,7 @@ import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.api.part.PartPos;
 
 import javax.annotation.Nullable;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -71,8 +73,79 @@ public class EnergyHelpers {
         return energy - toFill;
     }
 
+    /**
+     * Attempty to fill the neighbouring tiles with energy.
+     * @param neighbours The cached energy storages of the filler's neighbours.
+     * @param energy The energy to add.
+     * @param simulate If the filling should be simulated.
+     * @return The amount of energy that was filled somewhere.
+     */
+    public static int fillNeigbours(NeighbourEnergyStorages neighbours, int energy, boolean simulate) {
+        int toFill = energy;
+        for(EnumFacing side : EnumFacing.VALUES) {
+            IEnergyStorage energyStorage = neighbours.getEnergyStorage(side);
+            if(energyStorage != null) {
+                toFill -= energyStorage.receiveEnergy(toFill, simulate);
+                if(toFill <= 0) {
+                    return energy;
+                }
+            }
+        }
+        return energy - toFill;
+    }
+
     public static interface IEnergyStorageProxy {
         public @Nullable IEnergyStorage getEnergyStorageProxy(IBlockAccess world, BlockPos pos, EnumFacing facing);
     }
 
+    /**
+     * Caches the energy storages of the neighbours of a tile,
+     * so that their capabilities and energy storage proxies are not resolved again each tick.
+     * The cache must be invalidated when a neighbouring block changes,
+     * cached neighbours are also checked on each use to still be loaded and present in the world.
+     */
+    public static class NeighbourEnergyStorages {
+
+        private final TileEntity tile;
+        private final TileEntity[] neighbourTiles = new TileEntity[EnumFacing.VALUES.length];
+        private final IEnergyStorage[] energyStorages = new IEnergyStorage[EnumFacing.VALUES.length];
+        private final boolean[] resolved = new boolean[EnumFacing.VALUES.length];
+
+        public NeighbourEnergyStorages(TileEntity tile) {
+            this.tile = tile;
+        }
+
+        /**
+         * Resolve all neighbour energy storages again when they are needed next.
+         */
+        public void invalidate() {
+            Arrays.fill(resolved, false);
+        }
+
+        /**
+         * @param side The side of the neighbour.
+         * @return The energy storage of the neighbour at the given side.
+         */
+        public @Nullable IEnergyStorage getEnergyStorage(EnumFacing side) {
+            World world = tile.getWorld();
+            BlockPos neighbourPos = tile.getPos().offset(side);
+            int i = side.ordinal();
+            // Never load chunks for neighbours, and drop neighbours that were unloaded or replaced.
+            if (!world.isBlockLoaded(neighbourPos)) {
+                resolved[i] = false;
+                neighbourTiles[i] = null;
+                energyStorages[i] = null;
+                return null;
+            }
+            TileEntity neighbourTile = world.getTileEntity(neighbourPos);
+            if (!resolved[i] || neighbourTile != neighbourTiles[i]) {
+                neighbourTiles[i] = neighbourTile;
+                energyStorages[i] = EnergyHelpers.getEnergyStorage(world, neighbourPos, side.getOpposite());
+                resolved[i] = true;
+            }
+            return energyStorages[side.ordinal()];
+        }
+
+    }
+
 }
@@ -63,6 +63,11 @@ public class L10NValues {
     public static final String DELAY_ERROR_DELAYINVALID = "delay." + NS + ".error.delayInvalid";
     public static final String DELAY_ERROR_DELAYINVALIDTYPE = "delay." + NS + ".error.delayInvalidType";
 
+    // 0: size, 1: maximum size
+    public static final String MATERIALIZER_ERROR_TOOLARGE = "materializer." + NS + ".error.tooLarge";
+    public static final String MATERIALIZER_ERROR_WRITEFAILED = "materializer." + NS + ".error.writeFailed";
+    public static final String GUI_MATERIALIZER_PROGRESS = "gui." + NS + ".materializer.progress";
+
     public static final String VARIABLE_ERROR_INVALIDITEM = "variable." + NS + ".error.invalidItem";
     public static final String VARIABLE_ERROR_PARTNOTINNETWORK = "variable." + NS + ".error.partNotInNetwork";
     public static final String VARIABLE_ERROR_RECURSION = "variable." + NS + ".error.recursion";
@@ -2,11 +2,14 @@ package org.cyclops.integrateddynamics.core.helper;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.api.network.*;
+import org.cyclops.integrateddynamics.api.part.PartTarget;
+import org.cyclops.integrateddynamics.api.part.read.IPartTypeReader;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.capability.network.EnergyNetworkConfig;
 import org.cyclops.integrateddynamics.capability.network.NetworkCarrierConfig;
@@ -31,7 +34,15 @@ public class NetworkHelpers {
      */
     @SuppressWarnings("unchecked")
     public static INetworkCarrier getNetworkCarrier(IBlockAccess world, BlockPos pos) {
-        return TileHelpers.getCapability(world, pos, NetworkCarrierConfig.CAPABILITY);
+        TileEntity tile = world.getTileEntity(pos);
+        if (tile == null) {
+            return null;
+        }
+        CableHandles.ICableHandle handle = CableHandles.getHandle(world, pos, tile);
+        if (handle != null) {
+            return handle.getNetworkCarrier();
+        }
+        return CableHandles.getCapability(tile, NetworkCarrierConfig.CAPABILITY);
     }
 
     /**
@@ -118,4 +129,26 @@ public class NetworkHelpers {
         }
     }
 
+    /**
+     * Check if the given network element could make new variables available in its network.
+     * This is used to avoid revalidating variables when unrelated elements are added.
+     * @param networkElement The network element.
+     * @return If the element may provide variables.
+     */
+    public static boolean mayProvideVariables(INetworkElement networkElement) {
+        return !(networkElement instanceof IPartNetworkElement)
+                || ((IPartNetworkElement) networkElement).getPart() instanceof IPartTypeReader;
+    }
+
+    /**
+     * Indicate that the variables the part at the given target depends on may have changed.
+     * @param target The part target.
+     */
+    public static void invalidateVariableDependencies(PartTarget target) {
+        INetwork network = getNetwork(target.getCenter().getPos().getWorld(), target.getCenter().getPos().getBlockPos());
+        if (network != null) {
+            network.getEventBus().invalidateVariableDependencies(target.getCenter());
+        }
+    }
+
 }
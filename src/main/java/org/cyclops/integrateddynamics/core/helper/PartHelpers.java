@@ -4,9 +4,11 @@ import com.google.common.collect.ImmutableMap;
 import lombok.Data;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
+import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
@@ -15,15 +17,16 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.Level;
 import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
-import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.block.cable.ICableFakeable;
+import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
 import org.cyclops.integrateddynamics.api.part.*;
 import org.cyclops.integrateddynamics.capability.partcontainer.PartContainerConfig;
 import org.cyclops.integrateddynamics.core.network.event.UnknownPartEvent;
 import org.cyclops.integrateddynamics.core.part.PartTypes;
+import org.cyclops.integrateddynamics.item.ItemVariable;
 
 import javax.annotation.Nullable;
 import java.util.Map;
@@ -41,7 +44,15 @@ public class PartHelpers {
      * @return The part container capability, or null if not present.
      */
     public static @Nullable IPartContainer getPartContainer(IBlockAccess world, BlockPos pos) {
-        return TileHelpers.getCapability(world, pos, PartContainerConfig.CAPABILITY);
+        TileEntity tile = world.getTileEntity(pos);
+        if (tile == null) {
+            return null;
+        }
+        CableHandles.ICableHandle handle = CableHandles.getHandle(world, pos, tile);
+        if (handle != null) {
+            return handle.getPartContainer();
+        }
+        return CableHandles.getCapability(tile, PartContainerConfig.CAPABILITY);
     }
 
     /**
@@ -50,7 +61,8 @@ public class PartHelpers {
      * @return The part container capability, or null if not present.
      */
     public static @Nullable IPartContainer getPartContainer(DimPos dimPos) {
-        return TileHelpers.getCapability(dimPos, PartContainerConfig.CAPABILITY);
+        World world = dimPos.getWorld();
+        return world != null ? getPartContainer(world, dimPos.getBlockPos()) : null;
     }
 
     /**
@@ -342,6 +354,21 @@ public class PartHelpers {
         return null;
     }
 
+    /**
+     * Get the variable facade of the first variable in the given inventory.
+     * @param inventory The inventory of a part.
+     * @return The variable facade, or null if the inventory contains no variables.
+     */
+    public static @Nullable IVariableFacade getFirstVariableFacade(IInventory inventory) {
+        for(int i = 0; i < inventory.getSizeInventory(); i++) {
+            ItemStack itemStack = inventory.getStackInSlot(i);
+            if(itemStack != null) {
+                return ItemVariable.getInstance().getVariableFacade(itemStack);
+            }
+        }
+        return null;
+    }
+
     /**
      * A part and state holder.
      * @param <P> The part type type.
@@ -0,0 +1,379 @@
+package org.cyclops.integrateddynamics.core.logicprogrammer;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import org.apache.logging.log4j.Level;
+import org.cyclops.integrateddynamics.IntegratedDynamics;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.logicprogrammer.ILogicProgrammerElement;
+import org.cyclops.integrateddynamics.api.logicprogrammer.ILogicProgrammerElementType;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+
+import javax.annotation.Nullable;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * An immutable search index over logic programmer elements.
+ * Elements are indexed by the value types they accept as input, the value types they output,
+ * and the tokens of their localized name and symbol, so that filtering the element list
+ * comes down to combining posting lists instead of checking every element.
+ *
+ * The active index is built off-thread, and is replaced when the language changes.
+ * As long as no index is available, callers should fall back to checking the elements themselves.
+ * @author rubensworks
+ */
+public class LogicProgrammerElementIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern REGEX_METACHARACTERS = Pattern.compile("[\\\\\\[\\](){}.*+?^$|]");
+    private static final String WILDCARD = ".*";
+    private static final int SEARCH_CACHE_SIZE = 32;
+
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+    private static volatile LogicProgrammerElementIndex INSTANCE = null;
+
+    private final int size;
+    private final String[] matchStrings;
+    private final String[] symbols;
+    private final String[] tokens;
+    private final BitSet[] tokenPostings;
+    private final Map<IValueType, BitSet> inputPostings;
+    private final Map<IValueType, BitSet> outputPostings;
+    private final Map<String, TObjectIntMap<String>> positions;
+    private final Map<String, BitSet> searchCache = new LinkedHashMap<String, BitSet>(SEARCH_CACHE_SIZE, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, BitSet> eldest) {
+            return size() > SEARCH_CACHE_SIZE;
+        }
+    };
+
+    protected LogicProgrammerElementIndex(List<? extends IEntry> entries, Collection<IValueType> valueTypes) {
+        this.size = entries.size();
+        this.matchStrings = new String[size];
+        this.symbols = new String[size];
+        this.inputPostings = Maps.newIdentityHashMap();
+        this.outputPostings = Maps.newIdentityHashMap();
+        this.positions = Maps.newHashMap();
+        for (IValueType valueType : valueTypes) {
+            inputPostings.put(valueType, new BitSet(size));
+            outputPostings.put(valueType, new BitSet(size));
+        }
+
+        Map<String, BitSet> tokenIndex = new TreeMap<>();
+        int position = 0;
+        for (IEntry entry : entries) {
+            // Names and symbols are stored unchanged, so that searches match exactly like the linear filter.
+            matchStrings[position] = entry.getMatchString();
+            symbols[position] = entry.getSymbol();
+            addTokens(tokenIndex, matchStrings[position], position);
+            addTokens(tokenIndex, symbols[position], position);
+            addToken(tokenIndex, symbols[position], position);
+            for (IValueType valueType : valueTypes) {
+                if (entry.matchesInput(valueType)) {
+                    inputPostings.get(valueType).set(position);
+                }
+                if (entry.matchesOutput(valueType)) {
+                    outputPostings.get(valueType).set(position);
+                }
+            }
+            addPosition(entry.getTypeName(), entry.getName(), position);
+            position++;
+        }
+
+        this.tokens = tokenIndex.keySet().toArray(new String[tokenIndex.size()]);
+        this.tokenPostings = tokenIndex.values().toArray(new BitSet[tokenIndex.size()]);
+    }
+
+    protected static void addTokens(Map<String, BitSet> tokenIndex, String value, int position) {
+        for (String token : TOKEN_SEPARATOR.split(value)) {
+            addToken(tokenIndex, token, position);
+        }
+    }
+
+    protected static void addToken(Map<String, BitSet> tokenIndex, String token, int position) {
+        if (!token.isEmpty()) {
+            BitSet posting = tokenIndex.get(token);
+            if (posting == null) {
+                posting = new BitSet();
+                tokenIndex.put(token, posting);
+            }
+            posting.set(position);
+        }
+    }
+
+    protected void addPosition(String typeName, String name, int position) {
+        TObjectIntMap<String> typePositions = positions.get(typeName);
+        if (typePositions == null) {
+            typePositions = new TObjectIntHashMap<>(16, 0.5F, -1);
+            positions.put(typeName, typePositions);
+        }
+        // Ambiguous names can not be resolved through the index.
+        typePositions.put(name, typePositions.containsKey(name) ? -1 : position);
+    }
+
+    /**
+     * Create a new index for the given entries.
+     * @param entries The entries, the position of each entry in this list is its position in the index.
+     * @param valueTypes The value types to index inputs and outputs for.
+     * @return The new index.
+     */
+    public static LogicProgrammerElementIndex build(List<? extends IEntry> entries, Collection<IValueType> valueTypes) {
+        return new LogicProgrammerElementIndex(entries, valueTypes);
+    }
+
+    /**
+     * Create a new index for all elements of all registered logic programmer element types.
+     * @return The new index.
+     */
+    public static LogicProgrammerElementIndex buildForRegistry() {
+        List<IEntry> entries = Lists.newArrayList();
+        for (ILogicProgrammerElementType type : LogicProgrammerElementTypes.REGISTRY.getTypes()) {
+            for (Object element : type.createElements()) {
+                entries.add(new ElementEntry(type, (ILogicProgrammerElement) element));
+            }
+        }
+        return build(entries, ValueTypes.REGISTRY.getValueTypes());
+    }
+
+    /**
+     * @return The active index, or null if it is not available (yet).
+     */
+    public static @Nullable LogicProgrammerElementIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Discard the active index and build a new one in a background thread.
+     * If this is called again before building finished, only the latest index will become active.
+     */
+    public static void rebuildAsync() {
+        final int generation = GENERATION.incrementAndGet();
+        INSTANCE = null;
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    LogicProgrammerElementIndex index = buildForRegistry();
+                    if (GENERATION.get() == generation) {
+                        INSTANCE = index;
+                    }
+                } catch (RuntimeException e) {
+                    IntegratedDynamics.clog(Level.WARN, "Could not build the logic programmer search index: " + e.getMessage());
+                }
+            }
+        }, "Integrated Dynamics logic programmer index");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return The number of indexed elements.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return The number of distinct indexed name tokens.
+     */
+    public int getTokenCount() {
+        return tokens.length;
+    }
+
+    /**
+     * Get the position of the given element in this index.
+     * @param element An element.
+     * @return The position, or -1 if the element is not uniquely indexed.
+     */
+    @SuppressWarnings("unchecked")
+    public int getPosition(ILogicProgrammerElement element) {
+        ILogicProgrammerElementType type = element.getType();
+        return getPosition(type.getName(), type.getName(element));
+    }
+
+    /**
+     * Get the position of the given element in this index.
+     * @param typeName The element type name.
+     * @param name The element name.
+     * @return The position, or -1 if the element is not uniquely indexed.
+     */
+    public int getPosition(String typeName, String name) {
+        TObjectIntMap<String> typePositions = positions.get(typeName);
+        return typePositions == null ? -1 : typePositions.get(name);
+    }
+
+    /**
+     * Find all elements that match the given value type filters.
+     * This has the same semantics as the logic programmer filter slots.
+     * @param input1 An optional type that must be accepted as input.
+     * @param input2 An optional type that must be accepted as input.
+     * @param output An optional type that must be the output.
+     * @return The matching element positions, or null if one of the types is not indexed.
+     */
+    public @Nullable BitSet filter(@Nullable IValueType input1, @Nullable IValueType input2, @Nullable IValueType output) {
+        BitSet result = new BitSet(size);
+        result.set(0, size);
+        for (IValueType input : new IValueType[]{input1, input2}) {
+            if (input != null) {
+                BitSet posting = inputPostings.get(input);
+                if (posting == null) {
+                    return null;
+                }
+                result.and(posting);
+            }
+        }
+        if (output != null) {
+            BitSet posting = outputPostings.get(output);
+            if (posting == null) {
+                return null;
+            }
+            result.and(posting);
+        }
+        return result;
+    }
+
+    /**
+     * Find all elements that match the given search pattern.
+     * Patterns of the form '.*query.*' are answered from the token index,
+     * where each word of the query must be contained in a name or symbol token,
+     * after which the remaining candidates are checked for the full query.
+     * Other patterns are matched against the precomputed names and symbols.
+     * @param pattern The search pattern.
+     * @return The matching element positions, this must not be modified.
+     */
+    public BitSet search(Pattern pattern) {
+        String key = pattern.pattern();
+        synchronized (searchCache) {
+            BitSet result = searchCache.get(key);
+            if (result == null) {
+                result = computeSearch(pattern);
+                searchCache.put(key, result);
+            }
+            return result;
+        }
+    }
+
+    protected BitSet computeSearch(Pattern pattern) {
+        String query = pattern.pattern();
+        if (query.startsWith(WILDCARD) && query.endsWith(WILDCARD) && query.length() >= 2 * WILDCARD.length()) {
+            query = query.substring(WILDCARD.length(), query.length() - WILDCARD.length());
+            if (!REGEX_METACHARACTERS.matcher(query).find()) {
+                return searchTokens(query);
+            }
+        }
+        BitSet result = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (pattern.matcher(matchStrings[i]).matches() || pattern.matcher(symbols[i]).matches()) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    protected BitSet searchTokens(String query) {
+        BitSet result = new BitSet(size);
+        String trimmedQuery = query.trim();
+        if (!trimmedQuery.isEmpty() && TOKEN_SEPARATOR.matcher(trimmedQuery).matches()) {
+            // Queries of only separators, such as operator symbols, can not be answered from the tokens.
+            for (int i = 0; i < size; i++) {
+                if (matchStrings[i].contains(query) || symbols[i].contains(query)) {
+                    result.set(i);
+                }
+            }
+            return result;
+        }
+        result.set(0, size);
+        for (String word : TOKEN_SEPARATOR.split(trimmedQuery)) {
+            if (!word.isEmpty()) {
+                BitSet wordResult = new BitSet(size);
+                for (int i = 0; i < tokens.length; i++) {
+                    if (tokens[i].contains(word)) {
+                        wordResult.or(tokenPostings[i]);
+                    }
+                }
+                result.and(wordResult);
+            }
+        }
+        if (TOKEN_SEPARATOR.matcher(query).find()) {
+            // Queries that span multiple tokens are verified on the remaining candidates.
+            for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+                if (!matchStrings[i].contains(query) && !symbols[i].contains(query)) {
+                    result.clear(i);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * An element that can be indexed.
+     */
+    public static interface IEntry {
+
+        public String getTypeName();
+
+        public String getName();
+
+        public String getMatchString();
+
+        public String getSymbol();
+
+        public boolean matchesInput(IValueType valueType);
+
+        public boolean matchesOutput(IValueType valueType);
+
+    }
+
+    protected static class ElementEntry implements IEntry {
+
+        private final ILogicProgrammerElementType type;
+        private final ILogicProgrammerElement element;
+
+        public ElementEntry(ILogicProgrammerElementType type, ILogicProgrammerElement element) {
+            this.type = type;
+            this.element = element;
+        }
+
+        @Override
+        public String getTypeName() {
+            return type.getName();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public String getName() {
+            return type.getName(element);
+        }
+
+        @Override
+        public String getMatchString() {
+            return element.getMatchString();
+        }
+
+        @Override
+        public String getSymbol() {
+            return element.getSymbol();
+        }
+
+        @Override
+        public boolean matchesInput(IValueType valueType) {
+            return element.matchesInput(valueType);
+        }
+
+        @Override
+        public boolean matchesOutput(IValueType valueType) {
+            return element.matchesOutput(valueType);
+        }
+
+    }
+
+}
@@ -0,0 +1,32 @@
+package org.cyclops.integrateddynamics.core.logicprogrammer;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.resources.IReloadableResourceManager;
+import net.minecraft.client.resources.IResourceManager;
+import net.minecraft.client.resources.IResourceManagerReloadListener;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Rebuilds the {@link LogicProgrammerElementIndex} each time the client resources are reloaded,
+ * which includes changing the language.
+ * @author rubensworks
+ */
+@SideOnly(Side.CLIENT)
+public class LogicProgrammerElementIndexReloader implements IResourceManagerReloadListener {
+
+    /**
+     * Register the reloader, this will immediately build a first index.
+     * This should only be called after all logic programmer element types have been registered.
+     */
+    public static void register() {
+        ((IReloadableResourceManager) Minecraft.getMinecraft().getResourceManager())
+                .registerReloadListener(new LogicProgrammerElementIndexReloader());
+    }
+
+    @Override
+    public void onResourceManagerReload(IResourceManager resourceManager) {
+        LogicProgrammerElementIndex.rebuildAsync();
+    }
+
+}
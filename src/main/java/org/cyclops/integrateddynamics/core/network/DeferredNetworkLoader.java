@@ -0,0 +1,110 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Sets;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import java.util.Set;
+
+/**
+ * Keeps track of networks that are waiting for chunks to load before their path elements in them can be attached.
+ * Chunk loads are only recorded in the event, the actual attaching is done in {@link #attachLoadedChunks()},
+ * which is called from the network tick, so that no other chunks are touched while a chunk is being loaded.
+ * @author rubensworks
+ */
+public final class DeferredNetworkLoader {
+
+    private static DeferredNetworkLoader INSTANCE;
+
+    private final TIntObjectMap<TLongObjectMap<Set<Network>>> waitingNetworks = new TIntObjectHashMap<>();
+    private final TIntObjectMap<TLongSet> loadedChunks = new TIntObjectHashMap<>();
+
+    private DeferredNetworkLoader() {
+
+    }
+
+    public static DeferredNetworkLoader getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new DeferredNetworkLoader();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Let the given network wait for the given chunk to be loaded.
+     * @param network The network.
+     * @param dimension The dimension id.
+     * @param chunkKey The chunk key, as defined by {@link PendingNetworkPositions#getChunkKey(int, int)}.
+     */
+    public synchronized void register(Network network, int dimension, long chunkKey) {
+        TLongObjectMap<Set<Network>> dimensionNetworks = waitingNetworks.get(dimension);
+        if (dimensionNetworks == null) {
+            dimensionNetworks = new TLongObjectHashMap<>();
+            waitingNetworks.put(dimension, dimensionNetworks);
+        }
+        Set<Network> networks = dimensionNetworks.get(chunkKey);
+        if (networks == null) {
+            networks = Sets.newIdentityHashSet();
+            dimensionNetworks.put(chunkKey, networks);
+        }
+        networks.add(network);
+    }
+
+    @SubscribeEvent
+    public synchronized void onChunkLoad(ChunkEvent.Load event) {
+        if (!event.getWorld().isRemote) {
+            int dimension = event.getWorld().provider.getDimension();
+            TLongObjectMap<Set<Network>> dimensionNetworks = waitingNetworks.get(dimension);
+            long chunkKey = PendingNetworkPositions.getChunkKey(event.getChunk().xPosition, event.getChunk().zPosition);
+            if (dimensionNetworks != null && dimensionNetworks.containsKey(chunkKey)) {
+                TLongSet dimensionChunks = loadedChunks.get(dimension);
+                if (dimensionChunks == null) {
+                    dimensionChunks = new TLongHashSet();
+                    loadedChunks.put(dimension, dimensionChunks);
+                }
+                dimensionChunks.add(chunkKey);
+            }
+        }
+    }
+
+    /**
+     * Attach the pending path elements of all networks in chunks that were loaded since the last call.
+     */
+    public synchronized void attachLoadedChunks() {
+        if (loadedChunks.isEmpty()) {
+            return;
+        }
+        for (int dimension : loadedChunks.keys()) {
+            TLongObjectMap<Set<Network>> dimensionNetworks = waitingNetworks.get(dimension);
+            for (long chunkKey : loadedChunks.get(dimension).toArray()) {
+                Set<Network> networks = dimensionNetworks == null ? null : dimensionNetworks.remove(chunkKey);
+                if (networks != null) {
+                    for (Network network : networks) {
+                        if (!network.isKilled()) {
+                            network.attachPendingChunk(dimension, chunkKey);
+                        }
+                    }
+                }
+            }
+            if (dimensionNetworks != null && dimensionNetworks.isEmpty()) {
+                waitingNetworks.remove(dimension);
+            }
+        }
+        loadedChunks.clear();
+    }
+
+    /**
+     * Forget all waiting networks.
+     */
+    public synchronized void reset() {
+        waitingNetworks.clear();
+        loadedChunks.clear();
+    }
+
+}
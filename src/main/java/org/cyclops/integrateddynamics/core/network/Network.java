@@ -1,16 +1,23 @@
 package org.cyclops.integrateddynamics.core.network;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraftforge.common.DimensionManager;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityDispatcher;
 import org.apache.logging.log4j.Level;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.cyclopscore.helper.TileHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.network.*;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEvent;
@@ -24,6 +31,7 @@ import org.cyclops.integrateddynamics.core.network.event.NetworkElementRemoveEve
 import org.cyclops.integrateddynamics.core.network.event.NetworkEventBus;
 import org.cyclops.integrateddynamics.core.path.Cluster;
 import org.cyclops.integrateddynamics.core.path.PathFinder;
+import org.cyclops.integrateddynamics.core.persist.world.NetworkShardStorage;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
 
 import java.util.*;
@@ -33,16 +41,15 @@ import java.util.*;
  * Note that this network only contains references to the relevant data, it does not contain the actual information.
  * @author rubensworks
  */
-public class Network implements INetwork {
+public class Network implements INetwork, NetworkShardStorage.NetworkTopologySource {
 
     private Cluster baseCluster;
+    private int persistenceId = -1;
+    private NetworkShardStorage.ShardKey persistenceShard = null;
+    private final PendingNetworkPositions pendingPositions = new PendingNetworkPositions();
 
     private final INetworkEventBus eventBus = new NetworkEventBus();
-    private final TreeSet<INetworkElement> elements = Sets.newTreeSet();
-    private TreeSet<INetworkElement> updateableElements = null;
-    private TreeMap<INetworkElement, Integer> updateableElementsTicks = null;
-    private TreeSet<INetworkElement> invalidatedElements = Sets.newTreeSet();
-    private Map<INetworkElement, Long> lastSecondDurations = Maps.newHashMap();
+    private final NetworkElementStore elements = new NetworkElementStore();
 
     private final CapabilityDispatcher capabilityDispatcher;
     private IFullNetworkListener[] fullNetworkListeners;
@@ -119,28 +126,85 @@ public class Network implements INetwork {
     private void deriveNetworkElements(Cluster pathElements) {
         if(!killIfEmpty()) {
             for (IPathElement pathElement : pathElements) {
-                World world = pathElement.getPosition().getWorld();
-                BlockPos pos = pathElement.getPosition().getBlockPos();
-                INetworkCarrier networkCarrier = TileHelpers.getCapability(
-                        world, pos, null, NetworkCarrierConfig.CAPABILITY);
-                if (networkCarrier != null) {
-                    // Correctly remove any previously saved network in this carrier
-                    // and set the new network to this.
-                    INetwork network = networkCarrier.getNetwork();
-                    if (network != null) {
-                        network.removePathElement(pathElement);
-                    }
-                    networkCarrier.setNetwork(null);
-                    networkCarrier.setNetwork(this);
+                deriveNetworkElements(pathElement, true);
+            }
+            onNetworkChanged();
+        }
+    }
+
+    private void deriveNetworkElements(IPathElement pathElement, boolean networkPreinit) {
+        World world = pathElement.getPosition().getWorld();
+        BlockPos pos = pathElement.getPosition().getBlockPos();
+        INetworkCarrier networkCarrier = TileHelpers.getCapability(
+                world, pos, null, NetworkCarrierConfig.CAPABILITY);
+        if (networkCarrier != null) {
+            // Correctly remove any previously saved network in this carrier
+            // and set the new network to this.
+            INetwork network = networkCarrier.getNetwork();
+            if (network != null) {
+                network.removePathElement(pathElement);
+            }
+            networkCarrier.setNetwork(null);
+            networkCarrier.setNetwork(this);
+        }
+        INetworkElementProvider networkElementProvider = TileHelpers.getCapability(
+                pathElement.getPosition(), null, NetworkElementProviderConfig.CAPABILITY);
+        if (networkElementProvider != null) {
+            for(INetworkElement element : networkElementProvider.createNetworkElements(world, pos)) {
+                if (addNetworkElement(element, networkPreinit) && !networkPreinit) {
+                    element.afterNetworkReAlive(this);
                 }
-                INetworkElementProvider networkElementProvider = TileHelpers.getCapability(
-                        pathElement.getPosition(), null, NetworkElementProviderConfig.CAPABILITY);
-                if (networkElementProvider != null) {
-                    for(INetworkElement element : networkElementProvider.createNetworkElements(world, pos)) {
-                        addNetworkElement(element, true);
-                    }
+            }
+        }
+    }
+
+    /**
+     * Resolve the path elements at the given positions.
+     * If deferred loading is enabled, positions in chunks that are not loaded are kept as pending,
+     * and will only be resolved once their chunk is loaded.
+     * @param positions Packed positions, grouped by dimension id.
+     */
+    protected void loadPositions(TIntObjectMap<TLongList> positions) {
+        for (int dimension : positions.keys()) {
+            TLongList dimensionPositions = positions.get(dimension);
+            boolean deferrable = GeneralConfig.deferredNetworkLoading && DimensionManager.isDimensionRegistered(dimension);
+            World world = DimensionManager.getWorld(dimension);
+            for (int i = 0; i < dimensionPositions.size(); i++) {
+                BlockPos pos = BlockPos.fromLong(dimensionPositions.get(i));
+                if (deferrable && (world == null || !world.isBlockLoaded(pos))) {
+                    long chunkKey = pendingPositions.add(dimension, pos);
+                    DeferredNetworkLoader.getInstance().register(this, dimension, chunkKey);
+                } else {
+                    baseCluster.addPosition(dimension, pos);
                 }
             }
+        }
+    }
+
+    /**
+     * Attach the pending path elements in the given chunk, which has just been loaded.
+     * Path elements that are gone, or that have been claimed by another network in the meantime, are dropped.
+     * @param dimension The dimension id.
+     * @param chunkKey The chunk key, as defined by {@link PendingNetworkPositions#getChunkKey(int, int)}.
+     */
+    public synchronized void attachPendingChunk(int dimension, long chunkKey) {
+        TLongList positions = pendingPositions.remove(dimension, chunkKey);
+        if (positions == null) {
+            return;
+        }
+        for (int i = 0; i < positions.size(); i++) {
+            IPathElement pathElement = baseCluster.addPosition(dimension, BlockPos.fromLong(positions.get(i)));
+            if (pathElement != null) {
+                INetworkCarrier networkCarrier = TileHelpers.getCapability(
+                        pathElement.getPosition(), null, NetworkCarrierConfig.CAPABILITY);
+                if (networkCarrier != null && networkCarrier.getNetwork() != null && networkCarrier.getNetwork() != this) {
+                    baseCluster.remove(pathElement);
+                } else {
+                    deriveNetworkElements(pathElement, false);
+                }
+            }
+        }
+        if (!killIfEmpty()) {
             onNetworkChanged();
         }
     }
@@ -165,7 +229,22 @@ public class Network implements INetwork {
     @Override
     public NBTTagCompound toNBT() {
         NBTTagCompound tag = new NBTTagCompound();
-        tag.setTag("baseCluster", this.baseCluster.toNBT());
+        tag.setInteger("persistenceId", this.persistenceId);
+        if (!GeneralConfig.shardedNetworkStorage || this.persistenceShard == null) {
+            NBTTagCompound clusterTag = this.baseCluster.toNBT();
+            if (!this.pendingPositions.isEmpty()) {
+                NBTTagList list = clusterTag.getTagList("list", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
+                TIntObjectMap<TLongList> positions = new TIntObjectHashMap<>();
+                this.pendingPositions.collectPositions(positions);
+                for (int dimension : positions.keys()) {
+                    TLongList dimensionPositions = positions.get(dimension);
+                    for (int i = 0; i < dimensionPositions.size(); i++) {
+                        list.appendTag(Cluster.createPositionTag(dimension, dimensionPositions.get(i)));
+                    }
+                }
+            }
+            tag.setTag("baseCluster", clusterTag);
+        }
         tag.setBoolean("crashed", this.crashed);
         if (this.capabilityDispatcher != null) {
             tag.setTag("ForgeCaps", this.capabilityDispatcher.serializeNBT());
@@ -175,7 +254,23 @@ public class Network implements INetwork {
 
     @Override
     public void fromNBT(NBTTagCompound tag) {
-        this.baseCluster.fromNBT(tag.getCompoundTag("baseCluster"));
+        if (tag.hasKey("persistenceId", MinecraftHelpers.NBTTag_Types.NBTTagInt.ordinal())) {
+            this.persistenceId = tag.getInteger("persistenceId");
+        }
+        TIntObjectMap<TLongList> positions = new TIntObjectHashMap<>();
+        if (tag.hasKey("baseCluster", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal())) {
+            positions = Cluster.readPositions(tag.getCompoundTag("baseCluster"));
+        } else {
+            NetworkShardStorage.NetworkTopology topology = NetworkWorldStorage.getInstance(IntegratedDynamics._instance)
+                    .getLoadedTopology(this.persistenceId);
+            if (topology != null) {
+                this.persistenceShard = topology.getShard();
+                for (int dimension : topology.getPositions().keys()) {
+                    positions.put(dimension, new TLongArrayList(topology.getPositions().get(dimension)));
+                }
+            }
+        }
+        loadPositions(positions);
         this.crashed = tag.getBoolean("crashed");
         if (this.capabilityDispatcher != null && tag.hasKey("ForgeCaps")) {
             this.capabilityDispatcher.deserializeNBT(tag.getCompoundTag("ForgeCaps"));
@@ -198,6 +293,7 @@ public class Network implements INetwork {
                 elements.remove(element);
                 return false;
             }
+            trackChunk(element);
             if (!networkPreinit) {
                 addNetworkElementUpdateable(element);
             }
@@ -217,11 +313,57 @@ public class Network implements INetwork {
         return false;
     }
 
+    /**
+     * Let the given element become dormant while its chunk is unloaded.
+     * Parts are tracked by the chunk of their target, as that is where they do their work.
+     * @param element The element.
+     */
+    protected void trackChunk(INetworkElement element) {
+        DimPos pos = null;
+        if (element instanceof IPartNetworkElement) {
+            pos = ((IPartNetworkElement) element).getTarget().getTarget().getPos();
+        } else if (element instanceof IPositionedNetworkElement) {
+            pos = ((IPositionedNetworkElement) element).getPosition();
+        }
+        if (pos != null) {
+            int dimension = pos.getDimensionId();
+            long chunkKey = PendingNetworkPositions.getChunkKey(pos.getBlockPos());
+            if (elements.setChunk(element, dimension, chunkKey, !pos.isLoaded())) {
+                NetworkChunkTracker.getInstance().register(this, dimension, chunkKey);
+            }
+        }
+    }
+
+    /**
+     * Stop being notified of load changes of the chunks of all elements.
+     */
+    protected void untrackChunks() {
+        NetworkChunkTracker tracker = NetworkChunkTracker.getInstance();
+        for (int dimension : elements.getChunkDimensions()) {
+            for (long chunkKey : elements.getChunkKeys(dimension)) {
+                tracker.unregister(this, dimension, chunkKey);
+            }
+        }
+    }
+
+    /**
+     * Make all elements in the given chunk (not) dormant.
+     * Dormant elements are not updated, and are only revalidated after they have been resumed.
+     * @param dimension The dimension id.
+     * @param chunkKey The chunk key, as defined by {@link PendingNetworkPositions#getChunkKey(int, int)}.
+     * @param dormant If the elements should be dormant.
+     * @return If this network still has elements in this chunk.
+     */
+    public synchronized boolean setChunkDormant(int dimension, long chunkKey, boolean dormant) {
+        return !killed && elements.setChunkDormant(dimension, chunkKey, dormant);
+    }
+
     @Override
     public void addNetworkElementUpdateable(INetworkElement element) {
         if(element.isUpdate()) {
-            updateableElements.add(element);
-            updateableElementsTicks.put(element, 0);
+            // Only the priority of updateable elements is needed, as it determines the update order.
+            elements.updatePriority(element);
+            elements.setUpdateable(element);
         }
     }
 
@@ -237,22 +379,9 @@ public class Network implements INetwork {
 
     @Override
     public synchronized void setPriority(INetworkElement element, int priority) {
-        elements.remove(element);
-        Integer oldTickValue = null;
-        if (element.isUpdate()) {
-            updateableElements.remove(element);
-            oldTickValue = updateableElementsTicks.remove(element);
-        }
-
         //noinspection deprecation
         element.setPriority(this, priority);
-        elements.add(element);
-        if (element.isUpdate()) {
-            updateableElements.add(element);
-            if (oldTickValue != null) {
-                updateableElementsTicks.put(element, oldTickValue);
-            }
-        }
+        elements.setPriority(element, priority);
     }
 
     @Override
@@ -270,15 +399,13 @@ public class Network implements INetwork {
         element.beforeNetworkKill(this);
         element.onNetworkRemoval(this);
         elements.remove(element);
-        removeNetworkElementUpdateable(element);
         getEventBus().post(new NetworkElementRemoveEvent.Post(this, element));
         onNetworkChanged();
     }
 
     @Override
     public synchronized void removeNetworkElementUpdateable(INetworkElement element) {
-        updateableElements.remove(element);
-        updateableElementsTicks.remove(element);
+        elements.removeUpdateable(element);
     }
 
     /**
@@ -286,8 +413,7 @@ public class Network implements INetwork {
      * @param silent If the element should not be notified for the network becoming alive.
      */
     protected void initialize(boolean silent) {
-        updateableElements = Sets.newTreeSet();
-        updateableElementsTicks = Maps.newTreeMap();
+        elements.clearUpdateable();
         for(INetworkElement element : elements) {
             addNetworkElementUpdateable(element);
             if(!silent) {
@@ -305,12 +431,14 @@ public class Network implements INetwork {
         for(INetworkElement element : elements) {
             element.beforeNetworkKill(this);
         }
+        pendingPositions.clear();
+        untrackChunks();
         killed = true;
     }
 
     @Override
     public boolean killIfEmpty() {
-        if(baseCluster.isEmpty()) {
+        if(baseCluster.isEmpty() && pendingPositions.isEmpty()) {
             kill();
             onNetworkChanged();
             return true;
@@ -352,36 +480,32 @@ public class Network implements INetwork {
 
             // Update updateable network elements
             boolean isBeingDiagnozed = NetworkDiagnostics.getInstance().isBeingDiagnozed();
-            if (!isBeingDiagnozed && !lastSecondDurations.isEmpty()) {
-                // Make sure we aren't using any unnecessary memory.
-                lastSecondDurations.clear();
+            if (!isBeingDiagnozed) {
+                elements.resetDurations();
             }
-            for (INetworkElement element : updateableElements) {
-                if (isValid(element)) {
+            // Elements can be added or removed during updates, so we iterate over the current order.
+            for (int id : elements.getUpdateOrder()) {
+                INetworkElement element = elements.getElement(id);
+                if (element != null && isValid(id, element)) {
                     long startTime = 0;
                     if (isBeingDiagnozed) {
                         startTime = System.nanoTime();
                     }
-                    int lastElementTick = updateableElementsTicks.get(element);
+                    int lastElementTick = elements.getTick(id);
                     if (canUpdate(element)) {
                         if (lastElementTick <= 0) {
-                            updateableElementsTicks.put(element, element.getUpdateInterval() - 1);
+                            elements.setTick(id, element.getUpdateInterval() - 1);
                             element.update(this);
                             postUpdate(element);
                         } else {
-                            updateableElementsTicks.put(element, lastElementTick - 1);
+                            elements.setTick(id, lastElementTick - 1);
                         }
                     } else {
                         onSkipUpdate(element);
-                        updateableElementsTicks.put(element, lastElementTick - 1);
+                        elements.setTick(id, lastElementTick - 1);
                     }
-                    if (isBeingDiagnozed) {
-                        long duration = System.nanoTime() - startTime;
-                        Long lastDuration = lastSecondDurations.get(element);
-                        if (lastDuration != null) {
-                            duration = duration + lastDuration;
-                        }
-                        lastSecondDurations.put(element, duration);
+                    if (isBeingDiagnozed && elements.getElement(id) == element) {
+                        elements.addDuration(id, System.nanoTime() - startTime);
                     }
                 }
             }
@@ -460,6 +584,7 @@ public class Network implements INetwork {
 
     protected void onNetworkChanged() {
         this.changed = true;
+        NetworkWorldStorage.getInstance(IntegratedDynamics._instance).markNetworkDirty(this);
     }
 
     @Override
@@ -467,20 +592,52 @@ public class Network implements INetwork {
         return this.changed;
     }
 
+    @Override
+    public int getNetworkId() {
+        return this.persistenceId;
+    }
+
+    /**
+     * @param persistenceId The id with which this network is persisted.
+     */
+    public void setPersistenceId(int persistenceId) {
+        this.persistenceId = persistenceId;
+    }
+
+    /**
+     * @return The shard in which this network is persisted, or null if not yet assigned.
+     */
+    public NetworkShardStorage.ShardKey getPersistenceShard() {
+        return this.persistenceShard;
+    }
+
+    /**
+     * @param persistenceShard The shard in which this network is persisted.
+     */
+    public void setPersistenceShard(NetworkShardStorage.ShardKey persistenceShard) {
+        this.persistenceShard = persistenceShard;
+    }
+
+    @Override
+    public TIntObjectMap<TLongList> getPositions() {
+        TIntObjectMap<TLongList> positions = this.baseCluster.getPositions();
+        this.pendingPositions.collectPositions(positions);
+        return positions;
+    }
+
     @Override
     public int getCablesCount() {
-        return baseCluster.size();
+        return baseCluster.size() + pendingPositions.size();
     }
 
     @Override
     public long getLastSecondDuration(INetworkElement networkElement) {
-        Long duration = lastSecondDurations.get(networkElement);
-        return duration == null ? 0 : duration;
+        return elements.getDuration(networkElement);
     }
 
     @Override
     public void resetLastSecondDurations() {
-        lastSecondDurations.clear();
+        elements.resetDurations();
     }
 
     @Override
@@ -505,16 +662,16 @@ public class Network implements INetwork {
 
     @Override
     public void invalidateElement(INetworkElement element) {
-        invalidatedElements.add(element);
+        elements.invalidate(element);
     }
 
     @Override
     public void revalidateElement(INetworkElement element) {
-        invalidatedElements.remove(element);
+        elements.revalidate(element);
     }
 
-    protected boolean isValid(INetworkElement element) {
-        if (invalidatedElements.contains(element)) {
+    protected boolean isValid(int id, INetworkElement element) {
+        if (elements.isInvalidated(id)) {
             if (element.canRevalidate(this)) {
                 element.revalidate(this);
                 return true;
@@ -0,0 +1,121 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Sets;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Keeps track of the chunks in which networks have positioned elements,
+ * so that these elements can be made dormant when their chunk unloads, and resumed when it loads again.
+ * Networks are removed from a chunk once they report that they have no more elements in it,
+ * or when they are killed.
+ * @author rubensworks
+ */
+public final class NetworkChunkTracker {
+
+    private static NetworkChunkTracker INSTANCE;
+
+    private final TIntObjectMap<TLongObjectMap<Set<Network>>> networks = new TIntObjectHashMap<>();
+
+    private NetworkChunkTracker() {
+
+    }
+
+    public static NetworkChunkTracker getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new NetworkChunkTracker();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Let the given network be notified of load changes of the given chunk.
+     * @param network The network.
+     * @param dimension The dimension id.
+     * @param chunkKey The chunk key, as defined by {@link PendingNetworkPositions#getChunkKey(int, int)}.
+     */
+    public synchronized void register(Network network, int dimension, long chunkKey) {
+        TLongObjectMap<Set<Network>> dimensionNetworks = networks.get(dimension);
+        if (dimensionNetworks == null) {
+            dimensionNetworks = new TLongObjectHashMap<>();
+            networks.put(dimension, dimensionNetworks);
+        }
+        Set<Network> chunkNetworks = dimensionNetworks.get(chunkKey);
+        if (chunkNetworks == null) {
+            chunkNetworks = Sets.newIdentityHashSet();
+            dimensionNetworks.put(chunkKey, chunkNetworks);
+        }
+        chunkNetworks.add(network);
+    }
+
+    /**
+     * Stop notifying the given network of load changes of the given chunk.
+     * @param network The network.
+     * @param dimension The dimension id.
+     * @param chunkKey The chunk key, as defined by {@link PendingNetworkPositions#getChunkKey(int, int)}.
+     */
+    public synchronized void unregister(Network network, int dimension, long chunkKey) {
+        TLongObjectMap<Set<Network>> dimensionNetworks = networks.get(dimension);
+        if (dimensionNetworks != null) {
+            Set<Network> chunkNetworks = dimensionNetworks.get(chunkKey);
+            if (chunkNetworks != null && chunkNetworks.remove(network) && chunkNetworks.isEmpty()) {
+                dimensionNetworks.remove(chunkKey);
+                if (dimensionNetworks.isEmpty()) {
+                    networks.remove(dimension);
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onChunkLoad(ChunkEvent.Load event) {
+        if (!event.getWorld().isRemote) {
+            setChunkDormant(event.getWorld().provider.getDimension(), event.getChunk(), false);
+        }
+    }
+
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            setChunkDormant(event.getWorld().provider.getDimension(), event.getChunk(), true);
+        }
+    }
+
+    protected synchronized void setChunkDormant(int dimension, Chunk chunk, boolean dormant) {
+        TLongObjectMap<Set<Network>> dimensionNetworks = networks.get(dimension);
+        if (dimensionNetworks != null) {
+            long chunkKey = PendingNetworkPositions.getChunkKey(chunk.xPosition, chunk.zPosition);
+            Set<Network> chunkNetworks = dimensionNetworks.get(chunkKey);
+            if (chunkNetworks != null) {
+                Iterator<Network> it = chunkNetworks.iterator();
+                while (it.hasNext()) {
+                    if (!it.next().setChunkDormant(dimension, chunkKey, dormant)) {
+                        it.remove();
+                    }
+                }
+                if (chunkNetworks.isEmpty()) {
+                    dimensionNetworks.remove(chunkKey);
+                    if (dimensionNetworks.isEmpty()) {
+                        networks.remove(dimension);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Forget all networks.
+     */
+    public synchronized void reset() {
+        networks.clear();
+    }
+
+}
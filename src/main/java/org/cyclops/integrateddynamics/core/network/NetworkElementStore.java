@@ -0,0 +1,509 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
+import org.cyclops.integrateddynamics.api.network.INetworkElement;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Stores the elements of a network by a dense int id.
+ * The update state of elements is stored in arrays indexed by these ids,
+ * so that updating a network does not require any lookups by element.
+ *
+ * Elements are iterated by descending priority, and in order of addition for equal priorities.
+ * This order is only recalculated when it is needed after elements were added, removed or reprioritized.
+ * Elements start with the default priority of zero, because reading the priority of an element may require a tile lookup.
+ * Priorities are only read from elements through {@link #updatePriority(INetworkElement)},
+ * or are set directly through {@link #setPriority(INetworkElement, int)}.
+ *
+ * Elements can be assigned to a chunk, so that all elements in a chunk can be made dormant at once.
+ * Dormant elements are skipped in the update order, so that they have no cost while their chunk is unloaded.
+ * @author rubensworks
+ */
+public class NetworkElementStore extends AbstractSet<INetworkElement> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final TObjectIntMap<INetworkElement> ids = new TObjectIntHashMap<>(INITIAL_CAPACITY, 0.5F, -1);
+    private final TIntArrayList freeIds = new TIntArrayList();
+    private INetworkElement[] elements = new INetworkElement[INITIAL_CAPACITY];
+    private int[] priorities = new int[INITIAL_CAPACITY];
+    private long[] additions = new long[INITIAL_CAPACITY];
+    private int[] ticks = new int[INITIAL_CAPACITY];
+    private long[] durations = new long[INITIAL_CAPACITY];
+    private boolean[] updateable = new boolean[INITIAL_CAPACITY];
+    private boolean[] invalidated = new boolean[INITIAL_CAPACITY];
+    private boolean[] dormant = new boolean[INITIAL_CAPACITY];
+    private boolean[] positioned = new boolean[INITIAL_CAPACITY];
+    private int[] dimensions = new int[INITIAL_CAPACITY];
+    private long[] chunkKeys = new long[INITIAL_CAPACITY];
+    private final TIntObjectMap<TLongObjectMap<TIntSet>> chunks = new TIntObjectHashMap<>();
+    private int nextId = 0;
+    private long additionCounter = 0;
+    private int invalidatedCount = 0;
+    private int dormantCount = 0;
+    private boolean hasDurations = false;
+
+    private int[] order = null;
+    private int[] updateOrder = null;
+
+    /**
+     * Add the given element.
+     * @param element The element.
+     * @return If the element was not present yet.
+     */
+    @Override
+    public boolean add(INetworkElement element) {
+        if (ids.containsKey(element)) {
+            return false;
+        }
+        int id;
+        if (freeIds.isEmpty()) {
+            id = nextId++;
+            ensureCapacity(nextId);
+        } else {
+            id = freeIds.removeAt(freeIds.size() - 1);
+        }
+        ids.put(element, id);
+        elements[id] = element;
+        priorities[id] = 0;
+        additions[id] = additionCounter++;
+        ticks[id] = 0;
+        durations[id] = 0;
+        updateable[id] = false;
+        invalidated[id] = false;
+        dormant[id] = false;
+        positioned[id] = false;
+        invalidateOrder();
+        return true;
+    }
+
+    /**
+     * Remove the given element.
+     * @param object The element.
+     * @return If the element was present.
+     */
+    @Override
+    public boolean remove(Object object) {
+        if (!(object instanceof INetworkElement)) {
+            return false;
+        }
+        int id = ids.remove(object);
+        if (id < 0) {
+            return false;
+        }
+        if (invalidated[id]) {
+            invalidatedCount--;
+        }
+        if (dormant[id]) {
+            dormantCount--;
+        }
+        if (positioned[id]) {
+            removeFromChunk(id);
+        }
+        elements[id] = null;
+        updateable[id] = false;
+        invalidated[id] = false;
+        dormant[id] = false;
+        positioned[id] = false;
+        freeIds.add(id);
+        invalidateOrder();
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return object instanceof INetworkElement && ids.containsKey(object);
+    }
+
+    @Override
+    public int size() {
+        return ids.size();
+    }
+
+    @Override
+    public void clear() {
+        ids.clear();
+        freeIds.clear();
+        Arrays.fill(elements, null);
+        Arrays.fill(updateable, false);
+        Arrays.fill(invalidated, false);
+        Arrays.fill(dormant, false);
+        Arrays.fill(positioned, false);
+        chunks.clear();
+        nextId = 0;
+        invalidatedCount = 0;
+        dormantCount = 0;
+        invalidateOrder();
+    }
+
+    @Override
+    public Iterator<INetworkElement> iterator() {
+        final int[] order = getOrder();
+        return new Iterator<INetworkElement>() {
+            private int position = 0;
+            private INetworkElement last = null;
+
+            @Override
+            public boolean hasNext() {
+                return position < order.length;
+            }
+
+            @Override
+            public INetworkElement next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return last = elements[order[position++]];
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                NetworkElementStore.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    /**
+     * @param element An element.
+     * @return The id of the element, or -1 if it is not present.
+     */
+    public int getId(INetworkElement element) {
+        return ids.get(element);
+    }
+
+    /**
+     * @param id An element id.
+     * @return The element, or null if no element has this id.
+     */
+    public INetworkElement getElement(int id) {
+        return id < elements.length ? elements[id] : null;
+    }
+
+    /**
+     * Read the priority of the given element again.
+     * @param element The element.
+     */
+    public void updatePriority(INetworkElement element) {
+        setPriority(element, element.getPriority());
+    }
+
+    /**
+     * Change the stored priority of the given element.
+     * @param element The element.
+     * @param priority The new priority.
+     */
+    public void setPriority(INetworkElement element, int priority) {
+        int id = ids.get(element);
+        if (id >= 0 && priorities[id] != priority) {
+            priorities[id] = priority;
+            invalidateOrder();
+        }
+    }
+
+    /**
+     * Mark the given element as updateable, with its tick counter reset.
+     * @param element The element.
+     */
+    public void setUpdateable(INetworkElement element) {
+        int id = ids.get(element);
+        if (id >= 0) {
+            ticks[id] = 0;
+            if (!updateable[id]) {
+                updateable[id] = true;
+                updateOrder = null;
+            }
+        }
+    }
+
+    /**
+     * Mark the given element as not updateable.
+     * @param element The element.
+     */
+    public void removeUpdateable(INetworkElement element) {
+        int id = ids.get(element);
+        if (id >= 0 && updateable[id]) {
+            updateable[id] = false;
+            updateOrder = null;
+        }
+    }
+
+    /**
+     * Mark all elements as not updateable.
+     */
+    public void clearUpdateable() {
+        Arrays.fill(updateable, false);
+        updateOrder = null;
+    }
+
+    /**
+     * @param id An element id.
+     * @return The number of ticks until the element should update.
+     */
+    public int getTick(int id) {
+        return ticks[id];
+    }
+
+    /**
+     * @param id An element id.
+     * @param tick The number of ticks until the element should update.
+     */
+    public void setTick(int id, int tick) {
+        ticks[id] = tick;
+    }
+
+    /**
+     * @param element The element to invalidate.
+     */
+    public void invalidate(INetworkElement element) {
+        int id = ids.get(element);
+        if (id >= 0 && !invalidated[id]) {
+            invalidated[id] = true;
+            invalidatedCount++;
+        }
+    }
+
+    /**
+     * @param element The element to revalidate.
+     */
+    public void revalidate(INetworkElement element) {
+        int id = ids.get(element);
+        if (id >= 0 && invalidated[id]) {
+            invalidated[id] = false;
+            invalidatedCount--;
+        }
+    }
+
+    /**
+     * @param id An element id.
+     * @return If the element is invalidated.
+     */
+    public boolean isInvalidated(int id) {
+        return invalidatedCount > 0 && invalidated[id];
+    }
+
+    /**
+     * Assign the given element to a chunk.
+     * @param element The element.
+     * @param dimension The dimension id.
+     * @param chunkKey The chunk key, as defined by {@link PendingNetworkPositions#getChunkKey(int, int)}.
+     * @param dormant If the element should initially be dormant.
+     * @return If the element is the first element in this chunk.
+     */
+    public boolean setChunk(INetworkElement element, int dimension, long chunkKey, boolean dormant) {
+        int id = ids.get(element);
+        if (id < 0) {
+            return false;
+        }
+        if (positioned[id]) {
+            removeFromChunk(id);
+        }
+        positioned[id] = true;
+        dimensions[id] = dimension;
+        chunkKeys[id] = chunkKey;
+        setDormant(id, dormant);
+
+        TLongObjectMap<TIntSet> dimensionChunks = chunks.get(dimension);
+        if (dimensionChunks == null) {
+            dimensionChunks = new TLongObjectHashMap<>();
+            chunks.put(dimension, dimensionChunks);
+        }
+        TIntSet chunkIds = dimensionChunks.get(chunkKey);
+        boolean first = chunkIds == null;
+        if (first) {
+            chunkIds = new TIntHashSet();
+            dimensionChunks.put(chunkKey, chunkIds);
+        }
+        chunkIds.add(id);
+        return first;
+    }
+
+    protected void removeFromChunk(int id) {
+        TLongObjectMap<TIntSet> dimensionChunks = chunks.get(dimensions[id]);
+        if (dimensionChunks != null) {
+            TIntSet chunkIds = dimensionChunks.get(chunkKeys[id]);
+            if (chunkIds != null) {
+                chunkIds.remove(id);
+                if (chunkIds.isEmpty()) {
+                    dimensionChunks.remove(chunkKeys[id]);
+                    if (dimensionChunks.isEmpty()) {
+                        chunks.remove(dimensions[id]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The dimension ids in which elements have been assigned to chunks.
+     */
+    public int[] getChunkDimensions() {
+        return chunks.keys();
+    }
+
+    /**
+     * @param dimension The dimension id.
+     * @return The keys of the chunks in the given dimension to which elements have been assigned.
+     */
+    public long[] getChunkKeys(int dimension) {
+        TLongObjectMap<TIntSet> dimensionChunks = chunks.get(dimension);
+        return dimensionChunks == null ? new long[0] : dimensionChunks.keys();
+    }
+
+    /**
+     * Make all elements in the given chunk (not) dormant.
+     * @param dimension The dimension id.
+     * @param chunkKey The chunk key, as defined by {@link PendingNetworkPositions#getChunkKey(int, int)}.
+     * @param dormant If the elements should be dormant.
+     * @return If there are elements in this chunk.
+     */
+    public boolean setChunkDormant(int dimension, long chunkKey, boolean dormant) {
+        TLongObjectMap<TIntSet> dimensionChunks = chunks.get(dimension);
+        TIntSet chunkIds = dimensionChunks == null ? null : dimensionChunks.get(chunkKey);
+        if (chunkIds == null) {
+            return false;
+        }
+        for (int id : chunkIds.toArray()) {
+            setDormant(id, dormant);
+        }
+        return true;
+    }
+
+    protected void setDormant(int id, boolean dormant) {
+        if (this.dormant[id] != dormant) {
+            this.dormant[id] = dormant;
+            dormantCount += dormant ? 1 : -1;
+            if (updateable[id]) {
+                updateOrder = null;
+            }
+        }
+    }
+
+    /**
+     * @param id An element id.
+     * @return If the element is dormant.
+     */
+    public boolean isDormant(int id) {
+        return dormantCount > 0 && dormant[id];
+    }
+
+    /**
+     * @return The number of dormant elements.
+     */
+    public int getDormantCount() {
+        return dormantCount;
+    }
+
+    /**
+     * @param id An element id.
+     * @param duration The duration to add to the last second duration of the element in nanoseconds.
+     */
+    public void addDuration(int id, long duration) {
+        durations[id] += duration;
+        hasDurations = true;
+    }
+
+    /**
+     * @param element An element.
+     * @return The duration the element took in the last second in nanoseconds.
+     */
+    public long getDuration(INetworkElement element) {
+        int id = ids.get(element);
+        return id >= 0 ? durations[id] : 0;
+    }
+
+    /**
+     * Reset the durations of all elements.
+     */
+    public void resetDurations() {
+        if (hasDurations) {
+            Arrays.fill(durations, 0);
+            hasDurations = false;
+        }
+    }
+
+    /**
+     * @return The ids of all updateable elements that are not dormant, in priority order. This array must not be modified.
+     */
+    public int[] getUpdateOrder() {
+        if (updateOrder == null) {
+            int[] order = getOrder();
+            int[] updateOrder = new int[order.length];
+            int count = 0;
+            for (int id : order) {
+                if (updateable[id] && !dormant[id]) {
+                    updateOrder[count++] = id;
+                }
+            }
+            this.updateOrder = count == updateOrder.length ? updateOrder : Arrays.copyOf(updateOrder, count);
+        }
+        return updateOrder;
+    }
+
+    protected int[] getOrder() {
+        if (order == null) {
+            Integer[] sorted = new Integer[ids.size()];
+            int count = 0;
+            for (int id = 0; id < nextId; id++) {
+                if (elements[id] != null) {
+                    sorted[count++] = id;
+                }
+            }
+            Arrays.sort(sorted, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer a, Integer b) {
+                    int compPriority = -Integer.compare(priorities[a], priorities[b]);
+                    if (compPriority == 0) {
+                        return Long.compare(additions[a], additions[b]);
+                    }
+                    return compPriority;
+                }
+            });
+            int[] order = new int[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = sorted[i];
+            }
+            this.order = order;
+        }
+        return order;
+    }
+
+    protected void invalidateOrder() {
+        order = null;
+        updateOrder = null;
+    }
+
+    protected void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            int newCapacity = Math.max(capacity, elements.length * 2);
+            elements = Arrays.copyOf(elements, newCapacity);
+            priorities = Arrays.copyOf(priorities, newCapacity);
+            additions = Arrays.copyOf(additions, newCapacity);
+            ticks = Arrays.copyOf(ticks, newCapacity);
+            durations = Arrays.copyOf(durations, newCapacity);
+            updateable = Arrays.copyOf(updateable, newCapacity);
+            invalidated = Arrays.copyOf(invalidated, newCapacity);
+            dormant = Arrays.copyOf(dormant, newCapacity);
+            positioned = Arrays.copyOf(positioned, newCapacity);
+            dimensions = Arrays.copyOf(dimensions, newCapacity);
+            chunkKeys = Arrays.copyOf(chunkKeys, newCapacity);
+        }
+    }
+
+}
@@ -1,12 +1,11 @@
 package org.cyclops.integrateddynamics.core.network;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.logging.log4j.Level;
-import org.cyclops.cyclopscore.datastructure.CompositeMap;
 import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
@@ -25,9 +24,10 @@ import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.capability.variablecontainer.VariableContainerConfig;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
 
+import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A network that can hold parts.
@@ -40,8 +40,8 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
     @Setter
     private INetwork network;
     private TIntObjectMap<PartPos> partPositions = new TIntObjectHashMap<>();
-    private List<DimPos> variableContainerPositions = Lists.newArrayList();
-    private Map<Integer, IVariableFacade> compositeVariableCache = null;
+    private Set<DimPos> variableContainerPositions = Sets.newLinkedHashSet();
+    private TIntObjectMap<IVariableFacade> variableCache = null;
     private TIntObjectMap<IValue> lazyExpressionValueCache = new TIntObjectHashMap<>();
     private TIntObjectMap<DimPos> proxyPositions = new TIntObjectHashMap<>();
 
@@ -109,23 +109,25 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
         return ((IPartStateReader) getPartState(partId)).getVariable(aspect);
     }
 
-    protected Map<Integer, IVariableFacade> getVariableCache() {
-        if(compositeVariableCache == null) {
-            // Create a new composite map view on the existing variable containers in this network.
-            CompositeMap<Integer, IVariableFacade> compositeMap = new CompositeMap<>();
+    protected TIntObjectMap<IVariableFacade> getVariableCache() {
+        if(variableCache == null) {
+            // Create a new flat index over the variables in the existing variable containers in this network.
+            TIntObjectMap<IVariableFacade> cache = new TIntObjectHashMap<>();
             for(Iterator<DimPos> it = variableContainerPositions.iterator(); it.hasNext();) {
                 DimPos dimPos = it.next();
                 IVariableContainer variableContainer = TileHelpers.getCapability(dimPos, null, VariableContainerConfig.CAPABILITY);
                 if(variableContainer != null) {
-                    compositeMap.addElement(variableContainer.getVariableCache());
+                    for (Map.Entry<Integer, IVariableFacade> entry : variableContainer.getVariableCache().entrySet()) {
+                        cache.putIfAbsent(entry.getKey(), entry.getValue());
+                    }
                 } else {
                     IntegratedDynamics.clog(Level.ERROR, "The variable container at " + dimPos + " was invalid, skipping.");
                     it.remove();
                 }
             }
-            compositeVariableCache = compositeMap;
+            variableCache = cache;
         }
-        return compositeVariableCache;
+        return variableCache;
     }
 
     @Override
@@ -155,14 +157,79 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
 
     @Override
     public boolean addVariableContainer(DimPos dimPos) {
-        compositeVariableCache = null;
-        return variableContainerPositions.add(dimPos);
+        if(!variableContainerPositions.add(dimPos)) {
+            return false;
+        }
+        if(variableCache != null) {
+            IVariableContainer variableContainer = TileHelpers.getCapability(dimPos, null, VariableContainerConfig.CAPABILITY);
+            if(variableContainer != null) {
+                addToVariableCache(variableContainer.getVariableCache().values());
+            } else {
+                // Let the index be rebuilt, which will skip the invalid container.
+                variableCache = null;
+            }
+        }
+        return true;
     }
 
     @Override
     public void removeVariableContainer(DimPos dimPos) {
-        compositeVariableCache = null;
-        variableContainerPositions.remove(dimPos);
+        if(!variableContainerPositions.remove(dimPos)) {
+            return;
+        }
+        if(variableCache != null) {
+            IVariableContainer variableContainer = TileHelpers.getCapability(dimPos, null, VariableContainerConfig.CAPABILITY);
+            if(variableContainer != null) {
+                removeFromVariableCache(variableContainer.getVariableCache().values());
+            } else {
+                // We can not determine which variables were provided by this container anymore.
+                variableCache = null;
+            }
+        }
+    }
+
+    @Override
+    public void updateVariableContainer(DimPos dimPos, Collection<IVariableFacade> removedVariables,
+                                        Collection<IVariableFacade> addedVariables) {
+        if(variableCache == null || !variableContainerPositions.contains(dimPos)) {
+            // The index will be fully rebuilt on the next lookup, or the container is not part of this network.
+            return;
+        }
+        removeFromVariableCache(removedVariables);
+        addToVariableCache(addedVariables);
+    }
+
+    protected void addToVariableCache(Collection<IVariableFacade> variableFacades) {
+        for (IVariableFacade variableFacade : variableFacades) {
+            variableCache.putIfAbsent(variableFacade.getId(), variableFacade);
+        }
+    }
+
+    protected void removeFromVariableCache(Collection<IVariableFacade> variableFacades) {
+        for (IVariableFacade variableFacade : variableFacades) {
+            int id = variableFacade.getId();
+            if(variableCache.get(id) == variableFacade) {
+                variableCache.remove(id);
+                // Another container may still contain a variable with the same id.
+                IVariableFacade replacement = findVariableFacade(id);
+                if(replacement != null) {
+                    variableCache.put(id, replacement);
+                }
+            }
+        }
+    }
+
+    protected IVariableFacade findVariableFacade(int variableId) {
+        for (DimPos dimPos : variableContainerPositions) {
+            IVariableContainer variableContainer = TileHelpers.getCapability(dimPos, null, VariableContainerConfig.CAPABILITY);
+            if(variableContainer != null) {
+                IVariableFacade variableFacade = variableContainer.getVariableCache().get(variableId);
+                if(variableFacade != null) {
+                    return variableFacade;
+                }
+            }
+        }
+        return null;
     }
 
     @Override
@@ -23,7 +23,7 @@ import java.util.List;
  * @author rubensworks
  */
 @Data
-public class PartNetworkElement<P extends IPartType<P, S>, S extends IPartState<P>> extends NetworkElementBase implements IPartNetworkElement<P, S>, IEnergyConsumingNetworkElement {
+public class PartNetworkElement<P extends IPartType<P, S>, S extends IPartState<P>> extends NetworkElementBase implements IPartNetworkElement<P, S>, IEnergyConsumingNetworkElement, IPositionedNetworkElement {
 
     private final P part;
     private final PartTarget target;
@@ -60,6 +60,11 @@ public class PartNetworkElement<P extends IPartType<P, S>, S extends IPartState<
         return hasPartState() ? part.getPriority(getPartState()) : 0;
     }
 
+    @Override
+    public DimPos getPosition() {
+        return getCenterPos(getTarget());
+    }
+
     @Override
     public boolean canRevalidate(INetwork network) {
         return canRevalidatePositioned(network, getCenterPos(getTarget()));
@@ -176,15 +181,23 @@ public class PartNetworkElement<P extends IPartType<P, S>, S extends IPartState<
         return getPart();
     }
 
+    @Override
     public boolean equals(Object o) {
-        return o instanceof IPartNetworkElement && compareTo((INetworkElement) o) == 0;
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IPartNetworkElement)) {
+            return false;
+        }
+        IPartNetworkElement that = (IPartNetworkElement) o;
+        return part.equals(that.getPart()) && target.equals(that.getTarget());
     }
 
     @Override
     public int hashCode() {
         int result = part.hashCode();
         result = 31 * result + target.hashCode();
-        result = 31 * result + getPriority();
+        // The priority is not included, as it may change while this element is stored in a hash-based network store.
         return result;
     }
 
@@ -0,0 +1,115 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.minecraft.util.math.BlockPos;
+
+import javax.annotation.Nullable;
+
+/**
+ * Packed positions of path elements that belong to a network,
+ * but that have not been attached yet because their chunk is not loaded.
+ * Positions are grouped by dimension and chunk.
+ * @author rubensworks
+ */
+public class PendingNetworkPositions {
+
+    private final TIntObjectMap<TLongObjectMap<TLongList>> positions = new TIntObjectHashMap<>();
+    private int size = 0;
+
+    /**
+     * @param pos A block position.
+     * @return The key of the chunk the position is in.
+     */
+    public static long getChunkKey(BlockPos pos) {
+        return getChunkKey(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    /**
+     * @param chunkX The chunk x coordinate.
+     * @param chunkZ The chunk z coordinate.
+     * @return The chunk key.
+     */
+    public static long getChunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX & 0xFFFFFFFFL) | (((long) chunkZ & 0xFFFFFFFFL) << 32);
+    }
+
+    /**
+     * Add a pending position.
+     * @param dimension The dimension id.
+     * @param pos The position.
+     * @return The key of the chunk the position was added to.
+     */
+    public long add(int dimension, BlockPos pos) {
+        TLongObjectMap<TLongList> dimensionPositions = positions.get(dimension);
+        if (dimensionPositions == null) {
+            dimensionPositions = new TLongObjectHashMap<>();
+            positions.put(dimension, dimensionPositions);
+        }
+        long chunkKey = getChunkKey(pos);
+        TLongList chunkPositions = dimensionPositions.get(chunkKey);
+        if (chunkPositions == null) {
+            chunkPositions = new TLongArrayList();
+            dimensionPositions.put(chunkKey, chunkPositions);
+        }
+        chunkPositions.add(pos.toLong());
+        size++;
+        return chunkKey;
+    }
+
+    /**
+     * Remove all pending positions in the given chunk.
+     * @param dimension The dimension id.
+     * @param chunkKey The chunk key.
+     * @return The removed packed positions, or null if there were none.
+     */
+    public @Nullable TLongList remove(int dimension, long chunkKey) {
+        TLongObjectMap<TLongList> dimensionPositions = positions.get(dimension);
+        if (dimensionPositions == null) {
+            return null;
+        }
+        TLongList chunkPositions = dimensionPositions.remove(chunkKey);
+        if (chunkPositions != null) {
+            size -= chunkPositions.size();
+            if (dimensionPositions.isEmpty()) {
+                positions.remove(dimension);
+            }
+        }
+        return chunkPositions;
+    }
+
+    /**
+     * Add all pending packed positions to the given map of dimension to positions.
+     * @param target The map to add to.
+     */
+    public void collectPositions(TIntObjectMap<TLongList> target) {
+        for (int dimension : positions.keys()) {
+            TLongList dimensionTarget = target.get(dimension);
+            if (dimensionTarget == null) {
+                dimensionTarget = new TLongArrayList();
+                target.put(dimension, dimensionTarget);
+            }
+            for (TLongList chunkPositions : positions.get(dimension).valueCollection()) {
+                dimensionTarget.addAll(chunkPositions);
+            }
+        }
+    }
+
+    public void clear() {
+        positions.clear();
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+}
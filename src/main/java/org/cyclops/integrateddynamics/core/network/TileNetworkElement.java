@@ -8,6 +8,7 @@ import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.network.IPositionedNetworkElement;
 import org.cyclops.integrateddynamics.core.tileentity.TileCableConnectableInventory;
 
 import java.util.List;
@@ -18,7 +19,7 @@ import java.util.List;
  */
 @EqualsAndHashCode(callSuper = false)
 @Data
-public abstract class TileNetworkElement<T extends TileCableConnectableInventory> extends ConsumingNetworkElementBase  {
+public abstract class TileNetworkElement<T extends TileCableConnectableInventory> extends ConsumingNetworkElementBase implements IPositionedNetworkElement {
 
     private final DimPos pos;
 
@@ -50,6 +51,11 @@ public abstract class TileNetworkElement<T extends TileCableConnectableInventory
         getTile().afterNetworkReAlive();
     }
 
+    @Override
+    public DimPos getPosition() {
+        return getPos();
+    }
+
     @Override
     public boolean canRevalidate(INetwork network) {
         return canRevalidatePositioned(network, pos);
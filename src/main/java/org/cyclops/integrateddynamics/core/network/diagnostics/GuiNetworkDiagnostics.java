@@ -1,8 +1,8 @@
 package org.cyclops.integrateddynamics.core.network.diagnostics;
 
 import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 import lombok.Data;
 import net.minecraft.client.Minecraft;
@@ -13,7 +13,9 @@ import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
+import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.core.part.PartTypes;
 import org.cyclops.integrateddynamics.network.packet.NetworkDiagnosticsSubscribePacket;
 import org.cyclops.integrateddynamics.network.packet.PlayerTeleportPacket;
 
@@ -43,7 +45,20 @@ public class GuiNetworkDiagnostics extends JFrame {
     private static Vector<Vector<Object>> data = new Vector<>();
     private static DefaultTableModel model;
 
-    private static Multimap<Integer, ObservablePartData> networkData = ArrayListMultimap.create();
+    private static ListMultimap<Integer, ObservablePartData> networkData = ArrayListMultimap.create();
+    private static List<String> partNames = Lists.newArrayList();
+
+    /**
+     * @return The part type names that were received from the server, by id.
+     */
+    public static List<String> getPartNames() {
+        return partNames;
+    }
+
+    protected static String localizePartName(String partName) {
+        IPartType partType = PartTypes.REGISTRY.getPartType(partName);
+        return partType != null ? L10NHelpers.localize(partType.getUnlocalizedName()) : partName;
+    }
 
     public static void setNetworkData(int id, RawNetworkData rawNetworkData) {
         synchronized (networkData) {
@@ -64,7 +79,7 @@ public class GuiNetworkDiagnostics extends JFrame {
                     ObservablePartData partData = new ObservablePartData(
                             rawNetworkData.getId(), rawNetworkData.getCables(),
                             rawPartData.getDimension(), rawPartData.getPos(),
-                            rawPartData.getSide(), rawPartData.getName(),
+                            rawPartData.getSide(), localizePartName(rawPartData.getName()),
                             rawPartData.getLast20TicksDurationNs());
                     parts.add(partData);
 
@@ -89,8 +104,32 @@ public class GuiNetworkDiagnostics extends JFrame {
         }
     }
 
+    public static void setNetworkDurations(RawNetworkDurationsData rawDurationsData) {
+        synchronized (networkData) {
+            List<ObservablePartData> parts = networkData.get(rawDurationsData.getId());
+            int[] indexes = rawDurationsData.getIndexes();
+            long[] durations = rawDurationsData.getLast20TicksDurationsNs();
+            for (int i = 0; i < indexes.length; i++) {
+                if (indexes[i] < parts.size()) {
+                    ObservablePartData partData = parts.get(indexes[i]);
+                    parts.set(indexes[i], new ObservablePartData(
+                            partData.getNetworkId(), partData.getNetworkCables(),
+                            partData.getDimension(), partData.getPos(),
+                            partData.getSide(), partData.getName(),
+                            durations[i]));
+                }
+            }
+        }
+        if (gui != null) {
+            gui.updateTable();
+        }
+    }
+
     public static void clearNetworkData() {
-        networkData.clear();
+        synchronized (networkData) {
+            networkData.clear();
+        }
+        partNames.clear();
     }
 
     public static void start() {
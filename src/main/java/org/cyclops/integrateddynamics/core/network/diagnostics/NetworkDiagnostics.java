@@ -1,29 +1,44 @@
 package org.cyclops.integrateddynamics.core.network.diagnostics;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraftforge.fml.common.FMLCommonHandler;
-import org.cyclops.cyclopscore.helper.L10NHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
 import org.cyclops.integrateddynamics.api.network.IPartNetworkElement;
 import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
+import org.cyclops.integrateddynamics.network.packet.NetworkDiagnosticsDurationsPacket;
 import org.cyclops.integrateddynamics.network.packet.NetworkDiagnosticsNetworkPacket;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
+ * Sends the diagnostics state of networks to subscribed players.
+ * The full state of a network is only sent when its parts have changed,
+ * otherwise only the changed tick durations are sent.
+ * The initial state of all networks is sent to newly subscribed players over multiple ticks.
  * @author rubensworks
  */
 public class NetworkDiagnostics {
 
     private static final NetworkDiagnostics _INSTANCE = new NetworkDiagnostics();
 
-    private final List<UUID> players = Lists.newArrayList();
+    private final Map<UUID, PlayerState> players = Maps.newLinkedHashMap();
 
     private NetworkDiagnostics() {
 
@@ -37,45 +52,118 @@ public class NetworkDiagnostics {
         return FMLCommonHandler.instance().getMinecraftServerInstance().getPlayerList().getPlayerByUUID(uuid);
     }
 
+    /**
+     * Subscribe the given player, or subscribe again if the player was already subscribed.
+     * The client clears its data when subscribing, so the full state of all networks is always sent again.
+     * @param player The player.
+     */
     public synchronized void registerPlayer(EntityPlayerMP player) {
-        if (!players.contains(player.getPersistentID())) {
-            players.add(player.getPersistentID());
-            for (INetwork network : NetworkWorldStorage.getInstance(IntegratedDynamics._instance).getNetworks()) {
-                sendNetworkUpdateToPlayer(player, network);
-            }
-
-        }
+        PlayerState state = new PlayerState();
+        state.pendingNetworks.addAll(NetworkWorldStorage.getInstance(IntegratedDynamics._instance).getNetworks());
+        players.put(player.getPersistentID(), state);
     }
 
     public synchronized void unRegisterPlayer(EntityPlayerMP player) {
         players.remove(player.getPersistentID());
     }
 
-    public void sendNetworkUpdateToPlayer(EntityPlayerMP player, INetwork network) {
+    /**
+     * Send the initial state of a limited number of networks to each player that is still waiting for them.
+     */
+    public synchronized void sendPendingNetworks() {
+        for (Iterator<Map.Entry<UUID, PlayerState>> it = players.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<UUID, PlayerState> entry = it.next();
+            PlayerState state = entry.getValue();
+            if (!state.pendingNetworks.isEmpty()) {
+                EntityPlayerMP player = getPlayer(entry.getKey());
+                if (player != null) {
+                    int sent = 0;
+                    while (sent < GeneralConfig.diagnosticsNetworksPerTick && !state.pendingNetworks.isEmpty()) {
+                        INetwork network = state.pendingNetworks.poll();
+                        if (!network.isKilled() && !state.sentNetworks.containsKey(network.hashCode())) {
+                            sendNetworkUpdateToPlayer(player, state, network);
+                            sent++;
+                        }
+                    }
+                } else {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    protected void sendNetworkUpdateToPlayer(EntityPlayerMP player, PlayerState state, INetwork network) {
+        int id = network.hashCode();
+        if (network.isKilled()) {
+            if (state.sentNetworks.remove(id) != null) {
+                RawNetworkData rawNetworkData = new RawNetworkData(true, id, 0, Lists.<RawPartData>newArrayList());
+                IntegratedDynamics._instance.getPacketHandler().sendToPlayer(
+                        new NetworkDiagnosticsNetworkPacket(rawNetworkData.toNbt(state.partNameIds)), player);
+            }
+            return;
+        }
+
         List<RawPartData> rawParts = Lists.newArrayList();
+        int structureHash = network.getCablesCount();
         for (INetworkElement networkElement : network.getElements()) {
             if (networkElement instanceof IPartNetworkElement) {
                 IPartNetworkElement partNetworkElement = (IPartNetworkElement) networkElement;
                 PartPos pos = partNetworkElement.getTarget().getCenter();
                 long lastSecondDurationNs = network.getLastSecondDuration(networkElement);
-                rawParts.add(new RawPartData(pos.getPos().getDimensionId(),
+                RawPartData rawPart = new RawPartData(pos.getPos().getDimensionId(),
                         pos.getPos().getBlockPos(), pos.getSide(),
-                        L10NHelpers.localize(partNetworkElement.getPart().getUnlocalizedName()),
-                        lastSecondDurationNs));
+                        partNetworkElement.getPart().getName(),
+                        lastSecondDurationNs);
+                rawParts.add(rawPart);
+                structureHash = 31 * structureHash + rawPart.getDimension();
+                structureHash = 31 * structureHash + rawPart.getPos().hashCode();
+                structureHash = 31 * structureHash + rawPart.getSide().ordinal();
+                structureHash = 31 * structureHash + rawPart.getName().hashCode();
             } else {
                 // If needed, we can send the other part types later on as well
             }
         }
-        RawNetworkData rawNetworkData = new RawNetworkData(network.isKilled(), network.hashCode(), network.getCablesCount(), rawParts);
-        IntegratedDynamics._instance.getPacketHandler().sendToPlayer(new NetworkDiagnosticsNetworkPacket(rawNetworkData.toNbt()), player);
+
+        SentNetwork sentNetwork = state.sentNetworks.get(id);
+        if (sentNetwork != null && sentNetwork.structureHash == structureHash
+                && sentNetwork.durations.length == rawParts.size()) {
+            TIntArrayList indexes = new TIntArrayList();
+            TLongArrayList durations = new TLongArrayList();
+            for (int i = 0; i < rawParts.size(); i++) {
+                long duration = rawParts.get(i).getLast20TicksDurationNs();
+                if (sentNetwork.durations[i] != duration) {
+                    sentNetwork.durations[i] = duration;
+                    indexes.add(i);
+                    durations.add(duration);
+                }
+            }
+            if (!indexes.isEmpty()) {
+                RawNetworkDurationsData rawDurationsData = new RawNetworkDurationsData(id, indexes.toArray(), durations.toArray());
+                IntegratedDynamics._instance.getPacketHandler().sendToPlayer(
+                        new NetworkDiagnosticsDurationsPacket(rawDurationsData.toNbt()), player);
+            }
+        } else {
+            long[] durations = new long[rawParts.size()];
+            for (int i = 0; i < durations.length; i++) {
+                durations[i] = rawParts.get(i).getLast20TicksDurationNs();
+            }
+            state.sentNetworks.put(id, new SentNetwork(structureHash, durations));
+            RawNetworkData rawNetworkData = new RawNetworkData(false, id, network.getCablesCount(), rawParts);
+            IntegratedDynamics._instance.getPacketHandler().sendToPlayer(
+                    new NetworkDiagnosticsNetworkPacket(rawNetworkData.toNbt(state.partNameIds)), player);
+        }
     }
 
     public synchronized void sendNetworkUpdate(INetwork network) {
-        for (Iterator<UUID> it = players.iterator(); it.hasNext();) {
-            UUID uuid = it.next();
-            EntityPlayerMP player = getPlayer(uuid);
+        for (Iterator<Map.Entry<UUID, PlayerState>> it = players.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<UUID, PlayerState> entry = it.next();
+            EntityPlayerMP player = getPlayer(entry.getKey());
             if (player != null) {
-                sendNetworkUpdateToPlayer(player, network);
+                PlayerState state = entry.getValue();
+                // Networks that were not sent yet during the initial sending will be sent as pending network.
+                if (state.pendingNetworks.isEmpty() || state.sentNetworks.containsKey(network.hashCode())) {
+                    sendNetworkUpdateToPlayer(player, state, network);
+                }
             } else {
                 it.remove();
             }
@@ -86,4 +174,30 @@ public class NetworkDiagnostics {
         return !players.isEmpty();
     }
 
+    /**
+     * The diagnostics state that was sent to a player.
+     */
+    protected static class PlayerState {
+
+        private final TObjectIntMap<String> partNameIds = new TObjectIntHashMap<>(16, 0.5F, -1);
+        private final TIntObjectMap<SentNetwork> sentNetworks = new TIntObjectHashMap<>();
+        private final Deque<INetwork> pendingNetworks = new ArrayDeque<>();
+
+    }
+
+    /**
+     * The state of a network that was sent to a player.
+     */
+    protected static class SentNetwork {
+
+        private final int structureHash;
+        private final long[] durations;
+
+        public SentNetwork(int structureHash, long[] durations) {
+            this.structureHash = structureHash;
+            this.durations = durations;
+        }
+
+    }
+
 }
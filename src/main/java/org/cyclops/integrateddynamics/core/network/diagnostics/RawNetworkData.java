@@ -1,14 +1,20 @@
 package org.cyclops.integrateddynamics.core.network.diagnostics;
 
 import com.google.common.collect.Lists;
+import gnu.trove.map.TObjectIntMap;
+import io.netty.buffer.Unpooled;
 import lombok.Data;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import net.minecraft.network.PacketBuffer;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 
 import java.util.List;
 
 /**
+ * The diagnostics state of a network.
+ * Parts are sent in a compact binary form, in which part type names are interned per player.
  * @author rubensworks
  */
 @Data
@@ -24,25 +30,49 @@ public class RawNetworkData implements IRawData {
         return String.format("Network %s (cables: %s; elements: %s)", id, cables, parts.size());
     }
 
-    public NBTTagCompound toNbt() {
+    /**
+     * @param partNameIds The ids of the part type names that were sent before, new names will be added to this.
+     * @return The NBT tag.
+     */
+    public NBTTagCompound toNbt(TObjectIntMap<String> partNameIds) {
         NBTTagCompound tag = new NBTTagCompound();
         tag.setBoolean("killed", killed);
         tag.setInteger("id", id);
-        tag.setLong("cables", cables);
-        NBTTagList list = new NBTTagList();
+        tag.setInteger("cables", cables);
+        NBTTagList newPartNames = new NBTTagList();
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        buffer.writeVarIntToBuffer(parts.size());
         for (RawPartData part : parts) {
-            list.appendTag(part.toNbt());
+            int partNameId = partNameIds.get(part.getName());
+            if (partNameId < 0) {
+                partNameId = partNameIds.size();
+                partNameIds.put(part.getName(), partNameId);
+                newPartNames.appendTag(new NBTTagString(part.getName()));
+            }
+            part.write(buffer, partNameId);
         }
-        tag.setTag("parts", list);
+        tag.setTag("newPartNames", newPartNames);
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        tag.setByteArray("parts", bytes);
         return tag;
     }
 
-    public static RawNetworkData fromNbt(NBTTagCompound tag) {
-        List<RawPartData> parts = Lists.newArrayList();
-        NBTTagList list = tag.getTagList("parts", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
-        for (int i = 0; i < list.tagCount(); i++) {
-            NBTTagCompound partTag = list.getCompoundTagAt(i);
-            parts.add(RawPartData.fromNbt(partTag));
+    /**
+     * @param tag The NBT tag.
+     * @param partNames The part type names that were received before, new names will be added to this.
+     * @return The network data.
+     */
+    public static RawNetworkData fromNbt(NBTTagCompound tag, List<String> partNames) {
+        NBTTagList newPartNames = tag.getTagList("newPartNames", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal());
+        for (int i = 0; i < newPartNames.tagCount(); i++) {
+            partNames.add(newPartNames.getStringTagAt(i));
+        }
+        PacketBuffer buffer = new PacketBuffer(Unpooled.wrappedBuffer(tag.getByteArray("parts")));
+        int size = buffer.readVarIntFromBuffer();
+        List<RawPartData> parts = Lists.newArrayListWithCapacity(size);
+        for (int i = 0; i < size; i++) {
+            parts.add(RawPartData.read(buffer, partNames));
         }
         return new RawNetworkData(tag.getBoolean("killed"), tag.getInteger("id"),
                 tag.getInteger("cables"), parts);
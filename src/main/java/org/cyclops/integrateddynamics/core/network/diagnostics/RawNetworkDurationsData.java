@@ -0,0 +1,57 @@
+package org.cyclops.integrateddynamics.core.network.diagnostics;
+
+import io.netty.buffer.Unpooled;
+import lombok.Data;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.network.PacketBuffer;
+
+/**
+ * The tick durations of the parts in a network that changed since the last time they were sent.
+ * Parts are referred to by their index in the last {@link RawNetworkData} of this network.
+ * @author rubensworks
+ */
+@Data
+public class RawNetworkDurationsData implements IRawData {
+
+    private final int id;
+    private final int[] indexes;
+    private final long[] last20TicksDurationsNs;
+
+    @Override
+    public String toString() {
+        return String.format("Network %s (changed durations: %s)", id, indexes.length);
+    }
+
+    public NBTTagCompound toNbt() {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setInteger("id", id);
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        buffer.writeVarIntToBuffer(indexes.length);
+        int lastIndex = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            // Indexes are ascending, so we only write the difference with the previous one.
+            buffer.writeVarIntToBuffer(indexes[i] - lastIndex);
+            buffer.writeVarLong(last20TicksDurationsNs[i]);
+            lastIndex = indexes[i];
+        }
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        tag.setByteArray("durations", bytes);
+        return tag;
+    }
+
+    public static RawNetworkDurationsData fromNbt(NBTTagCompound tag) {
+        PacketBuffer buffer = new PacketBuffer(Unpooled.wrappedBuffer(tag.getByteArray("durations")));
+        int size = buffer.readVarIntFromBuffer();
+        int[] indexes = new int[size];
+        long[] durations = new long[size];
+        int lastIndex = 0;
+        for (int i = 0; i < size; i++) {
+            lastIndex += buffer.readVarIntFromBuffer();
+            indexes[i] = lastIndex;
+            durations[i] = buffer.readVarLong();
+        }
+        return new RawNetworkDurationsData(tag.getInteger("id"), indexes, durations);
+    }
+
+}
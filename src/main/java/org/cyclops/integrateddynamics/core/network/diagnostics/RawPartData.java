@@ -1,11 +1,14 @@
 package org.cyclops.integrateddynamics.core.network.diagnostics;
 
 import lombok.Data;
-import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 
+import java.util.List;
+
 /**
+ * The diagnostics state of a part.
  * @author rubensworks
  */
 @Data
@@ -22,19 +25,26 @@ public class RawPartData implements IRawData {
         return String.format("%s: %s,%s,%s,%s (%s)", name, pos.getX(), pos.getY(), pos.getZ(), side, dimension);
     }
 
-    public NBTTagCompound toNbt() {
-        NBTTagCompound tag = new NBTTagCompound();
-        tag.setInteger("dimension", dimension);
-        tag.setLong("pos", pos.toLong());
-        tag.setInteger("side", side.ordinal());
-        tag.setString("name", name);
-        tag.setLong("last20TicksDurationNs", last20TicksDurationNs);
-        return tag;
+    /**
+     * @param buffer The buffer to write to.
+     * @param nameId The id of the part type name.
+     */
+    public void write(PacketBuffer buffer, int nameId) {
+        buffer.writeVarIntToBuffer(dimension);
+        buffer.writeBlockPos(pos);
+        buffer.writeByte(side.ordinal());
+        buffer.writeVarIntToBuffer(nameId);
+        buffer.writeVarLong(last20TicksDurationNs);
     }
 
-    public static RawPartData fromNbt(NBTTagCompound tag) {
-        return new RawPartData(tag.getInteger("dimension"), BlockPos.fromLong(tag.getLong("pos")),
-                EnumFacing.VALUES[tag.getInteger("side")], tag.getString("name"), tag.getLong("last20TicksDurationNs"));
+    /**
+     * @param buffer The buffer to read from.
+     * @param names The part type names by id.
+     * @return The part data.
+     */
+    public static RawPartData read(PacketBuffer buffer, List<String> names) {
+        return new RawPartData(buffer.readVarIntFromBuffer(), buffer.readBlockPos(),
+                EnumFacing.VALUES[buffer.readByte()], names.get(buffer.readVarIntFromBuffer()), buffer.readVarLong());
     }
 
 }
@@ -2,56 +2,140 @@ package org.cyclops.integrateddynamics.core.network.event;
 
 import com.google.common.collect.Maps;
 import net.minecraftforge.fml.common.eventhandler.EventBus;
-import org.cyclops.cyclopscore.helper.CollectionHelpers;
 import org.cyclops.integrateddynamics.api.network.IEventListenableNetworkElement;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.network.INetworkEventListener;
+import org.cyclops.integrateddynamics.api.network.IPartNetwork;
+import org.cyclops.integrateddynamics.api.network.IPartNetworkElement;
 import org.cyclops.integrateddynamics.api.network.event.ICancelableNetworkEvent;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEvent;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEventBus;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
+import org.cyclops.integrateddynamics.core.part.PartTypeBase;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * An event bus for {@link INetwork} events where
  * {@link INetworkElement} instances can listen to.
  *
+ * Listeners are dispatched from immutable tables per event type, so listeners may (un)register while an event is being posted.
+ * (Un)registrations only discard the table of their event type, which is rebuilt once when that event type is posted next,
+ * so registering many listeners in a row does not copy the tables for each listener.
+ *
  * Partially based on Minecraft Forge's {@link EventBus} implementation.
  *
  * @author rubensworks
  */
 public class NetworkEventBus implements INetworkEventBus {
 
-    private final Map<Class<? extends INetworkEvent>, Set<IEventListenableNetworkElement<?>>> listeners = Collections.synchronizedMap(Maps.<Class<? extends INetworkEvent>, Set<IEventListenableNetworkElement<?>>>newHashMap());
+    private final Map<Class<? extends INetworkEvent>, Map<IEventListenableNetworkElement<?>, Subscription>> subscriptions = Maps.newIdentityHashMap();
+    private final Map<Class<? extends INetworkEvent>, DispatchTable> tables = Maps.newConcurrentMap();
+    private final VariableDependencyIndex variableDependencies = new VariableDependencyIndex();
 
     @Override
-    public void register(IEventListenableNetworkElement<?> target, Class<? extends INetworkEvent> eventType) {
-        CollectionHelpers.addToMapSet(this.listeners, eventType, target);
+    public synchronized void register(IEventListenableNetworkElement<?> target, Class<? extends INetworkEvent> eventType) {
+        Map<IEventListenableNetworkElement<?>, Subscription> eventSubscriptions = subscriptions.get(eventType);
+        if (eventSubscriptions == null) {
+            eventSubscriptions = Maps.newLinkedHashMap();
+            subscriptions.put(eventType, eventSubscriptions);
+        }
+        if (!eventSubscriptions.containsKey(target)) {
+            eventSubscriptions.put(target, createSubscription(target, eventType));
+            tables.remove(eventType);
+        }
+        if(eventType == VariableContentsUpdatedEvent.class) {
+            synchronized (variableDependencies) {
+                variableDependencies.add(target);
+            }
+        }
     }
 
     @Override
-    public void unregister(IEventListenableNetworkElement<?> target, Class<? extends INetworkEvent> eventType) {
-        Set<IEventListenableNetworkElement<?>> listeners = this.listeners.get(eventType);
-        if(listeners != null) {
-            listeners.remove(target);
+    public synchronized void unregister(IEventListenableNetworkElement<?> target, Class<? extends INetworkEvent> eventType) {
+        Map<IEventListenableNetworkElement<?>, Subscription> eventSubscriptions = subscriptions.get(eventType);
+        if(eventSubscriptions != null && eventSubscriptions.remove(target) != null) {
+            if (eventSubscriptions.isEmpty()) {
+                subscriptions.remove(eventType);
+            }
+            tables.remove(eventType);
+        }
+        if(eventType == VariableContentsUpdatedEvent.class) {
+            synchronized (variableDependencies) {
+                variableDependencies.remove(target);
+            }
         }
     }
 
     @Override
-    public void unregister(IEventListenableNetworkElement<?> target) {
+    public synchronized void unregister(IEventListenableNetworkElement<?> target) {
         for(Class<? extends INetworkEvent> eventType : target.getNetworkEventListener().getSubscribedEvents()) {
             unregister(target, eventType);
         }
     }
 
+    /**
+     * Get the dispatch table for the given event type, which is rebuilt if listeners have changed since the last call.
+     * @param eventType The event type.
+     * @return The dispatch table.
+     */
+    protected DispatchTable getTable(Class<? extends INetworkEvent> eventType) {
+        DispatchTable table = tables.get(eventType);
+        if (table == null) {
+            synchronized (this) {
+                table = tables.get(eventType);
+                if (table == null) {
+                    Map<IEventListenableNetworkElement<?>, Subscription> eventSubscriptions = subscriptions.get(eventType);
+                    table = eventSubscriptions == null ? DispatchTable.EMPTY
+                            : new DispatchTable(Maps.newLinkedHashMap(eventSubscriptions));
+                    tables.put(eventType, table);
+                }
+            }
+        }
+        return table;
+    }
+
+    @Override
+    public void invalidateVariableDependencies(PartPos pos) {
+        synchronized (variableDependencies) {
+            variableDependencies.invalidate(pos);
+        }
+    }
+
     @Override
     public void post(INetworkEvent event) {
-        Set<IEventListenableNetworkElement<?>> listeners = this.listeners.get(event.getClass());
-        if(listeners != null) {
-            for (IEventListenableNetworkElement listener : listeners) {
-                listener.getNetworkEventListener().onEvent(event, listener);
+        if(event instanceof VariableContentsUpdatedEvent
+                && ((VariableContentsUpdatedEvent) event).getChangedVariableIds() != null) {
+            postTargeted((VariableContentsUpdatedEvent) event);
+            return;
+        }
+        for (Subscription subscription : getTable(event.getClass()).array) {
+            subscription.dispatch(event);
+        }
+    }
+
+    /**
+     * Only deliver the given event to the listeners that depend on the changed variables.
+     * @param event The event to post.
+     */
+    protected void postTargeted(VariableContentsUpdatedEvent event) {
+        DispatchTable table = getTable(VariableContentsUpdatedEvent.class);
+        if(table.array.length == 0) {
+            return;
+        }
+        IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(event.getNetwork());
+        Collection<IEventListenableNetworkElement<?>> affectedListeners;
+        synchronized (variableDependencies) {
+            affectedListeners = variableDependencies.getAffectedListeners(partNetwork, event.getChangedVariableIds());
+        }
+        for (IEventListenableNetworkElement<?> listener : affectedListeners) {
+            Subscription subscription = table.subscriptions.get(listener);
+            if (subscription != null) {
+                subscription.dispatch(event);
             }
         }
     }
@@ -62,4 +146,83 @@ public class NetworkEventBus implements INetworkEventBus {
         return !event.isCanceled();
     }
 
+    /**
+     * Create a subscription for the given element,
+     * in which the action for the given event type is resolved in advance if possible.
+     * @param target The element.
+     * @param eventType The event type.
+     * @return The subscription.
+     */
+    @SuppressWarnings("unchecked")
+    protected static Subscription createSubscription(IEventListenableNetworkElement<?> target,
+                                                     Class<? extends INetworkEvent> eventType) {
+        INetworkEventListener listener = target.getNetworkEventListener();
+        if (listener instanceof PartTypeBase && target instanceof IPartNetworkElement) {
+            PartTypeBase.IEventAction action = ((PartTypeBase) listener).getNetworkEventAction(eventType);
+            if (action != null) {
+                return new PartActionSubscription((IPartNetworkElement) target, action);
+            }
+        }
+        return new Subscription(target);
+    }
+
+    /**
+     * An immutable table of the subscriptions for one event type.
+     */
+    protected static class DispatchTable {
+
+        public static final DispatchTable EMPTY = new DispatchTable(Collections.<IEventListenableNetworkElement<?>, Subscription>emptyMap());
+
+        private final Map<IEventListenableNetworkElement<?>, Subscription> subscriptions;
+        private final Subscription[] array;
+
+        public DispatchTable(Map<IEventListenableNetworkElement<?>, Subscription> subscriptions) {
+            this.subscriptions = subscriptions;
+            this.array = subscriptions.values().toArray(new Subscription[subscriptions.size()]);
+        }
+
+    }
+
+    /**
+     * A listener for an event type.
+     * The listener is resolved on each dispatch, as elements may delegate to tile entities that can be reloaded.
+     */
+    protected static class Subscription {
+
+        private final IEventListenableNetworkElement element;
+
+        public Subscription(IEventListenableNetworkElement element) {
+            this.element = element;
+        }
+
+        @SuppressWarnings("unchecked")
+        public void dispatch(INetworkEvent event) {
+            element.getNetworkEventListener().onEvent(event, element);
+        }
+
+    }
+
+    /**
+     * A part listener of which the event action was resolved in advance,
+     * which is possible because part types are singletons.
+     */
+    protected static class PartActionSubscription extends Subscription {
+
+        private final IPartNetworkElement element;
+        private final PartTypeBase.IEventAction action;
+
+        public PartActionSubscription(IPartNetworkElement element, PartTypeBase.IEventAction action) {
+            super(element);
+            this.element = element;
+            this.action = action;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void dispatch(INetworkEvent event) {
+            action.onAction(event.getNetwork(), element.getTarget(), element.getPartState(), event);
+        }
+
+    }
+
 }
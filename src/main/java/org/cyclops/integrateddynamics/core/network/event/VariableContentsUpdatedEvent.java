@@ -1,15 +1,42 @@
 package org.cyclops.integrateddynamics.core.network.event;
 
+import gnu.trove.set.TIntSet;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 
+import javax.annotation.Nullable;
+
 /**
  * An event used to signal network elements of updated variables inside the network.
  * @author rubensworks
  */
 public class VariableContentsUpdatedEvent extends NetworkEvent {
 
+    private final TIntSet changedVariableIds;
+
+    /**
+     * Make a new instance for which all listeners will be notified.
+     * @param network The network.
+     */
     public VariableContentsUpdatedEvent(INetwork network) {
+        this(network, null);
+    }
+
+    /**
+     * Make a new instance that only notifies the listeners depending on the given variable ids.
+     * @param network The network.
+     * @param changedVariableIds The ids of the variables that were added, removed or changed,
+     *                           or null if unknown.
+     */
+    public VariableContentsUpdatedEvent(INetwork network, @Nullable TIntSet changedVariableIds) {
         super(network);
+        this.changedVariableIds = changedVariableIds;
+    }
+
+    /**
+     * @return The ids of the variables that were added, removed or changed, or null if unknown.
+     */
+    public @Nullable TIntSet getChangedVariableIds() {
+        return changedVariableIds;
     }
 
 }
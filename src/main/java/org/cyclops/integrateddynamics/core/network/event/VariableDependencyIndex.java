@@ -0,0 +1,207 @@
+package org.cyclops.integrateddynamics.core.network.event;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import gnu.trove.iterator.TIntIterator;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
+import org.cyclops.integrateddynamics.api.PartStateException;
+import org.cyclops.integrateddynamics.api.item.IOperatorVariableFacade;
+import org.cyclops.integrateddynamics.api.item.IProxyVariableFacade;
+import org.cyclops.integrateddynamics.api.item.IVariableFacade;
+import org.cyclops.integrateddynamics.api.network.IEventListenableNetworkElement;
+import org.cyclops.integrateddynamics.api.network.INetworkEventListener;
+import org.cyclops.integrateddynamics.api.network.IPartNetwork;
+import org.cyclops.integrateddynamics.api.network.IPartNetworkElement;
+import org.cyclops.integrateddynamics.api.network.IVariableDependentEventListener;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from variable ids to the listeners that transitively depend on them.
+ * This is used to only deliver {@link VariableContentsUpdatedEvent}s to the listeners that are affected by them.
+ *
+ * Dependencies are calculated lazily, and are recalculated for each listener that was notified,
+ * since the validation of those listeners may have changed what they refer to.
+ * Listeners that can not determine their dependencies will always be notified.
+ * @author rubensworks
+ */
+public class VariableDependencyIndex {
+
+    private final Set<IEventListenableNetworkElement<?>> listeners = Sets.newHashSet();
+    private final Set<IEventListenableNetworkElement<?>> unindexed = Sets.newHashSet();
+    private final Set<IEventListenableNetworkElement<?>> wildcards = Sets.newHashSet();
+    private final Map<IEventListenableNetworkElement<?>, int[]> dependencies = Maps.newHashMap();
+    private final TIntObjectMap<Set<IEventListenableNetworkElement<?>>> dependents = new TIntObjectHashMap<>();
+    private final Map<PartPos, IEventListenableNetworkElement<?>> partListeners = Maps.newHashMap();
+
+    /**
+     * Add a listener to this index.
+     * @param listener The listener.
+     */
+    public void add(IEventListenableNetworkElement<?> listener) {
+        if (listeners.add(listener)) {
+            unindexed.add(listener);
+            if (listener instanceof IPartNetworkElement) {
+                partListeners.put(((IPartNetworkElement) listener).getTarget().getCenter(), listener);
+            }
+        }
+    }
+
+    /**
+     * Remove a listener from this index.
+     * @param listener The listener.
+     */
+    public void remove(IEventListenableNetworkElement<?> listener) {
+        if (listeners.remove(listener)) {
+            unindexed.remove(listener);
+            unindex(listener);
+            if (listener instanceof IPartNetworkElement) {
+                partListeners.remove(((IPartNetworkElement) listener).getTarget().getCenter());
+            }
+        }
+    }
+
+    /**
+     * Mark the dependencies of the given listener for recalculation.
+     * @param listener The listener.
+     */
+    public void invalidate(IEventListenableNetworkElement<?> listener) {
+        if (listeners.contains(listener)) {
+            unindex(listener);
+            unindexed.add(listener);
+        }
+    }
+
+    /**
+     * Mark the dependencies of the part listener at the given position for recalculation.
+     * @param pos The center position of the part.
+     */
+    public void invalidate(PartPos pos) {
+        IEventListenableNetworkElement<?> listener = partListeners.get(pos);
+        if (listener != null) {
+            invalidate(listener);
+        }
+    }
+
+    /**
+     * Get all listeners that depend on at least one of the given variable ids.
+     * @param partNetwork The part network to resolve variable references in.
+     * @param changedVariableIds The changed variable ids.
+     * @return The affected listeners.
+     */
+    public Collection<IEventListenableNetworkElement<?>> getAffectedListeners(@Nullable IPartNetwork partNetwork,
+                                                                              TIntSet changedVariableIds) {
+        for (IEventListenableNetworkElement<?> listener : unindexed) {
+            index(partNetwork, listener);
+        }
+        unindexed.clear();
+
+        Set<IEventListenableNetworkElement<?>> affected = Sets.newLinkedHashSet(wildcards);
+        TIntIterator it = changedVariableIds.iterator();
+        while (it.hasNext()) {
+            Set<IEventListenableNetworkElement<?>> idDependents = dependents.get(it.next());
+            if (idDependents != null) {
+                affected.addAll(idDependents);
+            }
+        }
+
+        for (IEventListenableNetworkElement<?> listener : affected) {
+            invalidate(listener);
+        }
+        return affected;
+    }
+
+    protected void index(@Nullable IPartNetwork partNetwork, IEventListenableNetworkElement<?> listener) {
+        TIntSet variableIds = partNetwork == null ? null : collectDependencies(partNetwork, listener);
+        if (variableIds == null) {
+            wildcards.add(listener);
+        } else {
+            int[] ids = variableIds.toArray();
+            dependencies.put(listener, ids);
+            for (int id : ids) {
+                Set<IEventListenableNetworkElement<?>> idDependents = dependents.get(id);
+                if (idDependents == null) {
+                    idDependents = Sets.newHashSet();
+                    dependents.put(id, idDependents);
+                }
+                idDependents.add(listener);
+            }
+        }
+    }
+
+    protected void unindex(IEventListenableNetworkElement<?> listener) {
+        wildcards.remove(listener);
+        int[] ids = dependencies.remove(listener);
+        if (ids != null) {
+            for (int id : ids) {
+                Set<IEventListenableNetworkElement<?>> idDependents = dependents.get(id);
+                if (idDependents != null) {
+                    idDependents.remove(listener);
+                    if (idDependents.isEmpty()) {
+                        dependents.remove(id);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Collect all variable ids the given listener transitively depends on.
+     * @param partNetwork The part network.
+     * @param listener The listener.
+     * @return The variable ids, or null if they can not be determined.
+     */
+    @SuppressWarnings("unchecked")
+    protected @Nullable TIntSet collectDependencies(IPartNetwork partNetwork, IEventListenableNetworkElement listener) {
+        INetworkEventListener eventListener = listener.getNetworkEventListener();
+        if (!(eventListener instanceof IVariableDependentEventListener)) {
+            return null;
+        }
+        IVariableFacade variableFacade;
+        try {
+            variableFacade = ((IVariableDependentEventListener) eventListener).getVariableFacade(listener);
+        } catch (PartStateException e) {
+            return null;
+        }
+        TIntSet variableIds = new TIntHashSet();
+        if (variableFacade != null && !addReferencedVariableIds(partNetwork, variableFacade, variableIds)) {
+            return null;
+        }
+        return variableIds;
+    }
+
+    /**
+     * Add all variable ids the given facade transitively refers to.
+     * Unresolvable ids are also added, so that their later addition is noticed.
+     * @param partNetwork The part network.
+     * @param variableFacade The variable facade.
+     * @param variableIds The set to add to.
+     * @return If the references could be determined.
+     */
+    protected boolean addReferencedVariableIds(IPartNetwork partNetwork, IVariableFacade variableFacade, TIntSet variableIds) {
+        if (variableFacade instanceof IProxyVariableFacade) {
+            // The contents of proxies live outside of the variable stores, so we can not track them.
+            return false;
+        }
+        if (variableFacade instanceof IOperatorVariableFacade) {
+            int[] referencedIds = ((IOperatorVariableFacade) variableFacade).getVariableIds();
+            if (referencedIds != null) {
+                for (int referencedId : referencedIds) {
+                    if (variableIds.add(referencedId) && partNetwork.hasVariableFacade(referencedId)
+                            && !addReferencedVariableIds(partNetwork, partNetwork.getVariableFacade(referencedId), variableIds)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+}
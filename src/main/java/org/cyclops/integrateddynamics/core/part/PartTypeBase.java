@@ -35,6 +35,7 @@ import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.core.item.ItemPart;
 import org.cyclops.integrateddynamics.core.network.PartNetworkElement;
 
+import javax.annotation.Nullable;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -230,6 +231,14 @@ public abstract class PartTypeBase<P extends IPartType<P, S>, S extends IPartSta
         return networkEventActions.keySet();
     }
 
+    /**
+     * @param eventType An event type.
+     * @return The action for the given event type, or null if this part does not listen to it.
+     */
+    public final @Nullable IEventAction getNetworkEventAction(Class<? extends INetworkEvent> eventType) {
+        return networkEventActions.get(eventType);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public final void onEvent(INetworkEvent event, IPartNetworkElement<P, S> networkElement) {
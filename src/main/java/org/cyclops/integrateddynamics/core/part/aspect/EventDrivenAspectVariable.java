@@ -0,0 +1,40 @@
+package org.cyclops.integrateddynamics.core.part.aspect;
+
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.part.PartTarget;
+import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
+import org.cyclops.integrateddynamics.core.BlockChangeNotifier;
+
+/**
+ * Variable for a specific aspect from a part that only recalculates its target value
+ * after the target block has changed, instead of every ticking interval.
+ * @author rubensworks
+ */
+public abstract class EventDrivenAspectVariable<V extends IValue> extends LazyAspectVariable<V>
+        implements BlockChangeNotifier.IBlockChangeListener {
+
+    private volatile boolean changed = false;
+
+    public EventDrivenAspectVariable(IValueType<V> type, PartTarget target, IAspectRead<V, ?> aspect) {
+        super(type, target, aspect);
+        BlockChangeNotifier.getInstance().watch(target.getTarget().getPos(), this);
+    }
+
+    @Override
+    public boolean requiresUpdate() {
+        return changed && super.requiresUpdate();
+    }
+
+    @Override
+    public void update() {
+        changed = false;
+        super.update();
+    }
+
+    @Override
+    public void onBlockChanged() {
+        changed = true;
+    }
+
+}
@@ -41,10 +41,12 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
     private final List<IAspectWriteDeactivator> writeDeactivators;
     private final ModBase mod;
     private final ModBase modGui;
+    private final boolean eventDriven;
 
     private AspectBuilder(boolean read, T valueType, List<String> kinds, IAspectProperties defaultAspectProperties,
                           List<IAspectValuePropagator> valuePropagators, List<IAspectWriteActivator> writeActivators,
-                          List<IAspectWriteDeactivator> writeDeactivators, ModBase mod, ModBase modGui) {
+                          List<IAspectWriteDeactivator> writeDeactivators, ModBase mod, ModBase modGui,
+                          boolean eventDriven) {
         this.read = read;
         this.valueType = valueType;
         this.kinds = kinds;
@@ -54,6 +56,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
         this.writeDeactivators = writeDeactivators;
         this.mod = Objects.requireNonNull(mod);
         this.modGui = Objects.requireNonNull(modGui);
+        this.eventDriven = eventDriven;
     }
 
     /**
@@ -82,7 +85,8 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 Helpers.joinList(writeActivators, null),
                 Helpers.joinList(writeDeactivators, null),
                 mod,
-                modGui);
+                modGui,
+                eventDriven);
     }
 
     /**
@@ -99,7 +103,8 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 Helpers.joinList(writeActivators, null),
                 Helpers.joinList(writeDeactivators, null),
                 mod,
-                modGui);
+                modGui,
+                eventDriven);
     }
 
     /**
@@ -116,7 +121,8 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 Helpers.joinList(writeActivators, null),
                 Helpers.joinList(writeDeactivators, null),
                 mod,
-                modGui);
+                modGui,
+                eventDriven);
     }
 
     /**
@@ -137,7 +143,8 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 Helpers.joinList(writeActivators, activator),
                 Helpers.joinList(writeDeactivators, null),
                 mod,
-                modGui);
+                modGui,
+                eventDriven);
     }
 
     /**
@@ -158,7 +165,8 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 Helpers.joinList(writeActivators, null),
                 Helpers.joinList(writeDeactivators, deactivator),
                 mod,
-                modGui);
+                modGui,
+                eventDriven);
     }
 
     /**
@@ -175,7 +183,8 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 Helpers.joinList(writeActivators, null),
                 Helpers.joinList(writeDeactivators, null),
                 mod,
-                modGui);
+                modGui,
+                eventDriven);
     }
 
     /**
@@ -192,7 +201,29 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 Helpers.joinList(writeActivators, null),
                 Helpers.joinList(writeDeactivators, null),
                 mod,
-                modGui);
+                modGui,
+                eventDriven);
+    }
+
+    /**
+     * Only recalculate the built aspect when the target block changes, instead of every ticking interval.
+     * This is only applicable for readers of which the value depends on nothing else than the target block.
+     * @return The new builder instance.
+     */
+    public AspectBuilder<V, T, O> eventDriven() {
+        if(!this.read) {
+            throw new RuntimeException("Event-driven updating is only applicable for readers.");
+        }
+        return new AspectBuilder<>(
+                this.read, this.valueType,
+                Helpers.joinList(this.kinds, null),
+                this.defaultAspectProperties,
+                Helpers.joinList(this.valuePropagators, null),
+                Helpers.joinList(writeActivators, null),
+                Helpers.joinList(writeDeactivators, null),
+                mod,
+                modGui,
+                true);
     }
 
     /**
@@ -225,7 +256,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
     public static <V extends IValue, T extends IValueType<V>> AspectBuilder<V, T, Pair<PartTarget, IAspectProperties>> forReadType(T valueType) {
         return new AspectBuilder<>(true, valueType, ImmutableList.of(valueType.getTypeName()), null,
                 Collections.<IAspectValuePropagator>emptyList(), Collections.<IAspectWriteActivator>emptyList(),
-                Collections.<IAspectWriteDeactivator>emptyList(), IntegratedDynamics._instance, IntegratedDynamics._instance);
+                Collections.<IAspectWriteDeactivator>emptyList(), IntegratedDynamics._instance, IntegratedDynamics._instance, false);
     }
 
     /**
@@ -238,19 +269,21 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
     public static <V extends IValue, T extends IValueType<V>> AspectBuilder<V, T, Triple<PartTarget, IAspectProperties, IVariable<V>>> forWriteType(T valueType) {
         return new AspectBuilder<>(false, valueType, ImmutableList.of(valueType.getTypeName()), null,
                 Collections.<IAspectValuePropagator>emptyList(), Collections.<IAspectWriteActivator>emptyList(),
-                Collections.<IAspectWriteDeactivator>emptyList(), IntegratedDynamics._instance, IntegratedDynamics._instance);
+                Collections.<IAspectWriteDeactivator>emptyList(), IntegratedDynamics._instance, IntegratedDynamics._instance, false);
     }
 
     private static class BuiltReader<V extends IValue, T extends IValueType<V>> extends AspectReadBase<V, T> {
 
         private final T valueType;
         private final List<IAspectValuePropagator> valuePropagators;
+        private final boolean eventDriven;
 
         public BuiltReader(AspectBuilder<V, T, V> aspectBuilder) {
             super(aspectBuilder.mod, aspectBuilder.modGui,
                     deriveUnlocalizedType(aspectBuilder), aspectBuilder.defaultAspectProperties);
             this.valueType = aspectBuilder.valueType;
             this.valuePropagators = aspectBuilder.valuePropagators;
+            this.eventDriven = aspectBuilder.eventDriven;
         }
 
         protected static <V extends IValue, T extends IValueType<V>> String deriveUnlocalizedType(AspectBuilder<V, T, V> aspectBuilder) {
@@ -276,6 +309,11 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
             return (V) output;
         }
 
+        @Override
+        protected boolean isEventDriven() {
+            return eventDriven;
+        }
+
         @Override
         public T getValueType() {
             return valueType;
@@ -24,8 +24,11 @@ import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
+import org.cyclops.integrateddynamics.api.network.IPartNetworkElement;
+import org.cyclops.integrateddynamics.api.network.IVariableDependentEventListener;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEvent;
 import org.cyclops.integrateddynamics.api.part.IPartContainer;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
@@ -36,6 +39,7 @@ import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
+import org.cyclops.integrateddynamics.core.helper.PartHelpers;
 import org.cyclops.integrateddynamics.core.helper.WrenchHelpers;
 import org.cyclops.integrateddynamics.core.network.event.NetworkElementAddEvent;
 import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
@@ -50,7 +54,8 @@ import java.util.Map;
  * A panel part that is driven by a contained variable.
  * @author rubensworks
  */
-public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariableDriven<P, S>, S extends PartTypePanelVariableDriven.State<P, S>> extends PartTypePanel<P, S> {
+public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariableDriven<P, S>, S extends PartTypePanelVariableDriven.State<P, S>> extends PartTypePanel<P, S>
+        implements IVariableDependentEventListener<IPartNetworkElement<P, S>> {
 
     public PartTypePanelVariableDriven(String name) {
         super(name);
@@ -74,6 +79,9 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
         actions.put(NetworkElementAddEvent.Post.class, new IEventAction<P, S, NetworkElementAddEvent.Post>() {
             @Override
             public void onAction(INetwork network, PartTarget target, S state, NetworkElementAddEvent.Post event) {
+                if(!NetworkHelpers.mayProvideVariables(event.getNetworkElement())) {
+                    return;
+                }
                 IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
                 onVariableContentsUpdated(partNetwork, target, state);
             }
@@ -81,6 +89,11 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
         return actions;
     }
 
+    @Override
+    public IVariableFacade getVariableFacade(IPartNetworkElement<P, S> networkElement) {
+        return PartHelpers.getFirstVariableFacade(networkElement.getPartState().getInventory());
+    }
+
     @Override
     public void addDrops(PartTarget target, S state, List<ItemStack> itemStacks, boolean dropMainElement) {
         for(int i = 0; i < state.getInventory().getSizeInventory(); i++) {
@@ -266,7 +279,7 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
             IValue value = getDisplayValue();
             if(value != null) {
                 tag.setString("displayValueType", value.getType().getUnlocalizedName());;
-                tag.setString("displayValue", value.getType().serialize(value));
+                ValueHelpers.writeValue(tag, "displayValue", value);
             }
             tag.setInteger("facingRotation", facingRotation.ordinal());
         }
@@ -275,9 +288,11 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
         public void readFromNBT(NBTTagCompound tag) {
             super.readFromNBT(tag);
             if(tag.hasKey("displayValueType", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())
-                    && tag.hasKey("displayValue", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())) {
+                    && ValueHelpers.hasValue(tag, "displayValue")) {
                 IValueType valueType = ValueTypes.REGISTRY.getValueType(tag.getString("displayValueType"));
-                if(valueType != null) {
+                if(valueType != null && tag.hasKey("displayValue", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal())) {
+                    setDisplayValue(ValueHelpers.readValue(tag, "displayValue", valueType));
+                } else if(valueType != null) {
                     String serializedValue = tag.getString("displayValue");
                     L10NHelpers.UnlocalizedString deserializationError = valueType.canDeserialize(serializedValue);
                     if(deserializationError == null) {
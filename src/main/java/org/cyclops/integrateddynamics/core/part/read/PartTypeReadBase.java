@@ -1,7 +1,9 @@
 package org.cyclops.integrateddynamics.core.part.read;
 
+import net.minecraft.block.Block;
 import net.minecraft.client.gui.GuiScreen;
 import net.minecraft.inventory.Container;
+import net.minecraft.world.IBlockAccess;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
@@ -17,6 +19,7 @@ import org.cyclops.integrateddynamics.api.part.read.IPartStateReader;
 import org.cyclops.integrateddynamics.api.part.read.IPartTypeReader;
 import org.cyclops.integrateddynamics.client.gui.GuiPartReader;
 import org.cyclops.integrateddynamics.core.part.PartTypeAspects;
+import org.cyclops.integrateddynamics.core.part.aspect.EventDrivenAspectVariable;
 import org.cyclops.integrateddynamics.inventory.container.ContainerPartReader;
 import org.cyclops.integrateddynamics.part.aspect.Aspects;
 
@@ -57,6 +60,19 @@ public abstract class PartTypeReadBase<P extends IPartTypeReader<P, S>, S extend
         }
     }
 
+    @Override
+    public void onBlockNeighborChange(INetwork network, IPartNetwork partNetwork, PartTarget target, S state,
+                                      IBlockAccess world, Block neighborBlock) {
+        super.onBlockNeighborChange(network, partNetwork, target, state, world, neighborBlock);
+        // Changes that only notify neighbours don't reach the block change notifier.
+        for(IAspectRead aspect : getReadAspects()) {
+            IAspectVariable variable = state.getVariable(aspect);
+            if(variable instanceof EventDrivenAspectVariable) {
+                ((EventDrivenAspectVariable) variable).onBlockChanged();
+            }
+        }
+    }
+
     @Override
     public List<IAspectRead> getReadAspects() {
         if (aspectsRead == null) {
@@ -15,8 +15,11 @@ import org.cyclops.cyclopscore.config.extendedconfig.BlockConfig;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
+import org.cyclops.integrateddynamics.api.network.IPartNetworkElement;
+import org.cyclops.integrateddynamics.api.network.IVariableDependentEventListener;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEvent;
 import org.cyclops.integrateddynamics.api.part.IPartContainer;
 import org.cyclops.integrateddynamics.api.part.PartRenderPosition;
@@ -30,6 +33,7 @@ import org.cyclops.integrateddynamics.core.block.IgnoredBlock;
 import org.cyclops.integrateddynamics.core.block.IgnoredBlockStatus;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
+import org.cyclops.integrateddynamics.core.helper.PartHelpers;
 import org.cyclops.integrateddynamics.core.network.event.NetworkElementAddEvent;
 import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
 import org.cyclops.integrateddynamics.core.part.PartTypeAspects;
@@ -46,7 +50,7 @@ import java.util.Map;
  * @author rubensworks
  */
 public abstract class PartTypeWriteBase<P extends IPartTypeWriter<P, S>, S extends IPartStateWriter<P>>
-        extends PartTypeAspects<P, S> implements IPartTypeWriter<P, S> {
+        extends PartTypeAspects<P, S> implements IPartTypeWriter<P, S>, IVariableDependentEventListener<IPartNetworkElement<P, S>> {
 
     private List<IAspectWrite> aspectsWrite = null;
 
@@ -71,6 +75,9 @@ public abstract class PartTypeWriteBase<P extends IPartTypeWriter<P, S>, S exten
         actions.put(NetworkElementAddEvent.Post.class, new IEventAction<P, S, NetworkElementAddEvent.Post>() {
             @Override
             public void onAction(INetwork network, PartTarget target, S state, NetworkElementAddEvent.Post event) {
+                if(!NetworkHelpers.mayProvideVariables(event.getNetworkElement())) {
+                    return;
+                }
                 IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
                 onVariableContentsUpdated(partNetwork, target, state);
             }
@@ -78,6 +85,11 @@ public abstract class PartTypeWriteBase<P extends IPartTypeWriter<P, S>, S exten
         return actions;
     }
 
+    @Override
+    public IVariableFacade getVariableFacade(IPartNetworkElement<P, S> networkElement) {
+        return PartHelpers.getFirstVariableFacade(networkElement.getPartState().getInventory());
+    }
+
     @Override
     protected Block createBlock(BlockConfig blockConfig) {
         return new IgnoredBlockStatus(blockConfig);
@@ -153,6 +165,7 @@ public abstract class PartTypeWriteBase<P extends IPartTypeWriter<P, S>, S exten
         }
         IAspectWrite aspect = activeIndex == -1 ? null : getWriteAspects().get(activeIndex);
         partState.triggerAspectInfoUpdate((P) this, target, aspect);
+        NetworkHelpers.invalidateVariableDependencies(target);
 
         if (aspect != null) {
             INetwork network = NetworkHelpers.getNetwork(target.getCenter().getPos().getWorld(), target.getCenter().getPos().getBlockPos());
@@ -1,6 +1,10 @@
 package org.cyclops.integrateddynamics.core.path;
 
 import com.google.common.collect.Sets;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
 import lombok.Data;
 import lombok.experimental.Delegate;
 import net.minecraft.nbt.NBTTagCompound;
@@ -47,10 +51,7 @@ public class Cluster implements Collection<IPathElement>, INBTSerializable {
         NBTTagList list = new NBTTagList();
 
         for(IPathElement e : elements) {
-            NBTTagCompound elementTag = new NBTTagCompound();
-            elementTag.setInteger("dimension", e.getPosition().getDimensionId());
-            elementTag.setLong("pos", e.getPosition().getBlockPos().toLong());
-            list.appendTag(elementTag);
+            list.appendTag(createPositionTag(e.getPosition().getDimensionId(), e.getPosition().getBlockPos().toLong()));
         }
 
         tag.setTag("list", list);
@@ -59,25 +60,84 @@ public class Cluster implements Collection<IPathElement>, INBTSerializable {
 
     @Override
     public void fromNBT(NBTTagCompound tag) {
-        NBTTagList list = tag.getTagList("list", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
+        TIntObjectMap<TLongList> positions = readPositions(tag);
+        for (int dimensionId : positions.keys()) {
+            TLongList dimensionPositions = positions.get(dimensionId);
+            for (int i = 0; i < dimensionPositions.size(); i++) {
+                addPosition(dimensionId, BlockPos.fromLong(dimensionPositions.get(i)));
+            }
+        }
+    }
+
+    /**
+     * Create the NBT tag for a single position in a serialized cluster.
+     * @param dimensionId The dimension id.
+     * @param position A position that was packed with {@link BlockPos#toLong()}.
+     * @return The position tag.
+     */
+    public static NBTTagCompound createPositionTag(int dimensionId, long position) {
+        NBTTagCompound elementTag = new NBTTagCompound();
+        elementTag.setInteger("dimension", dimensionId);
+        elementTag.setLong("pos", position);
+        return elementTag;
+    }
 
+    /**
+     * Read the positions in a serialized cluster without resolving their path elements.
+     * @param tag The serialized cluster.
+     * @return The packed positions, grouped by dimension id.
+     */
+    public static TIntObjectMap<TLongList> readPositions(NBTTagCompound tag) {
+        TIntObjectMap<TLongList> positions = new TIntObjectHashMap<>();
+        NBTTagList list = tag.getTagList("list", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
         for(int i = 0; i < list.tagCount(); i++) {
             NBTTagCompound elementTag = list.getCompoundTagAt(i);
-            int dimensionId = elementTag.getInteger("dimension");
-            BlockPos pos = BlockPos.fromLong(elementTag.getLong("pos"));
+            addPosition(positions, elementTag.getInteger("dimension"), elementTag.getLong("pos"));
+        }
+        return positions;
+    }
+
+    /**
+     * @return The packed positions of all path elements in this cluster, grouped by dimension id.
+     */
+    public TIntObjectMap<TLongList> getPositions() {
+        TIntObjectMap<TLongList> positions = new TIntObjectHashMap<>();
+        for(IPathElement e : elements) {
+            addPosition(positions, e.getPosition().getDimensionId(), e.getPosition().getBlockPos().toLong());
+        }
+        return positions;
+    }
+
+    protected static void addPosition(TIntObjectMap<TLongList> positions, int dimensionId, long position) {
+        TLongList dimensionPositions = positions.get(dimensionId);
+        if (dimensionPositions == null) {
+            dimensionPositions = new TLongArrayList();
+            positions.put(dimensionId, dimensionPositions);
+        }
+        dimensionPositions.add(position);
+    }
 
-            if(!net.minecraftforge.common.DimensionManager.isDimensionRegistered(dimensionId)) {
-                IntegratedDynamics.clog(Level.WARN, String.format("Skipped loading part from a network at the " +
-                        "invalid dimension id %s.", dimensionId));
+    /**
+     * Resolve the path element at the given position and add it to this cluster.
+     * @param dimensionId The dimension id.
+     * @param pos The position.
+     * @return The added path element, or null if none could be resolved.
+     */
+    public IPathElement addPosition(int dimensionId, BlockPos pos) {
+        if(!net.minecraftforge.common.DimensionManager.isDimensionRegistered(dimensionId)) {
+            IntegratedDynamics.clog(Level.WARN, String.format("Skipped loading part from a network at the " +
+                    "invalid dimension id %s.", dimensionId));
+            return null;
+        } else {
+            World world = FMLCommonHandler.instance().getMinecraftServerInstance().worldServerForDimension(dimensionId);
+            IPathElement pathElement = TileHelpers.getCapability(world, pos, null, PathElementConfig.CAPABILITY);
+            if(pathElement == null) {
+                IntegratedDynamics.clog(Level.WARN, String.format("Skipped loading part from a network at " +
+                        "position %s in world %s because it has no valid path element.", pos, dimensionId));
+                return null;
             } else {
-                World world = FMLCommonHandler.instance().getMinecraftServerInstance().worldServerForDimension(dimensionId);
-                IPathElement pathElement = TileHelpers.getCapability(world, pos, null, PathElementConfig.CAPABILITY);
-                if(pathElement == null) {
-                    IntegratedDynamics.clog(Level.WARN, String.format("Skipped loading part from a network at " +
-                            "position %s in world %s because it has no valid path element.", pos, dimensionId));
-                } else {
-                    elements.add(pathElement);
-                }
+                elements.add(pathElement);
+                return pathElement;
             }
         }
     }
@@ -0,0 +1,364 @@
+package org.cyclops.integrateddynamics.core.persist.world;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import gnu.trove.list.TLongList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import lombok.Data;
+import net.minecraft.util.math.BlockPos;
+
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stores the topology of networks in binary shard files, one file per dimension and region.
+ * Each network is stored in the shard of its anchor position, so that saving a changed network
+ * only requires the shard of that network to be rewritten.
+ *
+ * A shard file contains, for each network, its persistence id and the packed positions of its path elements,
+ * grouped by dimension.
+ * An index file contains the next network id and the shard of each network,
+ * it is rewritten after the shards in each save so that networks that were created since the last world save
+ * can be recovered, and missing shards can be detected.
+ * Shard files are read fully into heap buffers, as memory-mapped files can stay locked until they are garbage collected,
+ * which would prevent them from being replaced on the next save.
+ * Shards that can not be read are quarantined by renaming them, so that the readable shards can still be loaded.
+ * @author rubensworks
+ */
+public class NetworkShardStorage {
+
+    private static final int MAGIC = 0x49444E53;
+    private static final int INDEX_MAGIC = 0x49444E49;
+    private static final int VERSION = 1;
+    private static final Pattern DIMENSION_DIRECTORY = Pattern.compile("^DIM(-?\\d+)$");
+    private static final Pattern SHARD_FILE = Pattern.compile("^r\\.(-?\\d+)\\.(-?\\d+)\\.idn$");
+
+    private final File directory;
+
+    public NetworkShardStorage(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Read all networks from the shards.
+     * If an index is given, only the shards it refers to are read,
+     * and only the networks that the index places in a shard are read from it.
+     * Otherwise, all shards are read, and a network that is contained in multiple shards is only read from the first one.
+     * Shards that can not be read are renamed with a corrupt suffix and are skipped.
+     * @param index The index of the persisted networks, or null if there is none.
+     * @param errors A map to which the error of each shard that was missing, corrupt or inconsistent will be added.
+     * @return A map from network persistence id to its topology.
+     */
+    public TIntObjectMap<NetworkTopology> readAll(@Nullable NetworkIndex index, Map<ShardKey, IOException> errors) {
+        TIntObjectMap<NetworkTopology> topologies = new TIntObjectHashMap<>();
+        if (index != null) {
+            for (ShardKey key : Sets.newHashSet(index.getShards().valueCollection())) {
+                File shardFile = key.getFile(directory);
+                if (!shardFile.isFile()) {
+                    errors.put(key, new IOException("The network shard " + shardFile + " is missing"));
+                } else {
+                    readShardSafe(key, shardFile, index, topologies, errors);
+                }
+            }
+            return topologies;
+        }
+
+        File[] dimensionDirectories = directory.listFiles();
+        if (dimensionDirectories == null) {
+            return topologies;
+        }
+        for (File dimensionDirectory : dimensionDirectories) {
+            Matcher dimensionMatcher = DIMENSION_DIRECTORY.matcher(dimensionDirectory.getName());
+            File[] shardFiles = dimensionDirectory.listFiles();
+            if (!dimensionMatcher.matches() || shardFiles == null) {
+                continue;
+            }
+            int dimension = Integer.parseInt(dimensionMatcher.group(1));
+            for (File shardFile : shardFiles) {
+                Matcher shardMatcher = SHARD_FILE.matcher(shardFile.getName());
+                if (shardMatcher.matches()) {
+                    ShardKey key = new ShardKey(dimension,
+                            Integer.parseInt(shardMatcher.group(1)), Integer.parseInt(shardMatcher.group(2)));
+                    readShardSafe(key, shardFile, null, topologies, errors);
+                }
+            }
+        }
+        return topologies;
+    }
+
+    protected void readShardSafe(ShardKey key, File file, @Nullable NetworkIndex index,
+                                 TIntObjectMap<NetworkTopology> topologies, Map<ShardKey, IOException> errors) {
+        List<NetworkTopology> shardTopologies;
+        try {
+            shardTopologies = readShard(key, file, index);
+        } catch (IOException e) {
+            try {
+                quarantine(file);
+            } catch (IOException e2) {
+                e.addSuppressed(e2);
+            }
+            errors.put(key, e);
+            return;
+        }
+        for (NetworkTopology topology : shardTopologies) {
+            NetworkTopology existing = topologies.get(topology.getNetworkId());
+            if (existing != null) {
+                errors.put(key, new IOException(String.format("The network %s is stored in both shard %s and %s",
+                        topology.getNetworkId(), existing.getShard(), key)));
+            } else {
+                topologies.put(topology.getNetworkId(), topology);
+            }
+        }
+    }
+
+    protected List<NetworkTopology> readShard(ShardKey key, File file, @Nullable NetworkIndex index) throws IOException {
+        List<NetworkTopology> topologies = Lists.newArrayList();
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Invalid network shard header in " + file);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported network shard version " + version + " in " + file);
+            }
+            int networks = buffer.getInt();
+            for (int i = 0; i < networks; i++) {
+                NetworkTopology topology = new NetworkTopology(buffer.getInt(), key);
+                int segments = buffer.getInt();
+                for (int j = 0; j < segments; j++) {
+                    int dimension = buffer.getInt();
+                    int count = buffer.getInt();
+                    if (count < 0 || count > buffer.remaining() / 8) {
+                        throw new BufferUnderflowException();
+                    }
+                    long[] positions = new long[count];
+                    readLongs(buffer, positions);
+                    topology.getPositions().put(dimension, positions);
+                }
+                if (index != null && !key.equals(index.getShards().get(topology.getNetworkId()))) {
+                    // A leftover of a network that was removed or that was not indexed yet.
+                    continue;
+                }
+                topologies.add(topology);
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("The network shard " + file + " is truncated", e);
+        }
+        return topologies;
+    }
+
+    /**
+     * Move the given unreadable file out of the way, so that it is not read again but can still be inspected.
+     * @param file The file.
+     * @return The new location of the file.
+     * @throws IOException If the file could not be moved.
+     */
+    public File quarantine(File file) throws IOException {
+        File target = new File(file.getParentFile(), file.getName() + "." + System.currentTimeMillis() + ".corrupt");
+        Files.move(file.toPath(), target.toPath());
+        return target;
+    }
+
+    protected static void readLongs(ByteBuffer buffer, long[] target) {
+        buffer.asLongBuffer().get(target);
+        buffer.position(buffer.position() + target.length * 8);
+    }
+
+    /**
+     * Write the given networks to the given shard, replacing all previous contents.
+     * If no networks are given, the shard file is removed.
+     * @param key The shard key.
+     * @param networks The networks in this shard.
+     * @throws IOException If an I/O error occurred.
+     */
+    public void writeShard(ShardKey key, Collection<NetworkTopologySource> networks) throws IOException {
+        File file = key.getFile(directory);
+        if (networks.isEmpty()) {
+            if (file.exists() && !file.delete()) {
+                throw new IOException("Could not remove the empty network shard " + file);
+            }
+            return;
+        }
+        File tempFile = createTempFile(file);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(networks.size());
+            for (NetworkTopologySource network : networks) {
+                TIntObjectMap<TLongList> positions = network.getPositions();
+                out.writeInt(network.getNetworkId());
+                out.writeInt(positions.size());
+                for (int dimension : positions.keys()) {
+                    TLongList dimensionPositions = positions.get(dimension);
+                    out.writeInt(dimension);
+                    out.writeInt(dimensionPositions.size());
+                    for (int i = 0; i < dimensionPositions.size(); i++) {
+                        out.writeLong(dimensionPositions.get(i));
+                    }
+                }
+            }
+        }
+        replaceFile(tempFile, file);
+    }
+
+    /**
+     * Read the index of all persisted networks.
+     * @return The index, or null if none was written yet.
+     * @throws IOException If the index exists but could not be read.
+     */
+    public @Nullable NetworkIndex readIndex() throws IOException {
+        File file = getIndexFile();
+        if (!file.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != INDEX_MAGIC) {
+                throw new IOException("Invalid network index header in " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported network index version " + version + " in " + file);
+            }
+            NetworkIndex index = new NetworkIndex(in.readInt());
+            int networks = in.readInt();
+            for (int i = 0; i < networks; i++) {
+                index.getShards().put(in.readInt(), new ShardKey(in.readInt(), in.readInt(), in.readInt()));
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Atomically replace the index of all persisted networks.
+     * @param index The index.
+     * @throws IOException If an I/O error occurred.
+     */
+    public void writeIndex(NetworkIndex index) throws IOException {
+        File file = getIndexFile();
+        File tempFile = createTempFile(file);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(index.getNextNetworkId());
+            out.writeInt(index.getShards().size());
+            for (int networkId : index.getShards().keys()) {
+                ShardKey shard = index.getShards().get(networkId);
+                out.writeInt(networkId);
+                out.writeInt(shard.getDimension());
+                out.writeInt(shard.getRegionX());
+                out.writeInt(shard.getRegionZ());
+            }
+        }
+        replaceFile(tempFile, file);
+    }
+
+    /**
+     * Remove the index of all persisted networks, for when the shards will not be kept up to date anymore.
+     * @throws IOException If an I/O error occurred.
+     */
+    public void removeIndex() throws IOException {
+        File file = getIndexFile();
+        if (file.exists() && !file.delete()) {
+            throw new IOException("Could not remove the network index " + file);
+        }
+    }
+
+    protected File getIndexFile() {
+        return new File(directory, "index.idn");
+    }
+
+    protected static File createTempFile(File file) throws IOException {
+        File parent = file.getParentFile();
+        if (!parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Could not create the network storage directory " + parent);
+        }
+        return new File(parent, file.getName() + ".tmp");
+    }
+
+    protected static void replaceFile(File tempFile, File file) throws IOException {
+        try {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Identifies a shard by dimension and region.
+     */
+    @Data
+    public static class ShardKey {
+
+        public static final int REGION_SHIFT = 9;
+
+        private final int dimension;
+        private final int regionX;
+        private final int regionZ;
+
+        public static ShardKey of(int dimension, BlockPos pos) {
+            return new ShardKey(dimension, pos.getX() >> REGION_SHIFT, pos.getZ() >> REGION_SHIFT);
+        }
+
+        public File getFile(File directory) {
+            return new File(new File(directory, "DIM" + dimension), "r." + regionX + "." + regionZ + ".idn");
+        }
+
+    }
+
+    /**
+     * The index of all persisted networks, which is rewritten together with the shards.
+     */
+    @Data
+    public static class NetworkIndex {
+
+        private final int nextNetworkId;
+        private final TIntObjectMap<ShardKey> shards = new TIntObjectHashMap<>();
+
+    }
+
+    /**
+     * The persisted topology of a single network.
+     */
+    @Data
+    public static class NetworkTopology {
+
+        private final int networkId;
+        private final ShardKey shard;
+        private final TIntObjectMap<long[]> positions = new TIntObjectHashMap<>();
+
+    }
+
+    /**
+     * A network that can be written to a shard.
+     */
+    public static interface NetworkTopologySource {
+
+        public int getNetworkId();
+
+        /**
+         * @return The packed positions of all path elements in this network, grouped by dimension.
+         */
+        public TIntObjectMap<TLongList> getPositions();
+
+    }
+
+}
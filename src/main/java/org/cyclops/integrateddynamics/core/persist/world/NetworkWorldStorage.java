@@ -1,20 +1,47 @@
 package org.cyclops.integrateddynamics.core.persist.world;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import gnu.trove.list.TLongList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.common.DimensionManager;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.apache.logging.log4j.Level;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.cyclopscore.init.ModBase;
 import org.cyclops.cyclopscore.persist.nbt.NBTPersist;
 import org.cyclops.cyclopscore.persist.world.WorldStorage;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.IntegratedDynamics;
+import org.cyclops.integrateddynamics.Reference;
 import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.core.network.DeferredNetworkLoader;
 import org.cyclops.integrateddynamics.core.network.Network;
+import org.cyclops.integrateddynamics.core.network.NetworkChunkTracker;
 
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * World NBT storage for all active networks.
+ * The topology of the networks is stored separately in {@link NetworkShardStorage} shards,
+ * unless sharded storage is disabled in the config.
+ * The shards and their index are written on each world save, while this storage is only written when the server stops,
+ * so the shards are authoritative for which networks exist.
  * @author rubensworks
  */
 public class NetworkWorldStorage extends WorldStorage {
@@ -23,9 +50,19 @@ public class NetworkWorldStorage extends WorldStorage {
 
     @NBTPersist
     private Set<INetwork> networks = Sets.newHashSet();
+    @NBTPersist
+    private int nextNetworkId = 0;
+
+    private final Set<INetwork> dirtyNetworks = Sets.newIdentityHashSet();
+    private final Set<NetworkShardStorage.ShardKey> dirtyShards = Sets.newHashSet();
+    private TIntObjectMap<NetworkShardStorage.NetworkTopology> loadedTopologies = null;
+    private TIntSet missingTopologies = null;
+    private boolean indexDirty = false;
+    private boolean loading = false;
 
     private NetworkWorldStorage(ModBase mod) {
         super(mod);
+        MinecraftForge.EVENT_BUS.register(this);
     }
 
     public static NetworkWorldStorage getInstance(ModBase mod) {
@@ -37,6 +74,113 @@ public class NetworkWorldStorage extends WorldStorage {
 
     @Override
     public void readGeneratedFieldsFromNBT(NBTTagCompound tag) {
+        NetworkShardStorage shardStorage = getShardStorage();
+        NetworkShardStorage.NetworkIndex index = null;
+        if (shardStorage != null) {
+            index = readShardIndex(shardStorage);
+            Map<NetworkShardStorage.ShardKey, IOException> errors = Maps.newHashMap();
+            loadedTopologies = shardStorage.readAll(index, errors);
+            for (Map.Entry<NetworkShardStorage.ShardKey, IOException> entry : errors.entrySet()) {
+                IntegratedDynamics.clog(Level.ERROR, String.format("Could not read the network shard %s, " +
+                        "its networks are only loaded if they were also saved in the world data: %s",
+                        entry.getKey(), entry.getValue().getMessage()));
+                // Rewrite the shard from the networks that could be loaded.
+                dirtyShards.add(entry.getKey());
+            }
+        }
+        missingTopologies = new TIntHashSet();
+        loading = true;
+        try {
+            readNetworksFromNBT(tag);
+            if (loadedTopologies != null && GeneralConfig.shardedNetworkStorage) {
+                removeMissingNetworks(index);
+                if (index != null) {
+                    recoverNetworks();
+                }
+            }
+        } finally {
+            loading = false;
+            loadedTopologies = null;
+            missingTopologies = null;
+        }
+
+        if (index != null) {
+            nextNetworkId = Math.max(nextNetworkId, index.getNextNetworkId());
+        }
+        // Networks that were loaded from the old format are converted.
+        for (INetwork network : networks) {
+            nextNetworkId = Math.max(nextNetworkId, ((Network) network).getNetworkId() + 1);
+        }
+        for (INetwork network : networks) {
+            if (((Network) network).getPersistenceShard() == null) {
+                markNetworkDirty(network);
+            }
+        }
+        indexDirty = true;
+    }
+
+    /**
+     * Read the index of the shards.
+     * An unreadable index is quarantined, in which case all shards are read without an index.
+     * @param shardStorage The shard storage.
+     * @return The index, or null if it does not exist or could not be read.
+     */
+    protected @Nullable NetworkShardStorage.NetworkIndex readShardIndex(NetworkShardStorage shardStorage) {
+        try {
+            return shardStorage.readIndex();
+        } catch (IOException e) {
+            IntegratedDynamics.clog(Level.ERROR, String.format("Could not read the network index, " +
+                    "all network shards will be read instead: %s", e.getMessage()));
+            try {
+                shardStorage.quarantine(shardStorage.getIndexFile());
+            } catch (IOException e2) {
+                IntegratedDynamics.clog(Level.ERROR, String.format("Could not move the network index: %s",
+                        e2.getMessage()));
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Remove the networks of which the topology was expected in a shard, but was not found.
+     * These are networks that were removed after the world data was last saved.
+     * @param index The index of the persisted networks, or null if there is none.
+     */
+    protected void removeMissingNetworks(@Nullable NetworkShardStorage.NetworkIndex index) {
+        for (Iterator<INetwork> it = networks.iterator(); it.hasNext();) {
+            int networkId = ((Network) it.next()).getNetworkId();
+            if (missingTopologies.contains(networkId)) {
+                if (index == null || index.getShards().containsKey(networkId)) {
+                    IntegratedDynamics.clog(Level.ERROR, String.format("The network %s was not found in its shard, " +
+                            "its cables will form a new network when they are changed.", networkId));
+                }
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Add the networks that are only present in the shards.
+     * These are networks that were created after the world data was last saved, for example before a crash.
+     */
+    protected void recoverNetworks() {
+        TIntSet presentNetworks = new TIntHashSet();
+        for (INetwork network : networks) {
+            presentNetworks.add(((Network) network).getNetworkId());
+        }
+        for (int networkId : loadedTopologies.keys()) {
+            if (!presentNetworks.contains(networkId)) {
+                NBTTagCompound networkTag = new NBTTagCompound();
+                networkTag.setInteger("persistenceId", networkId);
+                Network network = new Network();
+                network.fromNBT(networkTag);
+                networks.add(network);
+                IntegratedDynamics.clog(Level.INFO, String.format("Recovered the network %s from its shard.", networkId));
+            }
+        }
+    }
+
+    protected void readNetworksFromNBT(NBTTagCompound tag) {
         // TODO: backwards compat, remove in next major MC update.
         if (tag.hasKey("networks", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal())
                 && "org.cyclops.integrateddynamics.core.network.PartNetwork".equals(tag.getCompoundTag("networks").getString("elementType"))) {
@@ -59,6 +203,12 @@ public class NetworkWorldStorage extends WorldStorage {
     @Override
     public void reset() {
         networks.clear();
+        nextNetworkId = 0;
+        dirtyNetworks.clear();
+        dirtyShards.clear();
+        indexDirty = false;
+        DeferredNetworkLoader.getInstance().reset();
+        NetworkChunkTracker.getInstance().reset();
     }
 
     @Override
@@ -72,6 +222,7 @@ public class NetworkWorldStorage extends WorldStorage {
      */
     public synchronized void addNewNetwork(INetwork network) {
         networks.add(network);
+        markNetworkDirty(network);
     }
 
     /**
@@ -80,7 +231,140 @@ public class NetworkWorldStorage extends WorldStorage {
      * @param network The network.
      */
     public synchronized void removeInvalidatedNetwork(INetwork network) {
-        networks.remove(network);
+        if (networks.remove(network)) {
+            dirtyNetworks.remove(network);
+            NetworkShardStorage.ShardKey shard = ((Network) network).getPersistenceShard();
+            if (shard != null) {
+                dirtyShards.add(shard);
+                indexDirty = true;
+            }
+        }
+    }
+
+    /**
+     * Indicate that the topology of the given network has changed and must be persisted again.
+     * @param network The network.
+     */
+    public synchronized void markNetworkDirty(INetwork network) {
+        if (!loading && GeneralConfig.shardedNetworkStorage) {
+            dirtyNetworks.add(network);
+        }
+    }
+
+    /**
+     * Get the persisted topology of a network while networks are being loaded.
+     * @param networkId The persistence id of the network.
+     * @return The topology, or null if it does not exist.
+     */
+    public @Nullable NetworkShardStorage.NetworkTopology getLoadedTopology(int networkId) {
+        NetworkShardStorage.NetworkTopology topology = loadedTopologies != null ? loadedTopologies.get(networkId) : null;
+        if (topology == null && missingTopologies != null) {
+            missingTopologies.add(networkId);
+        }
+        return topology;
+    }
+
+    protected @Nullable NetworkShardStorage getShardStorage() {
+        File saveDirectory = DimensionManager.getCurrentSaveRootDirectory();
+        if (saveDirectory == null) {
+            return null;
+        }
+        return new NetworkShardStorage(new File(new File(saveDirectory, Reference.MOD_ID), "networks"));
+    }
+
+    /**
+     * Write the shards of all networks that have changed since the last write,
+     * followed by the index of all networks if it has changed.
+     */
+    public synchronized void writeDirtyShards() {
+        if (dirtyNetworks.isEmpty() && dirtyShards.isEmpty() && !indexDirty) {
+            return;
+        }
+        NetworkShardStorage shardStorage = getShardStorage();
+        if (shardStorage == null) {
+            return;
+        }
+        for (INetwork network : dirtyNetworks) {
+            Network persistedNetwork = (Network) network;
+            if (persistedNetwork.getNetworkId() < 0) {
+                persistedNetwork.setPersistenceId(nextNetworkId++);
+                indexDirty = true;
+            }
+            if (persistedNetwork.getPersistenceShard() == null) {
+                TIntObjectMap<TLongList> positions = persistedNetwork.getPositions();
+                for (int dimension : positions.keys()) {
+                    if (!positions.get(dimension).isEmpty()) {
+                        persistedNetwork.setPersistenceShard(NetworkShardStorage.ShardKey.of(dimension,
+                                BlockPos.fromLong(positions.get(dimension).get(0))));
+                        indexDirty = true;
+                        break;
+                    }
+                }
+            }
+            if (persistedNetwork.getPersistenceShard() != null) {
+                dirtyShards.add(persistedNetwork.getPersistenceShard());
+            }
+        }
+        dirtyNetworks.clear();
+
+        Map<NetworkShardStorage.ShardKey, List<NetworkShardStorage.NetworkTopologySource>> shardNetworks = Maps.newHashMap();
+        for (NetworkShardStorage.ShardKey shard : dirtyShards) {
+            shardNetworks.put(shard, Lists.<NetworkShardStorage.NetworkTopologySource>newArrayList());
+        }
+        NetworkShardStorage.NetworkIndex index = new NetworkShardStorage.NetworkIndex(nextNetworkId);
+        for (INetwork network : networks) {
+            NetworkShardStorage.ShardKey shard = ((Network) network).getPersistenceShard();
+            List<NetworkShardStorage.NetworkTopologySource> shardNetworkList = shardNetworks.get(shard);
+            if (shardNetworkList != null) {
+                shardNetworkList.add((Network) network);
+            }
+            if (shard != null) {
+                index.getShards().put(((Network) network).getNetworkId(), shard);
+            }
+        }
+        for (Iterator<NetworkShardStorage.ShardKey> it = dirtyShards.iterator(); it.hasNext();) {
+            NetworkShardStorage.ShardKey shard = it.next();
+            try {
+                shardStorage.writeShard(shard, shardNetworks.get(shard));
+                it.remove();
+            } catch (IOException e) {
+                IntegratedDynamics.clog(Level.ERROR, String.format("Could not write the network shard %s: %s",
+                        shard, e.getMessage()));
+            }
+        }
+
+        // The index is always written, even if some shards failed, so that network ids are never reused.
+        if (indexDirty) {
+            try {
+                shardStorage.writeIndex(index);
+                indexDirty = false;
+            } catch (IOException e) {
+                IntegratedDynamics.clog(Level.ERROR, String.format("Could not write the network index: %s",
+                        e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Remove the index of the shards, as they will not be kept up to date while sharded storage is disabled.
+     */
+    protected void removeShardIndex() {
+        NetworkShardStorage shardStorage = getShardStorage();
+        if (shardStorage != null) {
+            try {
+                shardStorage.removeIndex();
+            } catch (IOException e) {
+                IntegratedDynamics.clog(Level.ERROR, String.format("Could not remove the network index: %s",
+                        e.getMessage()));
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldSave(WorldEvent.Save event) {
+        if (!event.getWorld().isRemote && event.getWorld().provider.getDimension() == 0 && GeneralConfig.shardedNetworkStorage) {
+            writeDirtyShards();
+        }
     }
 
     /**
@@ -102,6 +386,11 @@ public class NetworkWorldStorage extends WorldStorage {
         for(INetwork network : networks) {
             network.beforeServerStop();
         }
+        if (GeneralConfig.shardedNetworkStorage) {
+            writeDirtyShards();
+        } else {
+            removeShardIndex();
+        }
     }
 
 }
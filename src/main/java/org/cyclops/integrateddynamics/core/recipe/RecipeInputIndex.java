@@ -0,0 +1,215 @@
+package org.cyclops.integrateddynamics.core.recipe;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import org.cyclops.cyclopscore.recipe.custom.api.IRecipe;
+import org.cyclops.cyclopscore.recipe.custom.api.IRecipeInput;
+import org.cyclops.cyclopscore.recipe.custom.api.IRecipeOutput;
+import org.cyclops.cyclopscore.recipe.custom.api.IRecipeProperties;
+import org.cyclops.cyclopscore.recipe.custom.api.IRecipeRegistry;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index over the recipes of a recipe registry by input item,
+ * with the recipes of each item sorted by their required fluid amount.
+ *
+ * The index is rebuilt when the recipes in the registry have changed, for example after a MineTweaker reload.
+ * Because registries can be modified without notification, this is checked at most once per validation interval.
+ * @param <I> The recipe input type.
+ * @param <O> The recipe output type.
+ * @param <P> The recipe properties type.
+ * @author rubensworks
+ */
+public abstract class RecipeInputIndex<I extends IRecipeInput, O extends IRecipeOutput, P extends IRecipeProperties> {
+
+    private static final long VALIDATION_INTERVAL = 1000;
+
+    private final Comparator<IRecipe<I, O, P>> fluidAmountComparator = new Comparator<IRecipe<I, O, P>>() {
+        @Override
+        public int compare(IRecipe<I, O, P> o1, IRecipe<I, O, P> o2) {
+            return Integer.compare(getFluidAmount(o2.getInput()), getFluidAmount(o1.getInput()));
+        }
+    };
+
+    private Map<Item, Entry> entries = null;
+    private Entry itemlessEntry = null;
+    private int fingerprint;
+    private long lastValidation = 0;
+
+    /**
+     * @return The registry to index.
+     */
+    protected abstract IRecipeRegistry<?, I, O, P> getRegistry();
+
+    /**
+     * @param input A recipe input.
+     * @return The item stacks that are accepted by the input, can be empty.
+     */
+    protected abstract List<ItemStack> getItemStacks(I input);
+
+    /**
+     * @param input A recipe input.
+     * @return The fluid amount that is required by the input.
+     */
+    protected int getFluidAmount(I input) {
+        return 0;
+    }
+
+    protected static int getFingerprint(List<? extends IRecipe<?, ?, ?>> recipes) {
+        int fingerprint = recipes.size();
+        for (IRecipe<?, ?, ?> recipe : recipes) {
+            fingerprint = 31 * fingerprint + System.identityHashCode(recipe);
+        }
+        return fingerprint;
+    }
+
+    protected void validate() {
+        long time = System.currentTimeMillis();
+        if (entries == null || time - lastValidation >= VALIDATION_INTERVAL) {
+            lastValidation = time;
+            List<IRecipe<I, O, P>> recipes = getRegistry().allRecipes();
+            int fingerprint = getFingerprint(recipes);
+            if (entries == null || fingerprint != this.fingerprint) {
+                this.fingerprint = fingerprint;
+                build(recipes);
+            }
+        }
+    }
+
+    protected void build(List<IRecipe<I, O, P>> recipes) {
+        Map<Item, Set<IRecipe<I, O, P>>> recipesByItem = Maps.newIdentityHashMap();
+        Set<IRecipe<I, O, P>> itemlessRecipes = Sets.newIdentityHashSet();
+        for (IRecipe<I, O, P> recipe : recipes) {
+            boolean hasItem = false;
+            for (ItemStack itemStack : getItemStacks(recipe.getInput())) {
+                if (itemStack != null) {
+                    Set<IRecipe<I, O, P>> itemRecipes = recipesByItem.get(itemStack.getItem());
+                    if (itemRecipes == null) {
+                        itemRecipes = Sets.newIdentityHashSet();
+                        recipesByItem.put(itemStack.getItem(), itemRecipes);
+                    }
+                    itemRecipes.add(recipe);
+                    hasItem = true;
+                }
+            }
+            if (!hasItem) {
+                itemlessRecipes.add(recipe);
+            }
+        }
+
+        // Recipes without an item are candidates for all items, in case their input accepts any item.
+        Map<Item, Entry> entries = Maps.newIdentityHashMap();
+        for (Map.Entry<Item, Set<IRecipe<I, O, P>>> entry : recipesByItem.entrySet()) {
+            List<IRecipe<I, O, P>> itemRecipes = Lists.newArrayList();
+            for (IRecipe<I, O, P> recipe : recipes) {
+                if (entry.getValue().contains(recipe) || itemlessRecipes.contains(recipe)) {
+                    itemRecipes.add(recipe);
+                }
+            }
+            entries.put(entry.getKey(), new Entry(itemRecipes));
+        }
+        List<IRecipe<I, O, P>> itemlessRecipesOrdered = Lists.newArrayList();
+        for (IRecipe<I, O, P> recipe : recipes) {
+            if (itemlessRecipes.contains(recipe)) {
+                itemlessRecipesOrdered.add(recipe);
+            }
+        }
+        this.entries = entries;
+        this.itemlessEntry = new Entry(itemlessRecipesOrdered);
+    }
+
+    /**
+     * Find the first recipe in registry order that matches the given input.
+     * @param input The recipe input.
+     * @param itemStack The item stack of the input.
+     * @return The recipe or null.
+     */
+    public synchronized @Nullable IRecipe<I, O, P> findRecipe(I input, @Nullable ItemStack itemStack) {
+        validate();
+        for (IRecipe<I, O, P> recipe : getEntry(itemStack).recipes) {
+            if (recipe.getInput().equals(input)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find the recipe that matches the given input and requires the largest fluid amount
+     * that is not larger than the given amount.
+     * If multiple recipes require the same amount, the first in registry order is taken.
+     * @param input The recipe input.
+     * @param itemStack The item stack of the input.
+     * @param fluidAmount The available fluid amount.
+     * @return The recipe or null.
+     */
+    public synchronized @Nullable IRecipe<I, O, P> findRecipeMaxFluid(I input, @Nullable ItemStack itemStack, int fluidAmount) {
+        validate();
+        Entry entry = getEntry(itemStack);
+        for (int i = entry.getFirstIndexWithMaxAmount(fluidAmount); i < entry.recipesByFluidAmount.size(); i++) {
+            IRecipe<I, O, P> recipe = entry.recipesByFluidAmount.get(i);
+            if (recipe.getInput().equals(input)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    protected Entry getEntry(@Nullable ItemStack itemStack) {
+        if (itemStack == null) {
+            return itemlessEntry;
+        }
+        Entry entry = entries.get(itemStack.getItem());
+        return entry == null ? itemlessEntry : entry;
+    }
+
+    /**
+     * The recipes for one input item.
+     */
+    protected class Entry {
+
+        private final List<IRecipe<I, O, P>> recipes;
+        private final List<IRecipe<I, O, P>> recipesByFluidAmount;
+        private final int[] fluidAmounts;
+
+        public Entry(List<IRecipe<I, O, P>> recipes) {
+            this.recipes = recipes;
+            // The sort is stable, so equal amounts remain in registry order.
+            this.recipesByFluidAmount = Lists.newArrayList(recipes);
+            Collections.sort(this.recipesByFluidAmount, fluidAmountComparator);
+            this.fluidAmounts = new int[recipes.size()];
+            for (int i = 0; i < fluidAmounts.length; i++) {
+                fluidAmounts[i] = getFluidAmount(recipesByFluidAmount.get(i).getInput());
+            }
+        }
+
+        /**
+         * @param amount A fluid amount.
+         * @return The first index in the descending fluid amounts that is not larger than the given amount.
+         */
+        public int getFirstIndexWithMaxAmount(int amount) {
+            int low = 0;
+            int high = fluidAmounts.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (fluidAmounts[mid] > amount) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+    }
+
+}
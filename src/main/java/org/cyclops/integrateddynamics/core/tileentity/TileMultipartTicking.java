@@ -40,6 +40,7 @@ import org.cyclops.integrateddynamics.capability.partcontainer.PartContainerTile
 import org.cyclops.integrateddynamics.capability.path.PathElementConfig;
 import org.cyclops.integrateddynamics.capability.path.PathElementTile;
 import org.cyclops.integrateddynamics.client.model.CableRenderState;
+import org.cyclops.integrateddynamics.core.OutputUpdateBatcher;
 import org.cyclops.integrateddynamics.core.helper.CableHelpers;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
 
@@ -188,12 +189,20 @@ public class TileMultipartTicking extends CyclopsTileEntity implements CyclopsTi
     }
 
     public void updateRedstoneInfo(EnumFacing side) {
+        if (OutputUpdateBatcher.getInstance().isBatching()) {
+            OutputUpdateBatcher.getInstance().scheduleRedstoneUpdate(this, side);
+            return;
+        }
         sendUpdate();
         getWorld().notifyNeighborsOfStateChange(getPos(), getBlockType());
         getWorld().notifyNeighborsOfStateChange(getPos().offset(side), getBlockType());
     }
 
     public void updateLightInfo() {
+        if (OutputUpdateBatcher.getInstance().isBatching()) {
+            OutputUpdateBatcher.getInstance().scheduleLightUpdate(this);
+            return;
+        }
         sendUpdate();
     }
 
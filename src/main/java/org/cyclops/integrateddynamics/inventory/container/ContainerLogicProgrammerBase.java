@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.inventory.container;
 
 import com.google.common.collect.Lists;
+import gnu.trove.iterator.TIntIterator;
+import gnu.trove.list.TIntList;
+import gnu.trove.list.array.TIntArrayList;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.ClickType;
@@ -26,10 +29,13 @@ import org.cyclops.integrateddynamics.api.item.IVariableFacadeHandlerRegistry;
 import org.cyclops.integrateddynamics.api.logicprogrammer.ILogicProgrammerElement;
 import org.cyclops.integrateddynamics.api.logicprogrammer.ILogicProgrammerElementType;
 import org.cyclops.integrateddynamics.client.gui.GuiLogicProgrammerBase;
+import org.cyclops.integrateddynamics.core.logicprogrammer.LogicProgrammerElementIndex;
 import org.cyclops.integrateddynamics.core.logicprogrammer.LogicProgrammerElementTypes;
 import org.cyclops.integrateddynamics.core.persist.world.LabelsWorldStorage;
 import org.cyclops.integrateddynamics.item.ItemVariable;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -61,6 +67,13 @@ public abstract class ContainerLogicProgrammerBase extends ScrollingInventoryCon
     private IValueType filterIn1 = null;
     private IValueType filterIn2 = null;
     private IValueType filterOut = null;
+    private LogicProgrammerElementIndex filterIndex = null;
+    private BitSet filterPositions = null;
+
+    private LogicProgrammerElementIndex elementsIndex = null;
+    private ILogicProgrammerElement[] elementsArray = null;
+    private int[] indexedOrdinals = null;
+    private TIntList unindexedOrdinals = null;
 
     @SideOnly(Side.CLIENT)
     private GuiLogicProgrammerBase gui;
@@ -291,6 +304,72 @@ public abstract class ContainerLogicProgrammerBase extends ScrollingInventoryCon
         return this.writeSlot.getStackInSlot(0) != null;
     }
 
+    /**
+     * Map the positions of the given index to the elements of this container.
+     * This is only done once per index.
+     * @param index The active index.
+     */
+    protected void updateElementsIndex(LogicProgrammerElementIndex index) {
+        if (elementsIndex != index) {
+            List<ILogicProgrammerElement> elements = getUnfilteredItems();
+            elementsArray = elements.toArray(new ILogicProgrammerElement[elements.size()]);
+            indexedOrdinals = new int[index.getSize()];
+            Arrays.fill(indexedOrdinals, -1);
+            unindexedOrdinals = new TIntArrayList();
+            for (int ordinal = 0; ordinal < elementsArray.length; ordinal++) {
+                int position = index.getPosition(elementsArray[ordinal]);
+                if (position >= 0 && indexedOrdinals[position] < 0) {
+                    indexedOrdinals[position] = ordinal;
+                } else {
+                    unindexedOrdinals.add(ordinal);
+                }
+            }
+            elementsIndex = index;
+        }
+    }
+
+    @Override
+    protected List<ILogicProgrammerElement> filter(List<ILogicProgrammerElement> input,
+                                                   IItemPredicate<ILogicProgrammerElement> predicate, Pattern pattern) {
+        LogicProgrammerElementIndex index = LogicProgrammerElementIndex.getInstance();
+        if (index == null || input != getUnfilteredItems()) {
+            return super.filter(input, predicate, pattern);
+        }
+        if (filterIndex != index) {
+            filterPositions = index.filter(filterIn1, filterIn2, filterOut);
+            filterIndex = index;
+        }
+        if (filterPositions == null) {
+            // One of the filter types is not indexed.
+            return super.filter(input, predicate, pattern);
+        }
+        updateElementsIndex(index);
+
+        BitSet positions = (BitSet) index.search(pattern).clone();
+        positions.and(filterPositions);
+        TIntList ordinals = new TIntArrayList(positions.cardinality() + unindexedOrdinals.size());
+        for (int position = positions.nextSetBit(0); position >= 0; position = positions.nextSetBit(position + 1)) {
+            int ordinal = indexedOrdinals[position];
+            if (ordinal >= 0) {
+                ordinals.add(ordinal);
+            }
+        }
+        TIntIterator it = unindexedOrdinals.iterator();
+        while (it.hasNext()) {
+            int ordinal = it.next();
+            if (predicate.apply(elementsArray[ordinal], pattern) && additionalApplies(elementsArray[ordinal])) {
+                ordinals.add(ordinal);
+            }
+        }
+        ordinals.sort();
+
+        List<ILogicProgrammerElement> filtered = Lists.newArrayListWithCapacity(ordinals.size());
+        for (int i = 0; i < ordinals.size(); i++) {
+            filtered.add(elementsArray[ordinals.get(i)]);
+        }
+        return filtered;
+    }
+
     @Override
     protected boolean additionalApplies(ILogicProgrammerElement item) {
         return (
@@ -348,6 +427,9 @@ public abstract class ContainerLogicProgrammerBase extends ScrollingInventoryCon
             filterIn1 = getValueType(filterSlots, 0);
             filterIn2 = getValueType(filterSlots, 1);
             filterOut = getValueType(filterSlots, 2);
+            // The filter positions are recalculated from the index on the next filter.
+            filterIndex = null;
+            filterPositions = null;
             refreshFilter();
         }
 
@@ -1,6 +1,8 @@
 package org.cyclops.integrateddynamics.inventory.container;
 
 import net.minecraft.entity.player.InventoryPlayer;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.cyclopscore.helper.ValueNotifierHelpers;
 import org.cyclops.cyclopscore.inventory.slot.SlotRemoveOnly;
 import org.cyclops.integrateddynamics.core.inventory.container.ContainerActiveVariableBase;
 import org.cyclops.integrateddynamics.core.inventory.container.slot.SlotVariable;
@@ -13,6 +15,8 @@ import org.cyclops.integrateddynamics.tileentity.TileProxy;
  */
 public class ContainerMaterializer extends ContainerActiveVariableBase<TileMaterializer> {
 
+    private final int progressId;
+
     /**
      * Make a new instance.
      * @param inventory The player inventory.
@@ -25,6 +29,23 @@ public class ContainerMaterializer extends ContainerActiveVariableBase<TileMater
         addSlotToContainer(new SlotRemoveOnly(tile, TileProxy.SLOT_WRITE_OUT, 104, 78));
         addPlayerInventory(inventory, offsetX + 9, offsetY + 107);
         tile.setLastPlayer(inventory.player);
+        progressId = getNextValueId();
+    }
+
+    @Override
+    public void detectAndSendChanges() {
+        super.detectAndSendChanges();
+
+        if(!MinecraftHelpers.isClientSide()) {
+            ValueNotifierHelpers.setValue(this, progressId, getTile().getMaterializationProgress());
+        }
+    }
+
+    /**
+     * @return The progress of the value that is being materialized, from 0 to 100, or -1 if none.
+     */
+    public int getProgress() {
+        return ValueNotifierHelpers.getValueInt(this, progressId);
     }
 
 }
@@ -75,6 +75,7 @@ public class ContainerPartDisplay<P extends PartTypePanelVariableDriven<P, S>, S
     public void onDirty() {
         if(!MinecraftHelpers.isClientSide()) {
             getPartState().onVariableContentsUpdated(getPartType(), getTarget());
+            NetworkHelpers.invalidateVariableDependencies(getTarget());
             if (!getPartState().getInventory().isEmpty()) {
                 try {
                     INetwork network = NetworkHelpers.getNetwork(getTarget().getCenter().getPos().getWorld(),
@@ -24,6 +24,7 @@ import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.block.BlockCable;
 import org.cyclops.integrateddynamics.block.BlockCableConfig;
 import org.cyclops.integrateddynamics.client.render.part.PartOverlayRenderers;
+import org.cyclops.integrateddynamics.core.helper.CableHandles;
 import org.cyclops.integrateddynamics.core.helper.Helpers;
 import org.cyclops.integrateddynamics.core.item.ItemPart;
 import org.cyclops.integrateddynamics.core.part.PartTypes;
@@ -68,6 +69,7 @@ public class McMultiPartHelpers {
                 return null;
             }
         });
+        CableHandles.addHandleRetriever(PartCableHandles.getInstance());
         ItemBlockCable.addUseAction(new ItemBlockCable.IUseAction() {
             @Override
             public boolean attempItemUseTarget(ItemStack itemStack, World world, BlockPos pos, BlockCable blockCable) {
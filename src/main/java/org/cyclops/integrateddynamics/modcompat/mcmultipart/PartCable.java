@@ -52,6 +52,7 @@ import org.cyclops.integrateddynamics.capability.partcontainer.PartContainerConf
 import org.cyclops.integrateddynamics.capability.path.PathElementConfig;
 import org.cyclops.integrateddynamics.capability.path.PathElementPart;
 import org.cyclops.integrateddynamics.client.model.CableRenderState;
+import org.cyclops.integrateddynamics.core.helper.CableHandles;
 import org.cyclops.integrateddynamics.core.helper.CableHelpers;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
@@ -63,7 +64,7 @@ import java.util.List;
  * A part for cables.
  * @author rubensworks
  */
-public class PartCable extends MultipartBase implements ITickable {
+public class PartCable extends MultipartBase implements ITickable, CableHandles.ICableHandle {
 
     @NBTPersist
     @Getter
@@ -275,6 +276,7 @@ public class PartCable extends MultipartBase implements ITickable {
     @Override
     public void onAdded() {
         super.onAdded();
+        PartCableHandles.getInstance().add(this);
         if(!isAddSilent()) {
             CableHelpers.onCableAdded(getWorld(), getPos(), null);
             detectPresentParts();
@@ -287,9 +289,22 @@ public class PartCable extends MultipartBase implements ITickable {
         super.harvest(player, hit);
     }
 
+    @Override
+    public void onLoaded() {
+        super.onLoaded();
+        PartCableHandles.getInstance().add(this);
+    }
+
+    @Override
+    public void onUnloaded() {
+        super.onUnloaded();
+        PartCableHandles.getInstance().remove(this);
+    }
+
     @Override
     public void onRemoved() {
         super.onRemoved();
+        PartCableHandles.getInstance().remove(this);
         CableHelpers.onCableRemoved(getWorld(), getPos());
     }
 
@@ -333,6 +348,11 @@ public class PartCable extends MultipartBase implements ITickable {
         cachedState = null;
     }
 
+    @Override
+    public ICable getCable() {
+        return cable;
+    }
+
     protected INetwork getNetwork() {
         return networkCarrier.getNetwork();
     }
@@ -348,6 +368,7 @@ public class PartCable extends MultipartBase implements ITickable {
     @Override
     public void onPartChanged(IMultipart part) {
         super.onPartChanged(part);
+        PartCableHandles.getInstance().add(this);
         if(sendFurtherUpdates) {
             cable.updateConnections();
         }
@@ -0,0 +1,90 @@
+package org.cyclops.integrateddynamics.modcompat.mcmultipart;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+import mcmultipart.block.TileMultipartContainer;
+import mcmultipart.multipart.IMultipartContainer;
+import mcmultipart.multipart.PartSlot;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import org.cyclops.integrateddynamics.core.helper.CableHandles;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps track of the loaded {@link PartCable}s by position,
+ * so that their capabilities can be retrieved without querying all parts of their multipart container.
+ * Lookups happen very frequently, so the cables are stored in concurrent maps per world instead of behind a global lock.
+ * @author rubensworks
+ */
+public class PartCableHandles implements CableHandles.IHandleRetriever {
+
+    private static final PartCableHandles INSTANCE = new PartCableHandles();
+
+    private final ConcurrentMap<World, ConcurrentMap<BlockPos, PartCable>> cables = new MapMaker().weakKeys().makeMap();
+
+    private PartCableHandles() {
+
+    }
+
+    public static PartCableHandles getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register the given cable at its current position.
+     * @param partCable The cable.
+     */
+    public void add(PartCable partCable) {
+        World world = partCable.getWorld();
+        if (world != null) {
+            ConcurrentMap<BlockPos, PartCable> worldCables = cables.get(world);
+            if (worldCables == null) {
+                ConcurrentMap<BlockPos, PartCable> newWorldCables = Maps.newConcurrentMap();
+                worldCables = cables.putIfAbsent(world, newWorldCables);
+                if (worldCables == null) {
+                    worldCables = newWorldCables;
+                }
+            }
+            worldCables.put(partCable.getPos(), partCable);
+        }
+    }
+
+    /**
+     * Unregister the given cable.
+     * @param partCable The cable.
+     */
+    public void remove(PartCable partCable) {
+        World world = partCable.getWorld();
+        if (world != null) {
+            ConcurrentMap<BlockPos, PartCable> worldCables = cables.get(world);
+            if (worldCables != null) {
+                worldCables.remove(partCable.getPos(), partCable);
+            }
+        }
+    }
+
+    @Override
+    public @Nullable CableHandles.ICableHandle getHandle(IBlockAccess world, BlockPos pos, TileEntity tile) {
+        if (!(tile instanceof TileMultipartContainer)) {
+            return null;
+        }
+        ConcurrentMap<BlockPos, PartCable> worldCables = cables.get(world);
+        if (worldCables != null) {
+            PartCable partCable = worldCables.get(pos);
+            if (partCable != null) {
+                // A direct slot check, in case the cable was removed without being notified.
+                IMultipartContainer container = partCable.getContainer();
+                if (container != null && container.getPartInSlot(PartSlot.CENTER) == partCable) {
+                    return partCable;
+                }
+                worldCables.remove(pos, partCable);
+            }
+        }
+        return null;
+    }
+
+}
@@ -9,6 +9,7 @@ import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
+import org.cyclops.integrateddynamics.api.network.IPositionedNetworkElement;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.network.NetworkElementBase;
 import org.cyclops.integrateddynamics.tileentity.TileCoalGenerator;
@@ -21,7 +22,7 @@ import java.util.List;
  */
 @EqualsAndHashCode(callSuper = false)
 @Data
-public class CoalGeneratorNetworkElement extends NetworkElementBase {
+public class CoalGeneratorNetworkElement extends NetworkElementBase implements IPositionedNetworkElement {
 
     private final DimPos pos;
 
@@ -61,6 +62,11 @@ public class CoalGeneratorNetworkElement extends NetworkElementBase {
         return 0;
     }
 
+    @Override
+    public DimPos getPosition() {
+        return getPos();
+    }
+
     @Override
     public boolean canRevalidate(INetwork network) {
         return canRevalidatePositioned(network, pos);
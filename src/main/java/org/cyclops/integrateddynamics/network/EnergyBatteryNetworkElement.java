@@ -9,6 +9,7 @@ import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.network.IPositionedNetworkElement;
 import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.network.NetworkElementBase;
@@ -22,7 +23,7 @@ import java.util.List;
  */
 @EqualsAndHashCode(callSuper = false)
 @Data
-public class EnergyBatteryNetworkElement extends NetworkElementBase {
+public class EnergyBatteryNetworkElement extends NetworkElementBase implements IPositionedNetworkElement {
 
     private final DimPos pos;
 
@@ -90,6 +91,11 @@ public class EnergyBatteryNetworkElement extends NetworkElementBase {
         return 0;
     }
 
+    @Override
+    public DimPos getPosition() {
+        return getPos();
+    }
+
     @Override
     public boolean canRevalidate(INetwork network) {
         return canRevalidatePositioned(network, pos);
@@ -0,0 +1,48 @@
+package org.cyclops.integrateddynamics.network.packet;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import org.cyclops.cyclopscore.network.CodecField;
+import org.cyclops.cyclopscore.network.PacketCodec;
+import org.cyclops.integrateddynamics.core.network.diagnostics.GuiNetworkDiagnostics;
+import org.cyclops.integrateddynamics.core.network.diagnostics.RawNetworkDurationsData;
+
+/**
+ * Packet for sending the changed tick durations of a network to a player.
+ * @author rubensworks
+ *
+ */
+public class NetworkDiagnosticsDurationsPacket extends PacketCodec {
+
+    @CodecField
+    private NBTTagCompound durationsData;
+
+    public NetworkDiagnosticsDurationsPacket() {
+
+    }
+
+    public NetworkDiagnosticsDurationsPacket(NBTTagCompound durationsData) {
+		this.durationsData = durationsData;
+    }
+
+	@Override
+	public boolean isAsync() {
+		return false;
+	}
+
+	@Override
+	@SideOnly(Side.CLIENT)
+	public void actionClient(World world, EntityPlayer player) {
+		GuiNetworkDiagnostics.setNetworkDurations(RawNetworkDurationsData.fromNbt(this.durationsData));
+	}
+
+	@Override
+	public void actionServer(World world, EntityPlayerMP player) {
+
+	}
+	
+}
@@ -37,7 +37,7 @@ public class NetworkDiagnosticsNetworkPacket extends PacketCodec {
 	@Override
 	@SideOnly(Side.CLIENT)
 	public void actionClient(World world, EntityPlayer player) {
-		RawNetworkData networkData = RawNetworkData.fromNbt(this.networkData);
+		RawNetworkData networkData = RawNetworkData.fromNbt(this.networkData, GuiNetworkDiagnostics.getPartNames());
 		GuiNetworkDiagnostics.setNetworkData(networkData.getId(), networkData.isKilled() ? null : networkData);
 	}
 
@@ -28,11 +28,12 @@ public class NetworkDiagnosticsOpenClient extends PacketCodec {
 	@Override
 	@SideOnly(Side.CLIENT)
 	public void actionClient(World world, EntityPlayer player) {
+		// Clear the received data on the client thread, before the server starts sending data again.
+		GuiNetworkDiagnostics.clearNetworkData();
+		IntegratedDynamics._instance.getPacketHandler().sendToServer(NetworkDiagnosticsSubscribePacket.subscribe());
 		new Thread(new Runnable() {
 			@Override
 			public void run() {
-				GuiNetworkDiagnostics.clearNetworkData();
-				IntegratedDynamics._instance.getPacketHandler().sendToServer(NetworkDiagnosticsSubscribePacket.subscribe());
 				GuiNetworkDiagnostics.start();
 			}
 		}).start();
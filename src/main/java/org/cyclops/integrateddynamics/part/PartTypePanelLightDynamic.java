@@ -1,14 +1,12 @@
 package org.cyclops.integrateddynamics.part;
 
 import net.minecraft.block.Block;
-import net.minecraft.init.Blocks;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.cyclops.cyclopscore.config.ConfigHandler;
 import org.cyclops.cyclopscore.config.extendedconfig.BlockConfig;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
-import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.api.block.IDynamicLight;
 import org.cyclops.integrateddynamics.api.evaluate.InvalidValueTypeException;
@@ -16,9 +14,9 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
-import org.cyclops.integrateddynamics.block.BlockInvisibleLight;
 import org.cyclops.integrateddynamics.block.BlockInvisibleLightConfig;
 import org.cyclops.integrateddynamics.capability.dynamiclight.DynamicLightConfig;
+import org.cyclops.integrateddynamics.core.OutputUpdateBatcher;
 import org.cyclops.integrateddynamics.core.block.IgnoredBlockStatus;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeLightLevels;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
@@ -103,13 +101,10 @@ public class PartTypePanelLightDynamic extends PartTypePanelVariableDriven<PartT
         if(ConfigHandler.isEnabled(BlockInvisibleLightConfig.class)) {
             World world = target.getTarget().getPos().getWorld();
             BlockPos pos = target.getTarget().getPos().getBlockPos();
-            if(world.isAirBlock(pos)) {
-                if(lightLevel > 0) {
-                    world.setBlockState(pos, BlockInvisibleLight.getInstance().getDefaultState().
-                            withProperty(BlockInvisibleLight.LIGHT, lightLevel));
-                } else {
-                    world.setBlockState(pos, Blocks.AIR.getDefaultState(), MinecraftHelpers.BLOCK_NOTIFY_CLIENT);
-                }
+            if(OutputUpdateBatcher.getInstance().isBatching()) {
+                OutputUpdateBatcher.getInstance().scheduleInvisibleLight(world, pos, lightLevel);
+            } else {
+                OutputUpdateBatcher.applyInvisibleLight(world, pos, lightLevel);
             }
         } else {
             IDynamicLight dynamicLight = TileHelpers.getCapability(target.getCenter().getPos(),
@@ -5,7 +5,6 @@ import com.google.common.collect.Lists;
 import com.google.common.math.DoubleMath;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.item.EntityItemFrame;
-import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
@@ -19,7 +18,6 @@ import net.minecraftforge.energy.IEnergyStorage;
 import net.minecraftforge.event.world.NoteBlockEvent;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidTankProperties;
-import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.items.IItemHandler;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
@@ -37,6 +35,8 @@ import org.cyclops.integrateddynamics.api.part.aspect.IAspectRegistry;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectWrite;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties;
 import org.cyclops.integrateddynamics.capability.network.EnergyNetworkConfig;
+import org.cyclops.integrateddynamics.core.FluidTankSnapshotCache;
+import org.cyclops.integrateddynamics.core.WorldSnapshotCache;
 import org.cyclops.integrateddynamics.core.evaluate.variable.*;
 import org.cyclops.integrateddynamics.core.helper.EnergyHelpers;
 import org.cyclops.integrateddynamics.core.helper.Helpers;
@@ -89,42 +89,42 @@ public class Aspects {
                             net.minecraft.block.Block block = dimPos.getWorld().getBlockState(dimPos.getBlockPos()).getBlock();
                             return block != Blocks.AIR;
                         }
-                    }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "block").buildRead();
+                    }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "block").eventDriven().buildRead();
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_DIMENSION =
                     AspectReadBuilders.Block.BUILDER_INTEGER.handle(AspectReadBuilders.World.PROP_GET_WORLD).handle(new IAspectValuePropagator<net.minecraft.world.World, Integer>() {
                         @Override
                         public Integer getOutput(net.minecraft.world.World world) {
                             return world.provider.getDimension();
                         }
-                    }).handle(AspectReadBuilders.PROP_GET_INTEGER, "dimension").buildRead();
+                    }).handle(AspectReadBuilders.PROP_GET_INTEGER, "dimension").eventDriven().buildRead();
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_POSX =
                     AspectReadBuilders.Block.BUILDER_INTEGER.handle(AspectReadBuilders.World.PROP_GET_POS).handle(new IAspectValuePropagator<BlockPos, Integer>() {
                         @Override
                         public Integer getOutput(BlockPos pos) {
                             return pos.getX();
                         }
-                    }).handle(AspectReadBuilders.PROP_GET_INTEGER, "posx").buildRead();
+                    }).handle(AspectReadBuilders.PROP_GET_INTEGER, "posx").eventDriven().buildRead();
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_POSY =
                     AspectReadBuilders.Block.BUILDER_INTEGER.handle(AspectReadBuilders.World.PROP_GET_POS).handle(new IAspectValuePropagator<BlockPos, Integer>() {
                         @Override
                         public Integer getOutput(BlockPos pos) {
                             return pos.getY();
                         }
-                    }).handle(AspectReadBuilders.PROP_GET_INTEGER, "posy").buildRead();
+                    }).handle(AspectReadBuilders.PROP_GET_INTEGER, "posy").eventDriven().buildRead();
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_POSZ =
                     AspectReadBuilders.Block.BUILDER_INTEGER.handle(AspectReadBuilders.World.PROP_GET_POS).handle(new IAspectValuePropagator<BlockPos, Integer>() {
                         @Override
                         public Integer getOutput(BlockPos pos) {
                             return pos.getZ();
                         }
-                    }).handle(AspectReadBuilders.PROP_GET_INTEGER, "posz").buildRead();
+                    }).handle(AspectReadBuilders.PROP_GET_INTEGER, "posz").eventDriven().buildRead();
             public static final IAspectRead<ValueObjectTypeBlock.ValueBlock, ValueObjectTypeBlock> BLOCK =
                     AspectReadBuilders.Block.BUILDER_BLOCK.handle(new IAspectValuePropagator<DimPos, IBlockState>() {
                         @Override
                         public IBlockState getOutput(DimPos dimPos) {
                             return dimPos.getWorld().getBlockState(dimPos.getBlockPos());
                         }
-                    }).handle(AspectReadBuilders.PROP_GET_BLOCK).buildRead();
+                    }).handle(AspectReadBuilders.PROP_GET_BLOCK).eventDriven().buildRead();
         }
 
         public static final class Entity {
@@ -235,48 +235,31 @@ public class Aspects {
         public static final class Fluid {
 
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_FULL =
-                    AspectReadBuilders.Fluid.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<IFluidTankProperties[], Boolean>() {
+                    AspectReadBuilders.Fluid.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<FluidTankSnapshotCache.Snapshot, Boolean>() {
                         @Override
-                        public Boolean getOutput(IFluidTankProperties[] tankInfo) {
-                            boolean allFull = true;
-                            for(IFluidTankProperties tank : tankInfo) {
-                                if(tank.getContents() == null && tank.getCapacity() > 0 || (tank.getContents() != null && tank.getContents().amount < tank.getCapacity())) {
-                                    allFull = false;
-                                }
-                            }
-                            return allFull;
+                        public Boolean getOutput(FluidTankSnapshotCache.Snapshot tanks) {
+                            return tanks.isFull();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "full").buildRead();
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_EMPTY =
-                    AspectReadBuilders.Fluid.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<IFluidTankProperties[], Boolean>() {
+                    AspectReadBuilders.Fluid.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<FluidTankSnapshotCache.Snapshot, Boolean>() {
                         @Override
-                        public Boolean getOutput(IFluidTankProperties[] tankInfo) {
-                            for(IFluidTankProperties tank : tankInfo) {
-                                if(tank.getContents() != null && tank.getCapacity() > 0 || (tank.getContents() != null && tank.getContents().amount < tank.getCapacity())) {
-                                    return false;
-                                }
-                            }
-                            return true;
+                        public Boolean getOutput(FluidTankSnapshotCache.Snapshot tanks) {
+                            return tanks.isEmpty();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "empty").buildRead();
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_NONEMPTY =
-                    AspectReadBuilders.Fluid.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<IFluidTankProperties[], Boolean>() {
+                    AspectReadBuilders.Fluid.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<FluidTankSnapshotCache.Snapshot, Boolean>() {
                         @Override
-                        public Boolean getOutput(IFluidTankProperties[] tankInfo) {
-                            boolean hasFluid = false;
-                            for(IFluidTankProperties tank : tankInfo) {
-                                if(tank.getContents() != null && tank.getContents().amount > 0) {
-                                    hasFluid = true;
-                                }
-                            }
-                            return hasFluid;
+                        public Boolean getOutput(FluidTankSnapshotCache.Snapshot tanks) {
+                            return tanks.isNonEmpty();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "nonempty").buildRead();
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_APPLICABLE =
-                    AspectReadBuilders.Fluid.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<IFluidTankProperties[], Boolean>() {
+                    AspectReadBuilders.Fluid.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<FluidTankSnapshotCache.Snapshot, Boolean>() {
                         @Override
-                        public Boolean getOutput(IFluidTankProperties[] tankInfo) {
-                            return tankInfo.length > 0;
+                        public Boolean getOutput(FluidTankSnapshotCache.Snapshot tanks) {
+                            return tanks.getTankCount() > 0;
                         }
                     }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "applicable").buildRead();
 
@@ -288,16 +271,10 @@ public class Aspects {
                         }
                     }).handle(AspectReadBuilders.PROP_GET_INTEGER, "amount").buildRead();
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_AMOUNTTOTAL =
-                    AspectReadBuilders.Fluid.BUILDER_INTEGER.handle(new IAspectValuePropagator<IFluidTankProperties[], Integer>() {
+                    AspectReadBuilders.Fluid.BUILDER_INTEGER.handle(new IAspectValuePropagator<FluidTankSnapshotCache.Snapshot, Integer>() {
                         @Override
-                        public Integer getOutput(IFluidTankProperties[] tankInfo) {
-                            int amount = 0;
-                            for(IFluidTankProperties tank : tankInfo) {
-                                if(tank.getContents() != null) {
-                                    amount += tank.getContents().amount;
-                                }
-                            }
-                            return amount;
+                        public Integer getOutput(FluidTankSnapshotCache.Snapshot tanks) {
+                            return tanks.getTotalAmount();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_INTEGER, "totalamount").buildRead();
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_CAPACITY =
@@ -308,35 +285,23 @@ public class Aspects {
                         }
                     }).handle(AspectReadBuilders.PROP_GET_INTEGER, "capacity").buildRead();
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_CAPACITYTOTAL =
-                    AspectReadBuilders.Fluid.BUILDER_INTEGER.handle(new IAspectValuePropagator<IFluidTankProperties[], Integer>() {
+                    AspectReadBuilders.Fluid.BUILDER_INTEGER.handle(new IAspectValuePropagator<FluidTankSnapshotCache.Snapshot, Integer>() {
                         @Override
-                        public Integer getOutput(IFluidTankProperties[] tankInfo) {
-                            int capacity = 0;
-                            for(IFluidTankProperties tank : tankInfo) {
-                                capacity += tank.getCapacity();
-                            }
-                            return capacity;
+                        public Integer getOutput(FluidTankSnapshotCache.Snapshot tanks) {
+                            return tanks.getTotalCapacity();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_INTEGER, "totalamount").buildRead();
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_TANKS =
-                    AspectReadBuilders.Fluid.BUILDER_INTEGER.handle(new IAspectValuePropagator<IFluidTankProperties[], Integer>() {
+                    AspectReadBuilders.Fluid.BUILDER_INTEGER.handle(new IAspectValuePropagator<FluidTankSnapshotCache.Snapshot, Integer>() {
                         @Override
-                        public Integer getOutput(IFluidTankProperties[] tankInfo) {
-                            return tankInfo.length;
+                        public Integer getOutput(FluidTankSnapshotCache.Snapshot tanks) {
+                            return tanks.getTankCount();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_INTEGER, "tanks").buildRead();
 
             public static final IAspectRead<ValueTypeDouble.ValueDouble, ValueTypeDouble> DOUBLE_FILLRATIO =
-                    AspectReadBuilders.Fluid.BUILDER_DOUBLE_ACTIVATABLE.handle(new IAspectValuePropagator<IFluidTankProperties, Double>() {
-                        @Override
-                        public Double getOutput(IFluidTankProperties tankInfo) {
-                            if(tankInfo == null) {
-                                return 0D;
-                            }
-                            double amount = tankInfo.getContents() == null ? 0D : tankInfo.getContents().amount;
-                            return amount / (double) tankInfo.getCapacity();
-                        }
-                    }).handle(AspectReadBuilders.PROP_GET_DOUBLE, "fillratio").buildRead();
+                    AspectReadBuilders.Fluid.BUILDER_DOUBLE_ACTIVATABLE
+                            .handle(AspectReadBuilders.PROP_GET_DOUBLE, "fillratio").buildRead();
 
             public static final IAspectRead<ValueTypeList.ValueList, ValueTypeList> LIST_TANKFLUIDS =
                     AspectReadBuilders.BUILDER_LIST.appendKind("fluid").handle(AspectReadBuilders.Fluid.PROP_GET_LIST_FLUIDSTACKS, "fluidstacks").buildRead();
@@ -716,59 +681,59 @@ public class Aspects {
         public static final class World {
 
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_WEATHER_CLEAR =
-                    AspectReadBuilders.World.BUILDER_BOOLEAN.handle(AspectReadBuilders.World.PROP_GET_WORLD).handle(new IAspectValuePropagator<net.minecraft.world.World, Boolean>() {
+                    AspectReadBuilders.World.BUILDER_BOOLEAN.handle(AspectReadBuilders.World.PROP_GET_SNAPSHOT).handle(new IAspectValuePropagator<WorldSnapshotCache.Snapshot, Boolean>() {
                         @Override
-                        public Boolean getOutput(net.minecraft.world.World world) {
+                        public Boolean getOutput(WorldSnapshotCache.Snapshot world) {
                             return !world.isRaining();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "weather").appendKind("clear").buildRead();
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_WEATHER_RAINING =
-                    AspectReadBuilders.World.BUILDER_BOOLEAN.handle(AspectReadBuilders.World.PROP_GET_WORLD).handle(new IAspectValuePropagator<net.minecraft.world.World, Boolean>() {
+                    AspectReadBuilders.World.BUILDER_BOOLEAN.handle(AspectReadBuilders.World.PROP_GET_SNAPSHOT).handle(new IAspectValuePropagator<WorldSnapshotCache.Snapshot, Boolean>() {
                         @Override
-                        public Boolean getOutput(net.minecraft.world.World world) {
+                        public Boolean getOutput(WorldSnapshotCache.Snapshot world) {
                             return world.isRaining();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "weather").appendKind("raining").buildRead();
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_WEATHER_THUNDER =
-                    AspectReadBuilders.World.BUILDER_BOOLEAN.handle(AspectReadBuilders.World.PROP_GET_WORLD).handle(new IAspectValuePropagator<net.minecraft.world.World, Boolean>() {
+                    AspectReadBuilders.World.BUILDER_BOOLEAN.handle(AspectReadBuilders.World.PROP_GET_SNAPSHOT).handle(new IAspectValuePropagator<WorldSnapshotCache.Snapshot, Boolean>() {
                         @Override
-                        public Boolean getOutput(net.minecraft.world.World world) {
+                        public Boolean getOutput(WorldSnapshotCache.Snapshot world) {
                             return world.isThundering();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "weather").appendKind("thunder").buildRead();
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_ISDAY =
-                    AspectReadBuilders.World.BUILDER_BOOLEAN.handle(AspectReadBuilders.World.PROP_GET_WORLD).handle(new IAspectValuePropagator<net.minecraft.world.World, Boolean>() {
+                    AspectReadBuilders.World.BUILDER_BOOLEAN.handle(AspectReadBuilders.World.PROP_GET_SNAPSHOT).handle(new IAspectValuePropagator<WorldSnapshotCache.Snapshot, Boolean>() {
                         @Override
-                        public Boolean getOutput(net.minecraft.world.World world) {
-                            return MinecraftHelpers.isDay(world);
+                        public Boolean getOutput(WorldSnapshotCache.Snapshot world) {
+                            return world.isDay();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "isday").buildRead();
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_ISNIGHT =
-                    AspectReadBuilders.World.BUILDER_BOOLEAN.handle(AspectReadBuilders.World.PROP_GET_WORLD).handle(new IAspectValuePropagator<net.minecraft.world.World, Boolean>() {
+                    AspectReadBuilders.World.BUILDER_BOOLEAN.handle(AspectReadBuilders.World.PROP_GET_SNAPSHOT).handle(new IAspectValuePropagator<WorldSnapshotCache.Snapshot, Boolean>() {
                         @Override
-                        public Boolean getOutput(net.minecraft.world.World world) {
-                            return !MinecraftHelpers.isDay(world);
+                        public Boolean getOutput(WorldSnapshotCache.Snapshot world) {
+                            return !world.isDay();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "isnight").buildRead();
 
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_RAINCOUNTDOWN =
-                    AspectReadBuilders.World.BUILDER_INTEGER.handle(AspectReadBuilders.World.PROP_GET_WORLD).handle(new IAspectValuePropagator<net.minecraft.world.World, Integer>() {
+                    AspectReadBuilders.World.BUILDER_INTEGER.handle(AspectReadBuilders.World.PROP_GET_SNAPSHOT).handle(new IAspectValuePropagator<WorldSnapshotCache.Snapshot, Integer>() {
                         @Override
-                        public Integer getOutput(net.minecraft.world.World world) {
-                            return world.getWorldInfo().getRainTime();
+                        public Integer getOutput(WorldSnapshotCache.Snapshot world) {
+                            return world.getRainTime();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_INTEGER, "raincountdown").buildRead();
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_TICKTIME =
-                    AspectReadBuilders.World.BUILDER_INTEGER.handle(AspectReadBuilders.World.PROP_GET_WORLD).handle(new IAspectValuePropagator<net.minecraft.world.World, Integer>() {
+                    AspectReadBuilders.World.BUILDER_INTEGER.handle(AspectReadBuilders.World.PROP_GET_SNAPSHOT).handle(new IAspectValuePropagator<WorldSnapshotCache.Snapshot, Integer>() {
                         @Override
-                        public Integer getOutput(net.minecraft.world.World world) {
-                            return (int) DoubleMath.mean(FMLCommonHandler.instance().getMinecraftServerInstance().worldTickTimes.get(world.provider.getDimension()));
+                        public Integer getOutput(WorldSnapshotCache.Snapshot world) {
+                            return world.getTickTime();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_INTEGER, "ticktime").buildRead();
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_DAYTIME =
-                    AspectReadBuilders.World.BUILDER_INTEGER.handle(AspectReadBuilders.World.PROP_GET_WORLD).handle(new IAspectValuePropagator<net.minecraft.world.World, Integer>() {
+                    AspectReadBuilders.World.BUILDER_INTEGER.handle(AspectReadBuilders.World.PROP_GET_SNAPSHOT).handle(new IAspectValuePropagator<WorldSnapshotCache.Snapshot, Integer>() {
                         @Override
-                        public Integer getOutput(net.minecraft.world.World world) {
+                        public Integer getOutput(WorldSnapshotCache.Snapshot world) {
                             return (int) world.getWorldTime() % MinecraftHelpers.MINECRAFT_DAY;
                         }
                     }).handle(AspectReadBuilders.PROP_GET_INTEGER, "daytime").buildRead();
@@ -781,39 +746,33 @@ public class Aspects {
                     }).handle(AspectReadBuilders.PROP_GET_INTEGER, "lightlevel").buildRead();
 
             public static final IAspectRead<ValueTypeLong.ValueLong, ValueTypeLong> LONG_TIME =
-                    AspectReadBuilders.World.BUILDER_LONG.handle(AspectReadBuilders.World.PROP_GET_WORLD).handle(new IAspectValuePropagator<net.minecraft.world.World, Long>() {
+                    AspectReadBuilders.World.BUILDER_LONG.handle(AspectReadBuilders.World.PROP_GET_SNAPSHOT).handle(new IAspectValuePropagator<WorldSnapshotCache.Snapshot, Long>() {
                         @Override
-                        public Long getOutput(net.minecraft.world.World world) {
+                        public Long getOutput(WorldSnapshotCache.Snapshot world) {
                             return world.getWorldTime();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_LONG, "time").buildRead();
             public static final IAspectRead<ValueTypeLong.ValueLong, ValueTypeLong> LONG_TOTALTIME =
-                    AspectReadBuilders.World.BUILDER_LONG.handle(AspectReadBuilders.World.PROP_GET_WORLD).handle(new IAspectValuePropagator<net.minecraft.world.World, Long>() {
+                    AspectReadBuilders.World.BUILDER_LONG.handle(AspectReadBuilders.World.PROP_GET_SNAPSHOT).handle(new IAspectValuePropagator<WorldSnapshotCache.Snapshot, Long>() {
                         @Override
-                        public Long getOutput(net.minecraft.world.World world) {
+                        public Long getOutput(WorldSnapshotCache.Snapshot world) {
                             return world.getTotalWorldTime();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_LONG, "totaltime").buildRead();
 
             public static final IAspectRead<ValueTypeString.ValueString, ValueTypeString> STRING_NAME =
-                    AspectReadBuilders.World.BUILDER_STRING.handle(AspectReadBuilders.World.PROP_GET_WORLD).handle(new IAspectValuePropagator<net.minecraft.world.World, String>() {
+                    AspectReadBuilders.World.BUILDER_STRING.handle(AspectReadBuilders.World.PROP_GET_SNAPSHOT).handle(new IAspectValuePropagator<WorldSnapshotCache.Snapshot, String>() {
                         @Override
-                        public String getOutput(net.minecraft.world.World world) {
-                            return world.getWorldInfo().getWorldName();
+                        public String getOutput(WorldSnapshotCache.Snapshot world) {
+                            return world.getWorldName();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_STRING, "worldname").buildRead();
 
             public static final IAspectRead<ValueTypeList.ValueList, ValueTypeList> LIST_PLAYERS =
-                    AspectReadBuilders.World.BUILDER_LIST.handle(new IAspectValuePropagator<DimPos, ValueTypeList.ValueList>() {
+                    AspectReadBuilders.World.BUILDER_LIST.handle(AspectReadBuilders.World.PROP_GET_SNAPSHOT).handle(new IAspectValuePropagator<WorldSnapshotCache.Snapshot, ValueTypeList.ValueList>() {
                         @Override
-                        public ValueTypeList.ValueList getOutput(DimPos dimPos) {
-                            return ValueTypeList.ValueList.ofList(ValueTypes.OBJECT_ENTITY, Lists.transform(dimPos.getWorld().playerEntities, new Function<EntityPlayer, ValueObjectTypeEntity.ValueEntity>() {
-                                @Nullable
-                                @Override
-                                public ValueObjectTypeEntity.ValueEntity apply(EntityPlayer input) {
-                                    return ValueObjectTypeEntity.ValueEntity.of(input);
-                                }
-                            }));
+                        public ValueTypeList.ValueList getOutput(WorldSnapshotCache.Snapshot world) {
+                            return world.getPlayers();
                         }
                     }).appendKind("players").buildRead();
 
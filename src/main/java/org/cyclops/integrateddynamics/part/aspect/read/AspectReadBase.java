@@ -16,6 +16,7 @@ import org.cyclops.integrateddynamics.api.part.aspect.IAspectVariable;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties;
 import org.cyclops.integrateddynamics.api.part.read.IPartStateReader;
 import org.cyclops.integrateddynamics.api.part.read.IPartTypeReader;
+import org.cyclops.integrateddynamics.core.part.aspect.EventDrivenAspectVariable;
 import org.cyclops.integrateddynamics.core.part.aspect.LazyAspectVariable;
 import org.cyclops.integrateddynamics.part.aspect.AspectBase;
 import org.cyclops.integrateddynamics.part.aspect.Aspects;
@@ -67,8 +68,24 @@ public abstract class AspectReadBase<V extends IValue, T extends IValueType<V>>
      */
     protected abstract V getValue(PartTarget target, IAspectProperties properties);
 
+    /**
+     * @return If the value of this aspect only depends on the target block,
+     *         so that it only has to be recalculated when that block changes.
+     */
+    protected boolean isEventDriven() {
+        return false;
+    }
+
     @Override
     public IAspectVariable<V> createNewVariable(final PartTarget target) {
+        if (isEventDriven()) {
+            return new EventDrivenAspectVariable<V>(getValueType(), target, this) {
+                @Override
+                public V getValueLazy() {
+                    return AspectReadBase.this.getValue(target, getAspectProperties());
+                }
+            };
+        }
         return new LazyAspectVariable<V>(getValueType(), target, this) {
             @Override
             public V getValueLazy() {
@@ -13,8 +13,6 @@ import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.event.world.NoteBlockEvent;
 import net.minecraftforge.fluids.FluidStack;
-import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
-import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidTankProperties;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.items.CapabilityItemHandler;
@@ -31,7 +29,9 @@ import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectPropertyTypeInstance;
+import org.cyclops.integrateddynamics.core.FluidTankSnapshotCache;
 import org.cyclops.integrateddynamics.core.NoteBlockEventReceiver;
+import org.cyclops.integrateddynamics.core.WorldSnapshotCache;
 import org.cyclops.integrateddynamics.core.evaluate.variable.*;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.part.aspect.build.AspectBuilder;
@@ -245,32 +245,24 @@ public class AspectReadBuilders {
             PROPERTIES.setValue(PROP_TANKID, ValueTypeInteger.ValueInteger.of(0)); // Not required in this case, but we do this here just as an example on how to set default values.
         }
 
-        public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, IFluidTankProperties[]> PROP_GET = new IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, IFluidTankProperties[]>() {
+        public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, FluidTankSnapshotCache.Snapshot> PROP_GET = new IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, FluidTankSnapshotCache.Snapshot>() {
             @Override
-            public IFluidTankProperties[] getOutput(Pair<PartTarget, IAspectProperties> input) {
-                DimPos dimPos = input.getLeft().getTarget().getPos();
-                IFluidHandler fluidHandler = TileHelpers.getCapability(dimPos, input.getLeft().getTarget().getSide(),
-                        CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
-                if(fluidHandler != null) {
-                    return fluidHandler.getTankProperties();
-                }
-                return new IFluidTankProperties[0];
+            public FluidTankSnapshotCache.Snapshot getOutput(Pair<PartTarget, IAspectProperties> input) {
+                return FluidTankSnapshotCache.getInstance().getSnapshot(input.getLeft().getTarget());
             }
         };
         public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, IFluidTankProperties> PROP_GET_ACTIVATABLE = new IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, IFluidTankProperties>() {
             @Override
             public IFluidTankProperties getOutput(Pair<PartTarget, IAspectProperties> input) {
-                DimPos dimPos = input.getLeft().getTarget().getPos();
-                IFluidHandler fluidHandler = TileHelpers.getCapability(dimPos, input.getLeft().getTarget().getSide(),
-                        CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
-                if(fluidHandler != null) {
-                    IFluidTankProperties[] tankInfo = fluidHandler.getTankProperties();
-                    int i = input.getRight().getValue(PROP_TANKID).getRawValue();
-                    if(tankInfo != null && i < tankInfo.length) {
-                        return tankInfo[i];
-                    }
-                }
-                return null;
+                int i = input.getRight().getValue(PROP_TANKID).getRawValue();
+                return FluidTankSnapshotCache.getInstance().getSnapshot(input.getLeft().getTarget()).getTank(i);
+            }
+        };
+        public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, Double> PROP_GET_FILLRATIO = new IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, Double>() {
+            @Override
+            public Double getOutput(Pair<PartTarget, IAspectProperties> input) {
+                int i = input.getRight().getValue(PROP_TANKID).getRawValue();
+                return FluidTankSnapshotCache.getInstance().getSnapshot(input.getLeft().getTarget()).getFillRatio(i);
             }
         };
         public static final IAspectValuePropagator<IFluidTankProperties, FluidStack> PROP_GET_FLUIDSTACK = new IAspectValuePropagator<IFluidTankProperties, FluidStack>() {
@@ -296,14 +288,14 @@ public class AspectReadBuilders {
             }
         };
 
-        public static final AspectBuilder<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean, IFluidTankProperties[]>
+        public static final AspectBuilder<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean, FluidTankSnapshotCache.Snapshot>
                 BUILDER_BOOLEAN = AspectReadBuilders.BUILDER_BOOLEAN.handle(PROP_GET, "fluid");
-        public static final AspectBuilder<ValueTypeInteger.ValueInteger, ValueTypeInteger, IFluidTankProperties[]>
+        public static final AspectBuilder<ValueTypeInteger.ValueInteger, ValueTypeInteger, FluidTankSnapshotCache.Snapshot>
                 BUILDER_INTEGER = AspectReadBuilders.BUILDER_INTEGER.handle(PROP_GET, "fluid");
         public static final AspectBuilder<ValueTypeInteger.ValueInteger, ValueTypeInteger, IFluidTankProperties>
                 BUILDER_INTEGER_ACTIVATABLE = AspectReadBuilders.BUILDER_INTEGER.handle(PROP_GET_ACTIVATABLE, "fluid").withProperties(PROPERTIES);
-        public static final AspectBuilder<ValueTypeDouble.ValueDouble, ValueTypeDouble, IFluidTankProperties>
-                BUILDER_DOUBLE_ACTIVATABLE = AspectReadBuilders.BUILDER_DOUBLE.handle(PROP_GET_ACTIVATABLE, "fluid").withProperties(PROPERTIES);
+        public static final AspectBuilder<ValueTypeDouble.ValueDouble, ValueTypeDouble, Double>
+                BUILDER_DOUBLE_ACTIVATABLE = AspectReadBuilders.BUILDER_DOUBLE.handle(PROP_GET_FILLRATIO, "fluid").withProperties(PROPERTIES);
 
     }
 
@@ -472,6 +464,12 @@ public class AspectReadBuilders {
                 return input.getWorld();
             }
         };
+        public static final IAspectValuePropagator<DimPos, WorldSnapshotCache.Snapshot> PROP_GET_SNAPSHOT = new IAspectValuePropagator<DimPos, WorldSnapshotCache.Snapshot>() {
+            @Override
+            public WorldSnapshotCache.Snapshot getOutput(DimPos input) {
+                return WorldSnapshotCache.getInstance().getSnapshot(input.getWorld());
+            }
+        };
         public static final IAspectValuePropagator<DimPos, BlockPos> PROP_GET_POS = new IAspectValuePropagator<DimPos, BlockPos>() {
             @Override
             public BlockPos getOutput(DimPos input) {
@@ -11,6 +11,7 @@ import org.cyclops.cyclopscore.init.ModBase;
 import org.cyclops.cyclopscore.proxy.ClientProxyComponent;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.Reference;
+import org.cyclops.integrateddynamics.client.render.valuetype.ValueTypeWorldRenderLayoutCache;
 import org.cyclops.integrateddynamics.core.client.model.VariableLoader;
 import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkDiagnosticsPartOverlayRenderer;
 import org.lwjgl.input.Keyboard;
@@ -46,6 +47,7 @@ public class ClientProxy extends ClientProxyComponent {
         super.registerEventHooks();
         ModelLoaderRegistry.registerLoader(new VariableLoader());
         MinecraftForge.EVENT_BUS.register(NetworkDiagnosticsPartOverlayRenderer.getInstance());
+        MinecraftForge.EVENT_BUS.register(ValueTypeWorldRenderLayoutCache.getInstance());
     }
 
     @Override
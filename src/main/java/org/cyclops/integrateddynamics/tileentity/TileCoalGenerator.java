@@ -41,6 +41,8 @@ public class TileCoalGenerator extends TileCableConnectableInventory implements
     @NBTPersist
     private int currentlyBurning;
 
+    private final EnergyHelpers.NeighbourEnergyStorages neighbourEnergyStorages = new EnergyHelpers.NeighbourEnergyStorages(this);
+
     public TileCoalGenerator() {
         super(1, "fuel", 64);
         addCapabilityInternal(NetworkElementProviderConfig.CAPABILITY, new NetworkElementProviderSingleton() {
@@ -99,7 +101,14 @@ public class TileCoalGenerator extends TileCableConnectableInventory implements
     }
 
     protected int addEnergyFe(int energy, boolean simulate) {
-        return EnergyHelpers.fillNeigbours(getWorld(), getPos(), energy, simulate);
+        return EnergyHelpers.fillNeigbours(neighbourEnergyStorages, energy, simulate);
+    }
+
+    /**
+     * Resolve the energy storages of the neighbours again when they are needed next.
+     */
+    public void invalidateNeighbourEnergyStorages() {
+        neighbourEnergyStorages.invalidate();
     }
 
     @Override
@@ -23,6 +23,9 @@ import org.cyclops.cyclopscore.tileentity.CyclopsTileEntity;
 import org.cyclops.cyclopscore.tileentity.TankInventoryTileEntity;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.block.BlockDryingBasin;
+import org.cyclops.integrateddynamics.core.recipe.RecipeInputIndex;
+
+import java.util.List;
 
 /**
  * A part entity for drying stuff.
@@ -42,6 +45,26 @@ public class TileDryingBasin extends TankInventoryTileEntity implements CyclopsT
     @NBTPersist
     private int fire = 0;
 
+    private static final RecipeInputIndex<ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent,
+            DurationRecipeProperties> RECIPE_INDEX = new RecipeInputIndex<ItemAndFluidStackRecipeComponent,
+            ItemAndFluidStackRecipeComponent, DurationRecipeProperties>() {
+        @Override
+        protected IRecipeRegistry<?, ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent,
+                DurationRecipeProperties> getRegistry() {
+            return BlockDryingBasin.getInstance().getRecipeRegistry();
+        }
+
+        @Override
+        protected List<ItemStack> getItemStacks(ItemAndFluidStackRecipeComponent input) {
+            return input.getItemStacks();
+        }
+
+        @Override
+        protected int getFluidAmount(ItemAndFluidStackRecipeComponent input) {
+            return FluidHelpers.getAmount(input.getFluidStack());
+        }
+    };
+
     private SingleCache<Pair<ItemStack, FluidStack>,
             IRecipe<ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent, DurationRecipeProperties>> recipeCache;
 
@@ -63,17 +86,10 @@ public class TileDryingBasin extends TankInventoryTileEntity implements CyclopsT
                     public IRecipe<ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent, DurationRecipeProperties> getNewValue(Pair<ItemStack, FluidStack> key) {
                         ItemAndFluidStackRecipeComponent recipeInput =
                                 new ItemAndFluidStackRecipeComponent(key.getLeft(), key.getRight());
-                        IRecipe<ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent, DurationRecipeProperties> maxRecipe = null;
-                        for (IRecipe<ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent, DurationRecipeProperties> recipe : getRegistry().findRecipesByInput(recipeInput)) {
-                            if(key.getRight() == null) {
-                                return recipe;
-                            } else if(key.getRight().amount >= recipe.getInput().getFluidStack().amount
-                                    && (maxRecipe == null
-                                        || recipe.getInput().getFluidStack().amount > maxRecipe.getInput().getFluidStack().amount)) {
-                                maxRecipe = recipe;
-                            }
+                        if(key.getRight() == null) {
+                            return RECIPE_INDEX.findRecipe(recipeInput, key.getLeft());
                         }
-                        return maxRecipe;
+                        return RECIPE_INDEX.findRecipeMaxFluid(recipeInput, key.getLeft(), key.getRight().amount);
                     }
 
                     @Override
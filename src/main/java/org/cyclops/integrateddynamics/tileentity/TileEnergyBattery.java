@@ -38,6 +38,10 @@ public class TileEnergyBattery extends TileCableConnectable implements IEnergySt
     @NBTPersist(useDefaultValue = false)
     private int capacity = BlockEnergyBatteryConfig.capacity;
 
+    private final EnergyHelpers.NeighbourEnergyStorages neighbourEnergyStorages = new EnergyHelpers.NeighbourEnergyStorages(this);
+    private boolean energyChanged = false;
+    private int ticksSinceEnergyChanged = 0;
+
     public TileEnergyBattery() {
         addCapabilityInternal(NetworkElementProviderConfig.CAPABILITY, new NetworkElementProviderSingleton() {
             @Override
@@ -74,7 +78,11 @@ public class TileEnergyBattery extends TileCableConnectable implements IEnergySt
         return true;
     }
 
-    public void updateBlockState() {
+    /**
+     * Update the fill level of the block state.
+     * @return If the fill level was changed.
+     */
+    public boolean updateBlockState() {
         if(!isCreative()) {
             IBlockState blockState = getWorld().getBlockState(getPos());
             if (blockState.getBlock() == BlockEnergyBattery.getInstance()) {
@@ -82,9 +90,11 @@ public class TileEnergyBattery extends TileCableConnectable implements IEnergySt
                 if (blockState.getValue(BlockEnergyBattery.FILL) != fill) {
                     getWorld().setBlockState(getPos(), blockState.withProperty(BlockEnergyBattery.FILL, fill));
                     sendUpdate();
+                    return true;
                 }
             }
         }
+        return false;
     }
 
     protected void setEnergy(int energy) {
@@ -92,12 +102,29 @@ public class TileEnergyBattery extends TileCableConnectable implements IEnergySt
             int lastEnergy = this.energy;
             if (lastEnergy != energy) {
                 this.energy = energy;
-                updateBlockState();
-                markDirty();
+                if (updateBlockState()) {
+                    markEnergyDirty();
+                } else {
+                    // Small changes are only marked dirty once every interval, see updateTileEntity.
+                    energyChanged = true;
+                }
             }
         }
     }
 
+    protected void markEnergyDirty() {
+        energyChanged = false;
+        ticksSinceEnergyChanged = 0;
+        markDirty();
+    }
+
+    /**
+     * Resolve the energy storages of the neighbours again when they are needed next.
+     */
+    public void invalidateNeighbourEnergyStorages() {
+        neighbourEnergyStorages.invalidate();
+    }
+
     @Override
     public int receiveEnergy(int energy, boolean simulate) {
         if(!isCreative()) {
@@ -131,7 +158,7 @@ public class TileEnergyBattery extends TileCableConnectable implements IEnergySt
     }
 
     protected int addEnergyFe(int energy, boolean simulate) {
-        return EnergyHelpers.fillNeigbours(getWorld(), getPos(), energy, simulate);
+        return EnergyHelpers.fillNeigbours(neighbourEnergyStorages, energy, simulate);
     }
 
     @Override
@@ -140,6 +167,17 @@ public class TileEnergyBattery extends TileCableConnectable implements IEnergySt
         if (!getWorld().isRemote && getEnergyStored() > 0 && getWorld().isBlockPowered(getPos())) {
             addEnergy(Math.min(BlockEnergyBatteryConfig.energyPerTick, getEnergyStored()));
         }
+        if (energyChanged && ++ticksSinceEnergyChanged >= BlockEnergyBatteryConfig.energyDirtyInterval) {
+            markEnergyDirty();
+        }
+    }
+
+    @Override
+    public void onChunkUnload() {
+        if (energyChanged) {
+            markEnergyDirty();
+        }
+        super.onChunkUnload();
     }
 
     /*
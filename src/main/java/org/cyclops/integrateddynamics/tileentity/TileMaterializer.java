@@ -4,6 +4,8 @@ import com.google.common.collect.Sets;
 import lombok.Setter;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -15,17 +17,23 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IValueTypeVariableFacade;
+import org.cyclops.integrateddynamics.api.item.IVariableFacadeHandler;
 import org.cyclops.integrateddynamics.api.item.IVariableFacadeHandlerRegistry;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
+import org.cyclops.integrateddynamics.block.BlockMaterializerConfig;
 import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkElementProviderConfig;
 import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkElementProviderSingleton;
+import org.cyclops.integrateddynamics.core.evaluate.variable.AsyncValueWriter;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.item.ValueTypeVariableFacade;
 import org.cyclops.integrateddynamics.core.tileentity.TileActiveVariableBase;
 import org.cyclops.integrateddynamics.network.MaterializerNetworkElement;
 
+import java.io.IOException;
+
 /**
  * A part entity for the variable materializer.
  * @author rubensworks
@@ -38,6 +46,8 @@ public class TileMaterializer extends TileActiveVariableBase<MaterializerNetwork
 
     @Setter
     private EntityPlayer lastPlayer = null;
+    private AsyncValueWriter.Job writeJob = null;
+    private ItemStack writeJobReadStack = null;
 
     public TileMaterializer() {
         super(3, "materializer");
@@ -74,38 +84,114 @@ public class TileMaterializer extends TileActiveVariableBase<MaterializerNetwork
     @Override
     public void onDirty() {
         super.onDirty();
-        if(!worldObj.isRemote) {
+        if(!worldObj.isRemote && writeJob == null) {
             if (getStackInSlot(SLOT_WRITE_IN) != null && canWrite() && getStackInSlot(SLOT_WRITE_OUT) == null) {
-                // Write proxy reference
-                ItemStack outputStack = writeMaterialized(!getWorld().isRemote, getStackInSlot(SLOT_WRITE_IN));
+                // Only evaluate the value here, writing large values happens in the background.
+                IVariable variable = getVariable(NetworkHelpers.getPartNetwork(getNetwork()));
+                try {
+                    IValue value = variable.getType().materialize(variable.getValue());
+                    writeJob = AsyncValueWriter.write(value);
+                    writeJobReadStack = ItemStack.copyItemStack(getStackInSlot(SLOT_READ));
+                } catch (EvaluationException e) {
+                    addError(new L10NHelpers.UnlocalizedString(e.getMessage()));
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void updateTileEntity() {
+        super.updateTileEntity();
+        if(!worldObj.isRemote && writeJob != null && writeJob.isDone()) {
+            AsyncValueWriter.Job job = writeJob;
+            writeJob = null;
+            if (getStackInSlot(SLOT_WRITE_IN) != null && getStackInSlot(SLOT_WRITE_OUT) == null
+                    && ItemStack.areItemStacksEqual(writeJobReadStack, getStackInSlot(SLOT_READ))) {
+                ItemStack outputStack = writeMaterialized(job, getStackInSlot(SLOT_WRITE_IN));
                 if(outputStack != null) {
                     setInventorySlotContents(SLOT_WRITE_OUT, outputStack);
                     removeStackFromSlot(SLOT_WRITE_IN);
+                } else {
+                    sendUpdate();
                 }
+            } else {
+                // The inventory changed while writing, so start over for the current contents.
+                onDirty();
             }
         }
     }
 
-    public ItemStack writeMaterialized(boolean generateId, ItemStack itemStack) {
-        IVariableFacadeHandlerRegistry registry = IntegratedDynamics._instance.getRegistryManager().getRegistry(IVariableFacadeHandlerRegistry.class);
-        IVariable variable = getVariable(NetworkHelpers.getPartNetwork(getNetwork()));
-        try {
-            final IValue value = variable.getType().materialize(variable.getValue());
-            final IValueType valueType = value.getType();
-            return registry.writeVariableFacadeItem(generateId, itemStack, ValueTypes.REGISTRY, new IVariableFacadeHandlerRegistry.IVariableFacadeFactory<IValueTypeVariableFacade>() {
-                @Override
-                public IValueTypeVariableFacade create(boolean generateId) {
-                    return new ValueTypeVariableFacade(generateId, valueType, value);
-                }
+    /**
+     * @return The progress of the value that is being materialized, from 0 to 100, or -1 if none.
+     */
+    public int getMaterializationProgress() {
+        AsyncValueWriter.Job job = writeJob;
+        return job == null ? -1 : job.getProgress();
+    }
 
-                @Override
-                public IValueTypeVariableFacade create(int id) {
-                    return new ValueTypeVariableFacade(id, valueType, value);
-                }
-            }, lastPlayer, getBlock());
-        } catch (EvaluationException e) {
-            addError(new L10NHelpers.UnlocalizedString(e.getMessage()));
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        cancelWriteJob();
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        cancelWriteJob();
+    }
+
+    protected void cancelWriteJob() {
+        if (writeJob != null) {
+            writeJob.cancel();
+            writeJob = null;
         }
-        return null;
+    }
+
+    protected ItemStack writeMaterialized(AsyncValueWriter.Job job, ItemStack itemStack) {
+        final NBTBase valueTag;
+        try {
+            valueTag = job.getResult();
+        } catch (IOException e) {
+            addError(new L10NHelpers.UnlocalizedString(L10NValues.MATERIALIZER_ERROR_WRITEFAILED));
+            return null;
+        }
+        if (job.getSize() > BlockMaterializerConfig.maxValueSize) {
+            addError(new L10NHelpers.UnlocalizedString(L10NValues.MATERIALIZER_ERROR_TOOLARGE,
+                    job.getSize(), BlockMaterializerConfig.maxValueSize));
+            return null;
+        }
+        final IValue value = job.getValue();
+        final IValueType valueType = value.getType();
+        IVariableFacadeHandlerRegistry registry = IntegratedDynamics._instance.getRegistryManager().getRegistry(IVariableFacadeHandlerRegistry.class);
+        // Store the value that was already written, instead of serializing it again.
+        IVariableFacadeHandler<IValueTypeVariableFacade> handler = new IVariableFacadeHandler<IValueTypeVariableFacade>() {
+            @Override
+            public String getTypeId() {
+                return ValueTypes.REGISTRY.getTypeId();
+            }
+
+            @Override
+            public IValueTypeVariableFacade getVariableFacade(int id, NBTTagCompound tagCompound) {
+                return ValueTypes.REGISTRY.getVariableFacade(id, tagCompound);
+            }
+
+            @Override
+            public void setVariableFacade(NBTTagCompound tagCompound, IValueTypeVariableFacade variableFacade) {
+                tagCompound.setString("typeName", variableFacade.getValueType().getUnlocalizedName());
+                tagCompound.setTag("value", valueTag);
+            }
+        };
+        return registry.writeVariableFacadeItem(true, itemStack, handler, new IVariableFacadeHandlerRegistry.IVariableFacadeFactory<IValueTypeVariableFacade>() {
+            @Override
+            public IValueTypeVariableFacade create(boolean generateId) {
+                return new ValueTypeVariableFacade(generateId, valueType, value);
+            }
+
+            @Override
+            public IValueTypeVariableFacade create(int id) {
+                return new ValueTypeVariableFacade(id, valueType, value);
+            }
+        }, lastPlayer, getBlock());
     }
 }
@@ -24,6 +24,9 @@ import org.cyclops.cyclopscore.recipe.custom.component.ItemStackRecipeComponent;
 import org.cyclops.cyclopscore.tileentity.CyclopsTileEntity;
 import org.cyclops.cyclopscore.tileentity.TankInventoryTileEntity;
 import org.cyclops.integrateddynamics.block.BlockSqueezer;
+import org.cyclops.integrateddynamics.core.recipe.RecipeInputIndex;
+
+import java.util.List;
 
 /**
  * A part entity for squeezing stuff.
@@ -38,6 +41,21 @@ public class TileSqueezer extends TankInventoryTileEntity implements CyclopsTile
     @Getter
     private int itemHeight = 1;
 
+    private static final RecipeInputIndex<ItemStackRecipeComponent, ItemAndFluidStackRecipeComponent,
+            DummyPropertiesComponent> RECIPE_INDEX = new RecipeInputIndex<ItemStackRecipeComponent,
+            ItemAndFluidStackRecipeComponent, DummyPropertiesComponent>() {
+        @Override
+        protected IRecipeRegistry<?, ItemStackRecipeComponent, ItemAndFluidStackRecipeComponent,
+                DummyPropertiesComponent> getRegistry() {
+            return BlockSqueezer.getInstance().getRecipeRegistry();
+        }
+
+        @Override
+        protected List<ItemStack> getItemStacks(ItemStackRecipeComponent input) {
+            return input.getItemStacks();
+        }
+    };
+
     private SingleCache<ItemStack,
             IRecipe<ItemStackRecipeComponent, ItemAndFluidStackRecipeComponent, DummyPropertiesComponent>> recipeCache;
 
@@ -58,7 +76,7 @@ public class TileSqueezer extends TankInventoryTileEntity implements CyclopsTile
                     @Override
                     public IRecipe<ItemStackRecipeComponent, ItemAndFluidStackRecipeComponent, DummyPropertiesComponent> getNewValue(ItemStack key) {
                         ItemStackRecipeComponent recipeInput = new ItemStackRecipeComponent(key);
-                        return getRegistry().findRecipeByInput(recipeInput);
+                        return RECIPE_INDEX.findRecipe(recipeInput, key);
                     }
 
                     @Override
@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.tileentity;
 
 import com.google.common.collect.Lists;
+import gnu.trove.iterator.TIntIterator;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -13,17 +16,21 @@ import org.cyclops.integrateddynamics.api.block.IVariableContainer;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkElementProviderConfig;
 import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkElementProviderSingleton;
 import org.cyclops.integrateddynamics.capability.variablecontainer.VariableContainerConfig;
 import org.cyclops.integrateddynamics.capability.variablecontainer.VariableContainerDefault;
 import org.cyclops.integrateddynamics.capability.variablefacade.VariableFacadeHolderConfig;
+import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
 import org.cyclops.integrateddynamics.core.tileentity.TileCableConnectableInventory;
 import org.cyclops.integrateddynamics.item.ItemVariable;
 import org.cyclops.integrateddynamics.network.VariablestoreNetworkElement;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * A part entity used to store variables.
@@ -36,6 +43,8 @@ public class TileVariablestore extends TileCableConnectableInventory implements
     public static final int COLS = 9;
 
     private final IVariableContainer variableContainer;
+    private final ItemStack[] slotStacks = new ItemStack[ROWS * COLS];
+    private final IVariableFacade[] slotVariables = new IVariableFacade[ROWS * COLS];
 
     public TileVariablestore() {
         super(ROWS * COLS, "variables", 1);
@@ -72,21 +81,73 @@ public class TileVariablestore extends TileCableConnectableInventory implements
         refreshVariables(inventory);
     }
 
+    /**
+     * Update the variable cache for the slots that have changed since the last refresh,
+     * and notify the network of the variables that were added or removed.
+     * @param inventory The inventory.
+     */
     protected void refreshVariables(IInventory inventory) {
-        variableContainer.getVariableCache().clear();
+        TIntSet changedVariableIds = new TIntHashSet();
         for (int i = 0; i < inventory.getSizeInventory(); i++) {
             ItemStack itemStack = inventory.getStackInSlot(i);
-            if (itemStack != null) {
-                IVariableFacade variableFacade = ItemVariable.getInstance().getVariableFacade(itemStack);
-                if (variableFacade != null && variableFacade.isValid()) {
-                    variableContainer.getVariableCache().put(variableFacade.getId(), variableFacade);
+            if (!ItemStack.areItemStacksEqual(slotStacks[i], itemStack)) {
+                IVariableFacade variableFacade = null;
+                if (itemStack != null) {
+                    variableFacade = ItemVariable.getInstance().getVariableFacade(itemStack);
+                    if (!variableFacade.isValid()) {
+                        variableFacade = null;
+                    }
                 }
+                if (slotVariables[i] != null) {
+                    changedVariableIds.add(slotVariables[i].getId());
+                }
+                if (variableFacade != null) {
+                    changedVariableIds.add(variableFacade.getId());
+                }
+                slotStacks[i] = ItemStack.copyItemStack(itemStack);
+                slotVariables[i] = variableFacade;
+            }
+        }
+        if (changedVariableIds.isEmpty()) {
+            return;
+        }
+
+        // Only the cache entries of the changed ids are recalculated, the last slot with an id wins.
+        Map<Integer, IVariableFacade> variableCache = variableContainer.getVariableCache();
+        List<IVariableFacade> removedVariables = Lists.newArrayList();
+        List<IVariableFacade> addedVariables = Lists.newArrayList();
+        TIntIterator it = changedVariableIds.iterator();
+        while (it.hasNext()) {
+            int variableId = it.next();
+            IVariableFacade previousVariable = variableCache.remove(variableId);
+            IVariableFacade currentVariable = null;
+            for (IVariableFacade slotVariable : slotVariables) {
+                if (slotVariable != null && slotVariable.getId() == variableId) {
+                    currentVariable = slotVariable;
+                }
+            }
+            if (currentVariable != null) {
+                variableCache.put(variableId, currentVariable);
+            }
+            if (previousVariable != currentVariable) {
+                if (previousVariable != null) {
+                    removedVariables.add(previousVariable);
+                }
+                if (currentVariable != null) {
+                    addedVariables.add(currentVariable);
+                }
+            } else {
+                it.remove();
             }
         }
 
         INetwork network = getNetwork();
-        if(network != null) {
-            network.getEventBus().post(new VariableContentsUpdatedEvent(network));
+        if(network != null && !changedVariableIds.isEmpty()) {
+            IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
+            if(partNetwork != null) {
+                partNetwork.updateVariableContainer(DimPos.of(getWorld(), getPos()), removedVariables, addedVariables);
+            }
+            network.getEventBus().post(new VariableContentsUpdatedEvent(network, changedVariableIds));
         }
     }
 
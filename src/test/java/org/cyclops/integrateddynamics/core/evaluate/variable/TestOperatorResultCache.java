@@ -0,0 +1,66 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.OperatorBase;
+import org.cyclops.integrateddynamics.core.evaluate.operator.OperatorResultCache;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the caching of pure operator results.
+ * @author rubensworks
+ */
+public class TestOperatorResultCache {
+
+    private DummyVariableInteger i10;
+    private DummyVariableInteger i10b;
+    private DummyVariableInteger i15;
+
+    @Before
+    public void before() {
+        OperatorResultCache.getInstance().clear();
+        i10  = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(10));
+        i10b = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(10));
+        i15  = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(15));
+    }
+
+    @Test
+    public void testPurity() {
+        assertThat("addition is pure", ((OperatorBase) Operators.ARITHMETIC_ADDITION).isPure(), is(true));
+        assertThat("choice is not pure", ((OperatorBase) Operators.GENERAL_CHOICE).isPure(), is(false));
+        assertThat("short-circuiting and is not pure", ((OperatorBase) Operators.LOGICAL_AND).isPure(), is(false));
+        assertThat("ore dictionary lookups are not pure", ((OperatorBase) Operators.OBJECT_ITEMSTACK_OREDICT).isPure(), is(false));
+        assertThat("capability lookups are not pure", ((OperatorBase) Operators.OBJECT_ITEMSTACK_STOREDFE).isPure(), is(false));
+    }
+
+    @Test
+    public void testCacheHits() throws EvaluationException {
+        IValue res1 = Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{i10, i15});
+        assertThat("10 + 15 = 25", ((ValueTypeInteger.ValueInteger) res1).getRawValue(), is(25));
+        assertThat("first evaluation misses", OperatorResultCache.getInstance().getMisses(), is(1L));
+
+        IValue res2 = Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{i10b, i15});
+        assertThat("equal input reuses the result", res2, sameInstance(res1));
+        assertThat("second evaluation hits", OperatorResultCache.getInstance().getHits(), is(1L));
+
+        IValue res3 = Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{i15, i15});
+        assertThat("15 + 15 = 30", ((ValueTypeInteger.ValueInteger) res3).getRawValue(), is(30));
+        assertThat("different input misses", OperatorResultCache.getInstance().getMisses(), is(2L));
+    }
+
+    @Test
+    public void testOperatorsAreDistinguished() throws EvaluationException {
+        IValue res1 = Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{i10, i15});
+        IValue res2 = Operators.ARITHMETIC_MULTIPLICATION.evaluate(new IVariable[]{i10, i15});
+        assertThat("10 + 15 = 25", ((ValueTypeInteger.ValueInteger) res1).getRawValue(), is(25));
+        assertThat("10 * 15 = 150", ((ValueTypeInteger.ValueInteger) res2).getRawValue(), is(150));
+    }
+
+}
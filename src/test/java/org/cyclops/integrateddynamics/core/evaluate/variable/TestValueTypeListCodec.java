@@ -0,0 +1,88 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the serialization of lists.
+ * @author rubensworks
+ */
+public class TestValueTypeListCodec {
+
+    private static final int ELEMENTS = 500;
+
+    @BeforeClass
+    public static void beforeClass() {
+        ValueTypeListProxyFactories.load();
+    }
+
+    protected static IValueTypeListProxy<IValueType<IValue>, IValue> strings(int length) {
+        List<IValue> values = Lists.newArrayList();
+        for (int i = 0; i < length; i++) {
+            values.add(ValueTypeString.ValueString.of("a;b\\;" + i));
+        }
+        return new ValueTypeListProxyMaterialized<>((IValueType) ValueTypes.STRING, values);
+    }
+
+    @Test
+    public void testEscaping() {
+        for (String value : new String[]{"", "a", "a;b", "a\\;b", ";;", "a\\\\;b;"}) {
+            StringBuilder sb = new StringBuilder();
+            ValueTypeListProxyFactoryTypeRegistry.appendEscaped(sb, value);
+            assertThat("escaping matches the regex escaping", sb.toString(), is(value.replaceAll(";", "\\\\;")));
+            assertThat("unescaping matches the regex unescaping", ValueTypeListProxyFactoryTypeRegistry.unescape(sb.toString()), is(value));
+        }
+    }
+
+    @Test
+    public void testSplitting() {
+        for (String value : new String[]{"", "a", "a;b", "a\\;b;c", ";a", "a;;", ";", "a;b\\;"}) {
+            assertThat("splitting '" + value + "' matches the regex splitting",
+                    ValueTypeListProxyFactoryTypeRegistry.splitUnescaped(value), is(Arrays.asList(value.split("(?<!\\\\);"))));
+        }
+    }
+
+    @Test
+    public void testStringRoundTrip() throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        IValueTypeListProxy<IValueType<IValue>, IValue> list = strings(100);
+        String serialized = ValueTypeListProxyFactories.REGISTRY.serialize(list);
+        IValueTypeListProxy deserialized = ValueTypeListProxyFactories.REGISTRY.deserialize(serialized);
+        assertThat("deserialized lists are equal", deserialized, is((IValueTypeListProxy) list));
+    }
+
+    @Test
+    public void testNbtRoundTrip() throws IValueTypeListProxyFactoryTypeRegistry.SerializationException, EvaluationException {
+        IValueTypeListProxy<IValueType<IValue>, IValue> list = strings(ELEMENTS);
+        NBTTagCompound tag = ValueTypeListCodec.write(list);
+        IValueTypeListProxy<IValueType<IValue>, IValue> read = ValueTypeListCodec.read(tag);
+        assertThat("read lists are equal", read, is(list));
+        assertThat("read lists have the same length", read.getLength(), is(ELEMENTS));
+    }
+
+    @Test
+    public void testNbtNestedLists() throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        IValueTypeListProxy<IValueType<IValue>, IValue> list = new ValueTypeListProxyMaterialized<>((IValueType) ValueTypes.LIST,
+                Lists.<IValue>newArrayList(ValueTypeList.ValueList.ofFactory(strings(2)), ValueTypeList.ValueList.ofFactory(strings(3))));
+        assertThat("nested lists are read back", ValueTypeListCodec.read(ValueTypeListCodec.write(list)), is(list));
+    }
+
+    @Test
+    public void testNbtVector() throws IValueTypeListProxyFactoryTypeRegistry.SerializationException, EvaluationException {
+        IValueTypeListProxy<IValueType<IValue>, IValue> list = ValueTypeListProxyVector.tail(ValueTypeListProxyVector.of(strings(10)));
+        assertThat("vectors are read back as vectors", ValueTypeListCodec.read(ValueTypeListCodec.write(list)), is(list));
+    }
+
+}
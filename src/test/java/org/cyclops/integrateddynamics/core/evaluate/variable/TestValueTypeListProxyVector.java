@@ -0,0 +1,163 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the persistent vector list.
+ * @author rubensworks
+ */
+public class TestValueTypeListProxyVector {
+
+    private static final int ELEMENTS = 10000;
+
+    @BeforeClass
+    public static void beforeClass() {
+        ValueTypeListProxyFactories.load();
+    }
+
+    protected static IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> materialized(int length) {
+        List<ValueTypeInteger.ValueInteger> values = Lists.newArrayList();
+        for (int i = 0; i < length; i++) {
+            values.add(ValueTypeInteger.ValueInteger.of(i));
+        }
+        return new ValueTypeListProxyMaterialized<>(ValueTypes.INTEGER, values);
+    }
+
+    @Test
+    public void testPersistentVector() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        List<PersistentVector<Integer>> versions = Lists.newArrayList();
+        for (int i = 0; i < ELEMENTS; i++) {
+            versions.add(vector);
+            vector = vector.append(i);
+        }
+        assertThat("all elements were appended", vector.size(), is(ELEMENTS));
+        for (int i = 0; i < ELEMENTS; i++) {
+            assertThat("elements are retained", vector.get(i), is(i));
+        }
+        assertThat("older versions are unchanged", versions.get(1000).size(), is(1000));
+        assertThat("older versions are unchanged", versions.get(1000).get(999), is(999));
+
+        PersistentVector<Integer> changed = vector.set(5000, -1);
+        assertThat("set replaces the element", changed.get(5000), is(-1));
+        assertThat("set does not modify the original", vector.get(5000), is(5000));
+        assertThat("set shares other elements", changed.get(5001), is(5001));
+    }
+
+    @Test
+    public void testDeepAppendChainIsFlattened() throws EvaluationException {
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = materialized(3);
+        for (int i = 3; i < ValueTypeListProxyVector.FLATTEN_DEPTH + 10; i++) {
+            list = ValueTypeListProxyVector.append(list, ValueTypeInteger.ValueInteger.of(i));
+        }
+        assertThat("deep chains become vectors", list, instanceOf(ValueTypeListProxyVector.class));
+        for (int i = 0; i < ValueTypeListProxyVector.FLATTEN_DEPTH + 10; i++) {
+            assertThat("elements are retained", list.get(i).getRawValue(), is(i));
+        }
+    }
+
+    @Test
+    public void testShallowChainsAreKept() throws EvaluationException {
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = ValueTypeListProxyVector.tail(materialized(3));
+        assertThat("shallow chains are not flattened", list, instanceOf(ValueTypeListProxyTail.class));
+    }
+
+    @Test
+    public void testVectorOperations() throws EvaluationException {
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = ValueTypeListProxyVector.of(materialized(10));
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> tail = ValueTypeListProxyVector.tail(list);
+        assertThat("tail.length = 9", tail.getLength(), is(9));
+        assertThat("tail[0] = 1", tail.get(0).getRawValue(), is(1));
+
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> slice = ValueTypeListProxyVector.slice(tail, 2, 5);
+        assertThat("slice.length = 3", slice.getLength(), is(3));
+        assertThat("slice[0] = 3", slice.get(0).getRawValue(), is(3));
+        assertThat("slice[3] is out of bounds", slice.get(3), nullValue());
+
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> appended = ValueTypeListProxyVector.append(slice, ValueTypeInteger.ValueInteger.of(-1));
+        assertThat("appended.length = 4", appended.getLength(), is(4));
+        assertThat("appended[3] = -1", appended.get(3).getRawValue(), is(-1));
+        assertThat("appending to a slice does not modify the original", tail.get(5).getRawValue(), is(6));
+
+        assertThat("slice beyond the end is empty", ValueTypeListProxyVector.slice(list, 20, 30).getLength(), is(0));
+        assertThat("tail of an empty list is empty",
+                ValueTypeListProxyVector.tail(ValueTypeListProxyVector.slice(list, 20, 30)).getLength(), is(0));
+    }
+
+    @Test
+    public void testSerialization() throws EvaluationException, IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        IValueTypeListProxy list = ValueTypeListProxyVector.slice(ValueTypeListProxyVector.of(materialized(10)), 2, 6);
+        String serialized = ValueTypeListProxyFactories.REGISTRY.serialize(list);
+        IValueTypeListProxy deserialized = ValueTypeListProxyFactories.REGISTRY.deserialize(serialized);
+        assertThat("deserialized lists are equal", deserialized, is(list));
+    }
+
+    @Test
+    public void testDeepMixedChains() throws EvaluationException {
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = materialized(0);
+        for (int i = 0; i < 200; i++) {
+            list = ValueTypeListProxyVector.append(list, ValueTypeInteger.ValueInteger.of(i));
+            if (i % 10 == 0) {
+                list = ValueTypeListProxyVector.tail(list);
+            }
+        }
+        assertThat("the chain has the expected length", list.getLength(), is(180));
+        assertThat("the first element was retained", list.get(0).getRawValue(), is(20));
+        assertThat("the last element was retained", list.get(179).getRawValue(), is(199));
+    }
+
+    @Test
+    public void testDeepDynamicChainsAreKept() throws EvaluationException {
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = new DummyDynamicList();
+        for (int i = 0; i < ValueTypeListProxyVector.FLATTEN_DEPTH + 10; i++) {
+            list = ValueTypeListProxyVector.append(list, ValueTypeInteger.ValueInteger.of(i));
+        }
+        assertThat("deep chains on dynamic lists are not flattened", list, instanceOf(ValueTypeListProxyAppend.class));
+        assertThat("elements of the dynamic list are retained", list.get(1).getRawValue(), is(1));
+    }
+
+    @Test
+    public void testEqualityAcrossKinds() throws EvaluationException {
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> materialized = materialized(3);
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> vector = ValueTypeListProxyVector.of(materialized);
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> appended =
+                ValueTypeListProxyVector.append(materialized(2), ValueTypeInteger.ValueInteger.of(2));
+        assertThat("vectors equal materialized lists with the same elements", vector, is(materialized));
+        assertThat("appended lists equal vectors with the same elements", appended, is(vector));
+        assertThat("equal lists have equal hashes", appended.hashCode(), is(materialized.hashCode()));
+        assertThat("lists with other elements are not equal", materialized(4).equals(vector), is(false));
+    }
+
+    /**
+     * A list of which the contents could change over time, such as lists that are backed by the world.
+     */
+    protected static class DummyDynamicList extends ValueTypeListProxyBase<ValueTypeInteger, ValueTypeInteger.ValueInteger> {
+
+        public DummyDynamicList() {
+            super("dummy", ValueTypes.INTEGER);
+        }
+
+        @Override
+        public int getLength() throws EvaluationException {
+            return 3;
+        }
+
+        @Override
+        public ValueTypeInteger.ValueInteger get(int index) throws EvaluationException {
+            return index >= 0 && index < 3 ? ValueTypeInteger.ValueInteger.of(index) : null;
+        }
+    }
+
+}
@@ -0,0 +1,170 @@
+package org.cyclops.integrateddynamics.core.logicprogrammer;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the logic programmer element search index.
+ * @author rubensworks
+ */
+public class TestLogicProgrammerElementIndex {
+
+    private static final int ELEMENTS = 200;
+    private static final String[] WORDS = {"add", "subtract", "list", "contains", "length", "item", "block", "fluid",
+            "energy", "amount", "name", "equals", "greater", "than", "not", "and", "or", "double", "integer", "string"};
+
+    private List<IValueType> valueTypes;
+    private List<DummyEntry> entries;
+    private LogicProgrammerElementIndex index;
+
+    @Before
+    public void before() {
+        valueTypes = Lists.<IValueType>newArrayList(ValueTypes.BOOLEAN, ValueTypes.INTEGER, ValueTypes.DOUBLE, ValueTypes.STRING);
+        entries = Lists.newArrayList();
+        for (int i = 0; i < ELEMENTS; i++) {
+            String name = WORDS[i % WORDS.length] + " " + WORDS[(i / WORDS.length) % WORDS.length] + " " + i;
+            entries.add(new DummyEntry(i % 2 == 0 ? "operator" : "valuetype", "element" + (i / 2),
+                    name, i % 7 == 0 ? "==" : (i % 5 == 0 ? "Op" : "op") + i,
+                    valueTypes.get(i % valueTypes.size()), valueTypes.get((i / 3) % valueTypes.size())));
+        }
+        index = LogicProgrammerElementIndex.build(entries, valueTypes);
+    }
+
+    protected BitSet linearSearch(Pattern pattern) {
+        BitSet result = new BitSet();
+        for (int i = 0; i < entries.size(); i++) {
+            DummyEntry entry = entries.get(i);
+            if (pattern.matcher(entry.getMatchString()).matches() || pattern.matcher(entry.getSymbol()).matches()) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    protected BitSet linearFilter(IValueType input, IValueType output) {
+        BitSet result = new BitSet();
+        for (int i = 0; i < entries.size(); i++) {
+            DummyEntry entry = entries.get(i);
+            if ((input == null || entry.matchesInput(input)) && (output == null || entry.matchesOutput(output))) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testPositions() {
+        assertThat("all elements are indexed", index.getSize(), is(ELEMENTS));
+        assertThat("operator element 5 is at position 10", index.getPosition("operator", "element5"), is(10));
+        assertThat("valuetype element 5 is at position 11", index.getPosition("valuetype", "element5"), is(11));
+        assertThat("unknown elements are not indexed", index.getPosition("operator", "unknown"), is(-1));
+        assertThat("unknown types are not indexed", index.getPosition("unknown", "element5"), is(-1));
+    }
+
+    @Test
+    public void testSearchMatchesLinear() {
+        for (String query : new String[]{"", "add", "list con", "ength", "199", "item block", "==", "Op", "Op1", "OP"}) {
+            Pattern pattern = Pattern.compile(".*" + query + ".*");
+            assertThat("query '" + query + "' matches the linear search", index.search(pattern), is(linearSearch(pattern)));
+        }
+    }
+
+    @Test
+    public void testSearchRegex() {
+        Pattern pattern = Pattern.compile(".*(add|name) .*");
+        assertThat("regex queries match the linear search", index.search(pattern), is(linearSearch(pattern)));
+    }
+
+    @Test
+    public void testFilterMatchesLinear() {
+        for (IValueType input : valueTypes) {
+            for (IValueType output : valueTypes) {
+                assertThat("filters match the linear filter", index.filter(input, null, output), is(linearFilter(input, output)));
+            }
+        }
+        assertThat("no filters match everything", index.filter(null, null, null).cardinality(), is(ELEMENTS));
+        assertThat("unindexed types can not be filtered", index.filter(ValueTypes.LIST, null, null), nullValue());
+    }
+
+    @Test
+    public void testSearchCached() {
+        BitSet first = index.search(Pattern.compile(".*add.*"));
+        assertThat("repeated searches reuse the result", index.search(Pattern.compile(".*add.*")), sameInstance(first));
+        assertThat("other searches do not reuse the result", index.search(Pattern.compile(".*list.*")) == first, is(false));
+    }
+
+    @Test
+    public void testAmbiguousNames() {
+        List<DummyEntry> ambiguousEntries = Lists.newArrayList(
+                new DummyEntry("operator", "same", "a", "a", ValueTypes.INTEGER, ValueTypes.INTEGER),
+                new DummyEntry("operator", "same", "b", "b", ValueTypes.INTEGER, ValueTypes.INTEGER),
+                new DummyEntry("valuetype", "same", "c", "c", ValueTypes.INTEGER, ValueTypes.INTEGER));
+        LogicProgrammerElementIndex ambiguousIndex = LogicProgrammerElementIndex.build(ambiguousEntries, valueTypes);
+        assertThat("ambiguous names are not indexed", ambiguousIndex.getPosition("operator", "same"), is(-1));
+        assertThat("equal names of other types are indexed", ambiguousIndex.getPosition("valuetype", "same"), is(2));
+        assertThat("ambiguous elements can still be searched", ambiguousIndex.search(Pattern.compile(".*b.*")).get(1), is(true));
+    }
+
+    protected static class DummyEntry implements LogicProgrammerElementIndex.IEntry {
+
+        private final String typeName;
+        private final String name;
+        private final String matchString;
+        private final String symbol;
+        private final IValueType input;
+        private final IValueType output;
+
+        public DummyEntry(String typeName, String name, String matchString, String symbol, IValueType input, IValueType output) {
+            this.typeName = typeName;
+            this.name = name;
+            this.matchString = matchString;
+            this.symbol = symbol;
+            this.input = input;
+            this.output = output;
+        }
+
+        @Override
+        public String getTypeName() {
+            return typeName;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getMatchString() {
+            return matchString;
+        }
+
+        @Override
+        public String getSymbol() {
+            return symbol;
+        }
+
+        @Override
+        public boolean matchesInput(IValueType valueType) {
+            return input == valueType;
+        }
+
+        @Override
+        public boolean matchesOutput(IValueType valueType) {
+            return output == valueType;
+        }
+
+    }
+
+}
@@ -0,0 +1,308 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the network element store.
+ * @author rubensworks
+ */
+public class TestNetworkElementStore {
+
+    private static final int ELEMENTS = 10;
+
+    private List<DummyElement> elements;
+    private NetworkElementStore store;
+
+    @Before
+    public void before() {
+        elements = Lists.newArrayList();
+        for (int i = 0; i < ELEMENTS; i++) {
+            elements.add(new DummyElement(i, i % 10, i % 3 + 1));
+        }
+        store = new NetworkElementStore();
+    }
+
+    protected List<INetworkElement> toList(Iterable<? extends INetworkElement> elements) {
+        return Lists.newArrayList(elements);
+    }
+
+    protected List<INetworkElement> getUpdateOrder() {
+        List<INetworkElement> order = Lists.newArrayList();
+        for (int id : store.getUpdateOrder()) {
+            order.add(store.getElement(id));
+        }
+        return order;
+    }
+
+    @Test
+    public void testAddRemove() {
+        assertThat("an element can be added", store.add(elements.get(0)), is(true));
+        assertThat("an element can not be added twice", store.add(elements.get(0)), is(false));
+        assertThat("an added element is contained", store.contains(elements.get(0)), is(true));
+        assertThat("a non-added element is not contained", store.contains(elements.get(1)), is(false));
+        assertThat("the size includes the added element", store.size(), is(1));
+
+        assertThat("an element can be removed", store.remove(elements.get(0)), is(true));
+        assertThat("an element can not be removed twice", store.remove(elements.get(0)), is(false));
+        assertThat("a removed element is not contained", store.contains(elements.get(0)), is(false));
+        assertThat("the size excludes the removed element", store.size(), is(0));
+    }
+
+    @Test
+    public void testIdsAreReused() {
+        store.add(elements.get(0));
+        store.add(elements.get(1));
+        int id = store.getId(elements.get(0));
+        store.remove(elements.get(0));
+        store.add(elements.get(2));
+        assertThat("the id of a removed element is reused", store.getId(elements.get(2)), is(id));
+        assertThat("removed elements have no id", store.getId(elements.get(0)), is(-1));
+    }
+
+    @Test
+    public void testPriorityOrder() {
+        DummyElement a = new DummyElement(0, 0, 1);
+        DummyElement b = new DummyElement(1, 5, 1);
+        DummyElement c = new DummyElement(2, 0, 1);
+        store.add(a);
+        store.add(b);
+        store.add(c);
+        assertThat("priorities are not read when adding", toList(store), is(toList(Lists.newArrayList(a, b, c))));
+
+        store.updatePriority(a);
+        store.updatePriority(b);
+        store.updatePriority(c);
+        assertThat("elements are ordered by priority and addition", toList(store), is(toList(Lists.newArrayList(b, a, c))));
+
+        c.setPriority(null, 10);
+        store.updatePriority(c);
+        assertThat("the order follows priority changes", toList(store), is(toList(Lists.newArrayList(c, b, a))));
+
+        store.setPriority(a, 20);
+        assertThat("priorities can be set directly", toList(store), is(toList(Lists.newArrayList(a, c, b))));
+    }
+
+    @Test
+    public void testUpdateable() {
+        DummyElement a = new DummyElement(0, 0, 1);
+        DummyElement b = new DummyElement(1, 5, 1);
+        store.add(a);
+        store.add(b);
+        assertThat("elements are not updateable by default", store.getUpdateOrder().length, is(0));
+
+        store.updatePriority(a);
+        store.updatePriority(b);
+        store.setUpdateable(a);
+        store.setUpdateable(b);
+        assertThat("updateable elements are ordered by priority", getUpdateOrder(), is(toList(Lists.newArrayList(b, a))));
+
+        store.removeUpdateable(b);
+        assertThat("elements can be made not updateable", getUpdateOrder(), is(toList(Lists.<DummyElement>newArrayList(a))));
+
+        store.remove(a);
+        assertThat("removed elements are not updateable", store.getUpdateOrder().length, is(0));
+    }
+
+    @Test
+    public void testUpdateOrderIgnoresClasses() {
+        DummyElement a = new DummyElement(0, 0, 1);
+        DummyElement b = new OtherDummyElement(1, 0, 1);
+        DummyElement c = new DummyElement(2, 0, 1);
+        store.add(a);
+        store.add(b);
+        store.add(c);
+        store.setUpdateable(a);
+        store.setUpdateable(b);
+        store.setUpdateable(c);
+        assertThat("equal priorities are updated in order of addition", getUpdateOrder(), is(toList(Lists.newArrayList(a, b, c))));
+    }
+
+    @Test
+    public void testUpdateIntervals() {
+        DummyElement a = new DummyElement(0, 0, 1);
+        DummyElement b = new DummyElement(1, 0, 3);
+        store.add(a);
+        store.add(b);
+        store.setUpdateable(a);
+        store.setUpdateable(b);
+        for (int tick = 0; tick < 6; tick++) {
+            for (int id : store.getUpdateOrder()) {
+                INetworkElement element = store.getElement(id);
+                int lastTick = store.getTick(id);
+                if (lastTick <= 0) {
+                    store.setTick(id, element.getUpdateInterval() - 1);
+                    element.update(null);
+                } else {
+                    store.setTick(id, lastTick - 1);
+                }
+            }
+        }
+        assertThat("elements with interval 1 are updated each tick", a.updates, is(6));
+        assertThat("elements with interval 3 are updated every third tick", b.updates, is(2));
+    }
+
+    @Test
+    public void testTicks() {
+        store.add(elements.get(0));
+        int id = store.getId(elements.get(0));
+        store.setTick(id, 5);
+        assertThat("ticks are stored", store.getTick(id), is(5));
+        store.setUpdateable(elements.get(0));
+        assertThat("ticks are reset when an element becomes updateable", store.getTick(id), is(0));
+    }
+
+    @Test
+    public void testInvalidated() {
+        store.add(elements.get(0));
+        int id = store.getId(elements.get(0));
+        assertThat("elements are valid by default", store.isInvalidated(id), is(false));
+        store.invalidate(elements.get(0));
+        assertThat("elements can be invalidated", store.isInvalidated(id), is(true));
+        store.revalidate(elements.get(0));
+        assertThat("elements can be revalidated", store.isInvalidated(id), is(false));
+    }
+
+    @Test
+    public void testDormantChunks() {
+        DummyElement a = new DummyElement(0, 0, 1);
+        DummyElement b = new DummyElement(1, 0, 1);
+        DummyElement c = new DummyElement(2, 0, 1);
+        store.add(a);
+        store.add(b);
+        store.add(c);
+        store.setUpdateable(a);
+        store.setUpdateable(b);
+        store.setUpdateable(c);
+        assertThat("the first element in a chunk is reported", store.setChunk(a, 0, 1L, false), is(true));
+        assertThat("other elements in a chunk are not reported", store.setChunk(b, 0, 1L, false), is(false));
+        store.setChunk(c, 0, 2L, false);
+        assertThat("the dimensions with chunks are known", store.getChunkDimensions(), is(new int[]{0}));
+        assertThat("the chunks of a dimension are known", store.getChunkKeys(0).length, is(2));
+        assertThat("dimensions without chunks have no chunks", store.getChunkKeys(1).length, is(0));
+
+        assertThat("chunks with elements can be made dormant", store.setChunkDormant(0, 1L, true), is(true));
+        assertThat("elements in dormant chunks are dormant", store.isDormant(store.getId(a)), is(true));
+        assertThat("elements in other chunks are not dormant", store.isDormant(store.getId(c)), is(false));
+        assertThat("dormant elements are counted", store.getDormantCount(), is(2));
+        assertThat("dormant elements are not updated", getUpdateOrder(), is(toList(Lists.<DummyElement>newArrayList(c))));
+        assertThat("dormant elements are still contained", store.size(), is(3));
+
+        assertThat("chunks with elements can be resumed", store.setChunkDormant(0, 1L, false), is(true));
+        assertThat("resumed elements are updated", getUpdateOrder(), is(toList(Lists.newArrayList(a, b, c))));
+
+        store.remove(c);
+        assertThat("chunks without elements are reported", store.setChunkDormant(0, 2L, true), is(false));
+        assertThat("removed elements can not be assigned to a chunk", store.setChunk(c, 1, 2L, true), is(false));
+        store.add(c);
+        assertThat("added elements can be initially dormant", store.setChunk(c, 1, 2L, true), is(true));
+        assertThat("initially dormant elements are dormant", store.isDormant(store.getId(c)), is(true));
+    }
+
+    @Test
+    public void testDurations() {
+        store.add(elements.get(0));
+        int id = store.getId(elements.get(0));
+        store.addDuration(id, 10);
+        store.addDuration(id, 5);
+        assertThat("durations are summed", store.getDuration(elements.get(0)), is(15L));
+        store.resetDurations();
+        assertThat("durations can be reset", store.getDuration(elements.get(0)), is(0L));
+        assertThat("non-added elements have no duration", store.getDuration(elements.get(1)), is(0L));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        store.add(elements.get(0));
+        store.add(elements.get(1));
+        Iterator<INetworkElement> it = store.iterator();
+        it.next();
+        it.remove();
+        assertThat("elements can be removed through the iterator", store.size(), is(1));
+    }
+
+    protected static class DummyElement extends NetworkElementBase {
+
+        private final int id;
+        private final int updateInterval;
+        private int priority;
+        private int updates = 0;
+
+        public DummyElement(int id, int priority, int updateInterval) {
+            this.id = id;
+            this.priority = priority;
+            this.updateInterval = updateInterval;
+        }
+
+        @Override
+        public int getUpdateInterval() {
+            return updateInterval;
+        }
+
+        @Override
+        public boolean isUpdate() {
+            return true;
+        }
+
+        @Override
+        public void update(INetwork network) {
+            updates++;
+        }
+
+        @Override
+        public void setPriority(INetwork network, int priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+        @Override
+        public boolean canRevalidate(INetwork network) {
+            return true;
+        }
+
+        @Override
+        public int compareTo(INetworkElement o) {
+            if (o instanceof DummyElement) {
+                int compPriority = -Integer.compare(priority, ((DummyElement) o).priority);
+                if (compPriority == 0) {
+                    return Integer.compare(id, ((DummyElement) o).id);
+                }
+                return compPriority;
+            }
+            return Integer.compare(hashCode(), o.hashCode());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DummyElement && ((DummyElement) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+
+    }
+
+    protected static class OtherDummyElement extends DummyElement {
+
+        public OtherDummyElement(int id, int priority, int updateInterval) {
+            super(id, priority, updateInterval);
+        }
+
+    }
+
+}
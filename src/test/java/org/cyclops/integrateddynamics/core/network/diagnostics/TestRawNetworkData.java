@@ -0,0 +1,61 @@
+package org.cyclops.integrateddynamics.core.network.diagnostics;
+
+import com.google.common.collect.Lists;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the compact network diagnostics encoding.
+ * @author rubensworks
+ */
+public class TestRawNetworkData {
+
+    protected static RawNetworkData createNetwork(int id) {
+        List<RawPartData> parts = Lists.newArrayList(
+                new RawPartData(0, new BlockPos(1, 2, 3), EnumFacing.NORTH, "reader", 100),
+                new RawPartData(-1, new BlockPos(-10, 64, 300000), EnumFacing.UP, "writer", 0),
+                new RawPartData(0, new BlockPos(1, 2, 4), EnumFacing.SOUTH, "reader", Long.MAX_VALUE));
+        return new RawNetworkData(false, id, 10, parts);
+    }
+
+    @Test
+    public void testNetworkRoundTrip() {
+        TObjectIntMap<String> partNameIds = new TObjectIntHashMap<>(16, 0.5F, -1);
+        List<String> partNames = Lists.newArrayList();
+        RawNetworkData network = createNetwork(1);
+        assertThat("networks are equal after encoding", RawNetworkData.fromNbt(network.toNbt(partNameIds), partNames), is(network));
+        assertThat("part names are interned", partNames, is((List<String>) Lists.newArrayList("reader", "writer")));
+    }
+
+    @Test
+    public void testPartNamesAreSentOnce() {
+        TObjectIntMap<String> partNameIds = new TObjectIntHashMap<>(16, 0.5F, -1);
+        List<String> partNames = Lists.newArrayList();
+        RawNetworkData.fromNbt(createNetwork(1).toNbt(partNameIds), partNames);
+
+        RawNetworkData network = createNetwork(2);
+        NBTTagCompound tag = network.toNbt(partNameIds);
+        assertThat("known part names are not sent again", tag.getTagList("newPartNames", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal()).tagCount(), is(0));
+        assertThat("networks are decoded with known part names", RawNetworkData.fromNbt(tag, partNames), is(network));
+    }
+
+    @Test
+    public void testDurationsRoundTrip() {
+        RawNetworkDurationsData durations = new RawNetworkDurationsData(1, new int[]{0, 5, 1000}, new long[]{1, 0, Long.MAX_VALUE});
+        RawNetworkDurationsData decoded = RawNetworkDurationsData.fromNbt(durations.toNbt());
+        assertThat("the network id is decoded", decoded.getId(), is(1));
+        assertThat("the indexes are decoded", decoded.getIndexes(), is(durations.getIndexes()));
+        assertThat("the durations are decoded", decoded.getLast20TicksDurationsNs(), is(durations.getLast20TicksDurationsNs()));
+    }
+
+}
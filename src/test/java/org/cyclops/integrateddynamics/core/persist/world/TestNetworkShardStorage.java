@@ -0,0 +1,125 @@
+package org.cyclops.integrateddynamics.core.persist.world;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the network shard storage.
+ * @author rubensworks
+ */
+public class TestNetworkShardStorage {
+
+    private static final NetworkShardStorage.ShardKey SHARD_A = new NetworkShardStorage.ShardKey(0, 0, 0);
+    private static final NetworkShardStorage.ShardKey SHARD_B = new NetworkShardStorage.ShardKey(0, 1, 0);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File directory;
+    private NetworkShardStorage storage;
+    private Map<NetworkShardStorage.ShardKey, IOException> errors;
+
+    @Before
+    public void before() throws IOException {
+        directory = folder.newFolder("networks");
+        storage = new NetworkShardStorage(directory);
+        errors = Maps.newHashMap();
+    }
+
+    protected static NetworkShardStorage.NetworkTopologySource network(final int id, long... positions) {
+        final TIntObjectMap<TLongList> map = new TIntObjectHashMap<>();
+        map.put(0, new TLongArrayList(positions));
+        return new NetworkShardStorage.NetworkTopologySource() {
+            @Override
+            public int getNetworkId() {
+                return id;
+            }
+
+            @Override
+            public TIntObjectMap<TLongList> getPositions() {
+                return map;
+            }
+        };
+    }
+
+    @Test
+    public void testIndex() throws IOException {
+        assertThat("there is no initial index", storage.readIndex(), nullValue());
+
+        NetworkShardStorage.NetworkIndex index = new NetworkShardStorage.NetworkIndex(3);
+        index.getShards().put(1, SHARD_A);
+        index.getShards().put(2, SHARD_B);
+        storage.writeIndex(index);
+        assertThat("the index can be read", storage.readIndex(), is(index));
+
+        storage.removeIndex();
+        assertThat("the index can be removed", storage.readIndex(), nullValue());
+    }
+
+    @Test
+    public void testReadIndexed() throws IOException {
+        storage.writeShard(SHARD_A, Lists.newArrayList(network(1, 10L, 11L), network(2, 20L)));
+        NetworkShardStorage.NetworkIndex index = new NetworkShardStorage.NetworkIndex(3);
+        index.getShards().put(1, SHARD_A);
+
+        TIntObjectMap<NetworkShardStorage.NetworkTopology> topologies = storage.readAll(index, errors);
+        assertThat("only indexed networks are read", topologies.keySet().toArray(), is(new int[]{1}));
+        assertThat("positions are read", topologies.get(1).getPositions().get(0), is(new long[]{10L, 11L}));
+        assertThat("there are no errors", errors.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testReadIndexedMissingShard() throws IOException {
+        storage.writeShard(SHARD_A, Lists.newArrayList(network(1, 10L)));
+        NetworkShardStorage.NetworkIndex index = new NetworkShardStorage.NetworkIndex(3);
+        index.getShards().put(1, SHARD_A);
+        index.getShards().put(2, SHARD_B);
+        TIntObjectMap<NetworkShardStorage.NetworkTopology> topologies = storage.readAll(index, errors);
+        assertThat("networks in existing shards are read", topologies.keySet().toArray(), is(new int[]{1}));
+        assertThat("missing shards are reported", errors.keySet(), is(Sets.newHashSet(SHARD_B)));
+    }
+
+    @Test
+    public void testReadDuplicateNetworks() throws IOException {
+        storage.writeShard(SHARD_A, Lists.newArrayList(network(1, 10L)));
+        storage.writeShard(SHARD_B, Lists.newArrayList(network(1, 20L)));
+        TIntObjectMap<NetworkShardStorage.NetworkTopology> topologies = storage.readAll(null, errors);
+        assertThat("duplicate networks are read once", topologies.size(), is(1));
+        assertThat("duplicate networks are reported", errors.size(), is(1));
+    }
+
+    @Test
+    public void testReadTruncatedShard() throws IOException {
+        storage.writeShard(SHARD_A, Lists.newArrayList(network(1, 10L)));
+        storage.writeShard(SHARD_B, Lists.newArrayList(network(2, 20L, 21L)));
+        File shardFile = SHARD_B.getFile(directory);
+        try (RandomAccessFile file = new RandomAccessFile(shardFile, "rw")) {
+            file.setLength(file.length() - 4);
+        }
+
+        TIntObjectMap<NetworkShardStorage.NetworkTopology> topologies = storage.readAll(null, errors);
+        assertThat("readable shards are still read", topologies.keySet().toArray(), is(new int[]{1}));
+        assertThat("truncated shards are reported", errors.keySet(), is(Sets.newHashSet(SHARD_B)));
+        assertThat("truncated shards are quarantined", shardFile.exists(), is(false));
+        assertThat("quarantined shards are kept", shardFile.getParentFile().list().length, is(2));
+    }
+
+}